@@ -0,0 +1,53 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file JmhBaselineCheck.kt is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+import groovy.json.JsonSlurper
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Checks that a JMH baseline has results.
+ *
+ * An empty baseline would report every benchmark as new, and so could never detect a regression. This runs before the benchmarks, so
+ * that a comparison against an empty baseline fails before the whole suite has been run.
+ */
+abstract class JmhBaselineCheck : DefaultTask() {
+    @get:InputFile
+    abstract val baseline: RegularFileProperty
+
+    @TaskAction
+    fun check() {
+        val file = baseline.get().asFile
+        if ((JsonSlurper().parse(file) as List<*>).isEmpty())
+            throw GradleException("The baseline $file has no results, run jmhUpdateBaseline and commit it first")
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file JmhBaselineComparison.kt is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import groovy.json.JsonSlurper
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.OutputFile
+import org.gradle.api.tasks.TaskAction
+import java.io.File
+import java.util.Properties
+
+/**
+ * Compares JMH results against a baseline, printing the change in score and in allocation rate of every benchmark.
+ *
+ * Tolerances are read from a properties file, as percentages. `default.score` and `default.allocation` apply to all benchmarks, and
+ * `<prefix>.score` or `<prefix>.allocation` override them for the benchmarks whose name starts with `<prefix>`, the longest prefix winning.
+ * The task fails if any benchmark regressed by more than its tolerance, unless [ignoreRegressions] is set. Whether the baseline has results
+ * is checked by [JmhBaselineCheck], before the benchmarks are run.
+ */
+abstract class JmhBaselineComparison : DefaultTask() {
+    @get:InputFile
+    abstract val results: RegularFileProperty
+
+    @get:InputFile
+    abstract val baseline: RegularFileProperty
+
+    @get:InputFile
+    abstract val tolerances: RegularFileProperty
+
+    @get:OutputFile
+    abstract val report: RegularFileProperty
+
+    @get:Input
+    abstract val ignoreRegressions: Property<Boolean>
+
+    @TaskAction
+    fun compare() {
+        val tolerances = Properties().apply { tolerances.get().asFile.reader().use { load(it) } }
+        val baseline = readResults(baseline.get().asFile)
+        val current = readResults(results.get().asFile)
+
+        val lines = mutableListOf<String>()
+        val regressions = mutableListOf<String>()
+        lines += String.format("%-80s %14s %14s %8s %12s %12s %8s", "Benchmark", "Baseline", "Current", "Change", "Alloc base", "Alloc",
+                               "Change")
+
+        for ((key, result) in current) {
+            val previous = baseline[key]
+            if (previous == null) {
+                lines += String.format("%-80s %14s %14.3f %8s %12s %12s", key, "-", result.score, "new", "-",
+                                       formatAllocation(result.allocation))
+                continue
+            }
+
+            val scoreChange = change(previous.score, result.score)
+            // throughput should go up, every other mode measures time and should go down
+            val scoreRegression = if (result.mode == "thrpt") -scoreChange else scoreChange
+            if (scoreRegression > tolerance(tolerances, result.benchmark, "score"))
+                regressions += String.format("%s: score %.3f -> %.3f %s (%+.1f%%)", key, previous.score, result.score, result.unit, scoreChange)
+
+            var allocationChange = ""
+            if (previous.allocation != null && result.allocation != null) {
+                val allowed = previous.allocation * (1 + tolerance(tolerances, result.benchmark, "allocation") / 100)
+                // allocation is measured, so allow up to a byte of noise on benchmarks that allocate nothing
+                if (result.allocation > allowed + 1)
+                    regressions += String.format("%s: allocation %.1f -> %.1f B/op", key, previous.allocation, result.allocation)
+                allocationChange = if (previous.allocation < 1) String.format("%+.1fB", result.allocation - previous.allocation)
+                else String.format("%+.1f%%", change(previous.allocation, result.allocation))
+            }
+
+            lines += String.format("%-80s %14.3f %14.3f %+7.1f%% %12s %12s %8s", key, previous.score, result.score, scoreChange,
+                                   formatAllocation(previous.allocation), formatAllocation(result.allocation), allocationChange).trimEnd()
+        }
+
+        for (key in baseline.keys - current.keys)
+            lines += String.format("%-80s %14s", key, "removed")
+
+        if (regressions.isNotEmpty()) {
+            lines += ""
+            lines += "Regressions:"
+            regressions.mapTo(lines) { "    $it" }
+        }
+
+        val text = lines.joinToString(separator = "\n", postfix = "\n")
+        report.get().asFile.writeText(text)
+        logger.lifecycle(text)
+
+        if (regressions.isNotEmpty() && !ignoreRegressions.get())
+            throw GradleException("${regressions.size} benchmark(s) regressed past their tolerance, see ${report.get().asFile}")
+    }
+
+    private fun readResults(file: File): Map<String, BenchmarkResult> {
+        @Suppress("UNCHECKED_CAST")
+        val entries = JsonSlurper().parse(file) as List<Map<String, Any?>>
+
+        return entries.associate { entry ->
+            val benchmark = entry["benchmark"] as String
+            val mode = entry["mode"] as String
+            val params = (entry["params"] as Map<*, *>?).orEmpty().entries.sortedBy { it.key.toString() }
+            val primary = entry["primaryMetric"] as Map<*, *>
+            // the name of the gc profiler metrics is prefixed by a middle dot on older versions of jmh
+            val secondary = (entry["secondaryMetrics"] as Map<*, *>?).orEmpty().mapKeys { it.key.toString().removePrefix("\u00b7") }
+            val allocation = secondary["gc.alloc.rate.norm"] as Map<*, *>?
+
+            val key = if (params.isEmpty()) "$benchmark ($mode)" else "$benchmark${params.joinToString(prefix = "[", postfix = "]")} ($mode)"
+            key to BenchmarkResult(
+                benchmark,
+                mode,
+                (primary["score"] as Number).toDouble(),
+                primary["scoreUnit"] as String,
+                (allocation?.get("score") as Number?)?.toDouble(),
+            )
+        }
+    }
+
+    private fun tolerance(tolerances: Properties, benchmark: String, metric: String): Double {
+        val prefix = tolerances.stringPropertyNames()
+            .filter { it.endsWith(".$metric") }
+            .map { it.removeSuffix(".$metric") }
+            .filter { benchmark.startsWith(it) }
+            .maxByOrNull { it.length }
+            ?: "default"
+
+        return tolerances.getProperty("$prefix.$metric")?.toDouble() ?: throw GradleException("No tolerance is set for $prefix.$metric")
+    }
+
+    private fun change(previous: Double, current: Double): Double = (current - previous) / previous * 100
+
+    private fun formatAllocation(allocation: Double?): String = allocation?.let { String.format("%.1f", it) } ?: "-"
+
+    private data class BenchmarkResult(val benchmark: String, val mode: String, val score: Double, val unit: String, val allocation: Double?)
+}
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file settings.gradle.kts is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 18-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -34,9 +34,15 @@ pluginManagement {
     }
 }
 
+plugins {
+    // provisions the JDKs needed to compile the multi-release layers of strata
+    id("org.gradle.toolchains.foojay-resolver-convention") version "0.8.0"
+}
+
 rootProject.name = "strata-root"
 
 enableFeaturePreview("TYPESAFE_PROJECT_ACCESSORS")
 
 include(":strata")
 include(":strata-kotlin")
+include(":strata-processor")
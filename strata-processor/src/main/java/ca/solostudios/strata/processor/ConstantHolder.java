@@ -0,0 +1,231 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file ConstantHolder.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.processor;
+
+
+import ca.solostudios.strata.version.PreRelease;
+import ca.solostudios.strata.version.PreReleaseIdentifier;
+import ca.solostudios.strata.version.PreReleaseIdentifier.AlphaNumericalPreReleaseIdentifier;
+import ca.solostudios.strata.version.PreReleaseIdentifier.NumericalPreReleaseIdentifier;
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionRange;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Elements;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.List;
+
+
+/**
+ * The generated holder of the precomputed constants of a class.
+ * <p>
+ * All names in the generated source are fully qualified, so they cannot clash with anything in the package of the class.
+ *
+ * @author solonovamax
+ */
+final class ConstantHolder {
+    private static final String HOLDER_SUFFIX = "Versions";
+
+    private static final BigInteger MAX_INT = BigInteger.valueOf(Integer.MAX_VALUE);
+
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    @NotNull
+    private final TypeElement type;
+
+    @NotNull
+    private final String packageName;
+
+    @NotNull
+    private final String simpleName;
+
+    @NotNull
+    private final StringBuilder fields = new StringBuilder();
+
+    /**
+     * Constructs a new, empty holder for the provided class.
+     *
+     * @param type     The class the constants are declared in.
+     * @param elements The element utilities of the processing environment.
+     */
+    ConstantHolder(@NotNull TypeElement type, @NotNull Elements elements) {
+        this.type = type;
+
+        PackageElement packageElement = elements.getPackageOf(type);
+        this.packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+
+        String name = type.getQualifiedName().toString();
+        if (!this.packageName.isEmpty())
+            name = name.substring(this.packageName.length() + 1);
+        this.simpleName = name.replace('.', '_') + HOLDER_SUFFIX;
+    }
+
+    /**
+     * Adds a version constant.
+     *
+     * @param field   The constant the version was read from.
+     * @param literal The value of the constant.
+     * @param version The parsed version.
+     */
+    void addVersion(@NotNull VariableElement field, @NotNull String literal, @NotNull Version version) {
+        addField(field, literal, Version.class, versionExpression(version));
+    }
+
+    /**
+     * Adds a version range constant.
+     *
+     * @param field   The constant the version range was read from.
+     * @param literal The value of the constant.
+     * @param range   The parsed version range.
+     */
+    void addVersionRange(@NotNull VariableElement field, @NotNull String literal, @NotNull VersionRange range) {
+        String expression = String.format("ca.solostudios.strata.Versions.getVersionRange(%s, %s, %s, %s)",
+                                          boundExpression(range.getStartVersion()), range.isStartInclusive(),
+                                          boundExpression(range.getEndVersion()), range.isEndInclusive());
+        addField(field, literal, VersionRange.class, expression);
+    }
+
+    /**
+     * Writes the source of the holder.
+     *
+     * @param filer     The filer to create the source file with.
+     * @param generated The qualified name of the {@code Generated} annotation available to the compiled code, or {@code null} if there is
+     *                  none.
+     * @throws IOException If the source file could not be written.
+     */
+    void write(@NotNull Filer filer, @Nullable String generated) throws IOException {
+        String qualifiedName = this.packageName.isEmpty() ? this.simpleName : this.packageName + '.' + this.simpleName;
+        try (Writer writer = filer.createSourceFile(qualifiedName, this.type).openWriter()) {
+            if (!this.packageName.isEmpty())
+                writer.write(String.format("package %s;%n%n%n", this.packageName));
+
+            writer.write(String.format("/**%n * Versions precomputed from the constants of {@code %s}.%n */%n", this.type.getQualifiedName()));
+            if (generated != null)
+                writer.write(String.format("@%s(\"%s\")%n", generated, VersionConstantProcessor.class.getName()));
+            writer.write(String.format("%sfinal class %s {%n", isPublic(this.type) ? "public " : "", this.simpleName));
+            writer.write(this.fields.toString());
+            writer.write(String.format("    private %s() {%n    }%n}%n", this.simpleName));
+        }
+    }
+
+    private void addField(@NotNull VariableElement field, @NotNull String literal, @NotNull Class<?> type, @NotNull String expression) {
+        this.fields.append(String.format("    /**%n     * Precomputed from {@code %s}.%n     */%n", literal));
+        this.fields.append(String.format("    %sstatic final %s %s = %s;%n%n", field.getModifiers().contains(Modifier.PUBLIC) ? "public " : "",
+                                         type.getName(), field.getSimpleName(), expression));
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static String boundExpression(@Nullable Version version) {
+        return version == null ? "null" : versionExpression(version);
+    }
+
+    /**
+     * Creates an expression which builds the provided version from its components and identifiers, without parsing it.
+     */
+    @NotNull
+    @Contract(pure = true)
+    static String versionExpression(@NotNull Version version) {
+        boolean release = version.getPreRelease().isEmpty() && version.getBuildMetadata().getBuildMetadata().isEmpty();
+        if (release && fitsInt(version.getMajor()) && fitsInt(version.getMinor()) && fitsInt(version.getPatch()))
+            return String.format("ca.solostudios.strata.Versions.getVersion(%s, %s, %s)", version.getMajor(), version.getMinor(),
+                                 version.getPatch());
+
+        StringBuilder expression = new StringBuilder("ca.solostudios.strata.Versions.getVersion(");
+        expression.append(componentExpression(version.getMajor())).append(", ");
+        expression.append(componentExpression(version.getMinor())).append(", ");
+        expression.append(componentExpression(version.getPatch()));
+        if (!version.getPreRelease().isEmpty())
+            expression.append(", ").append(preReleaseExpression(version.getPreRelease()));
+        // the build metadata is only stored by this constructor, and split into identifiers when they are first used
+        if (!version.getBuildMetadata().getBuildMetadata().isEmpty())
+            expression.append(String.format(", new ca.solostudios.strata.version.BuildMetadata(\"%s\")",
+                                            version.getBuildMetadata().getBuildMetadata()));
+        return expression.append(')').toString();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static String preReleaseExpression(@NotNull PreRelease preRelease) {
+        StringBuilder expression = new StringBuilder("new ca.solostudios.strata.version.PreRelease(java.util.Arrays.<")
+                .append(PreReleaseIdentifier.class.getName()).append(">asList(");
+        List<PreReleaseIdentifier> identifiers = preRelease.getIdentifiers();
+        for (int i = 0; i < identifiers.size(); i++) {
+            if (i != 0)
+                expression.append(", ");
+
+            PreReleaseIdentifier identifier = identifiers.get(i);
+            if (identifier instanceof NumericalPreReleaseIdentifier) {
+                BigInteger value = new BigInteger(identifier.getFormatted());
+                expression.append(String.format("new %s(%s)", NumericalPreReleaseIdentifier.class.getCanonicalName(),
+                                                value.compareTo(MAX_LONG) <= 0 ? value + "L" : componentExpression(value)));
+            } else {
+                expression.append(String.format("new %s(\"%s\")", AlphaNumericalPreReleaseIdentifier.class.getCanonicalName(),
+                                                identifier.getFormatted()));
+            }
+        }
+        return expression.append("))").toString();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static String componentExpression(@NotNull BigInteger component) {
+        if (component.compareTo(MAX_LONG) <= 0)
+            return String.format("java.math.BigInteger.valueOf(%sL)", component);
+        else
+            return String.format("new java.math.BigInteger(\"%s\")", component);
+    }
+
+    @Contract(pure = true)
+    private static boolean fitsInt(@NotNull BigInteger component) {
+        return component.compareTo(MAX_INT) <= 0;
+    }
+
+    /**
+     * Checks if a class, and every class enclosing it, is public.
+     */
+    @Contract(pure = true)
+    private static boolean isPublic(@NotNull TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC))
+                return false;
+        }
+        return true;
+    }
+}
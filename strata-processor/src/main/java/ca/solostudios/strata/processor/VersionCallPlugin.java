@@ -0,0 +1,63 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionCallPlugin.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.processor;
+
+
+import ca.solostudios.strata.Versions;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.Plugin;
+import com.sun.source.util.Trees;
+
+
+/**
+ * A javac plugin which validates the constant strings passed to {@link Versions#parseVersion(String)},
+ * {@link Versions#parseVersionLazily(String)}, and {@link Versions#parseVersionRange(String)}, whether or not they are marked.
+ * <p>
+ * Validating calls means scanning every class that is compiled, so it is opt-in, separately from {@link VersionConstantProcessor}. It is
+ * enabled with the {@code -Xplugin:}{@value #NAME} compiler option, and is loaded from the annotation processor path.
+ *
+ * @author solonovamax
+ * @see VersionConstantProcessor
+ */
+public final class VersionCallPlugin implements Plugin {
+    /**
+     * The name of this plugin, as passed to {@code -Xplugin:}.
+     */
+    public static final String NAME = "StrataValidateCalls";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void init(JavacTask task, String... args) {
+        task.addTaskListener(VersionCallScanner.listener(Trees.instance(task)));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionCallScanner.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.processor;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+
+
+/**
+ * Validates the constant strings passed to the parsing methods of {@link Versions}.
+ * <p>
+ * Calls are only resolved once a class has been attributed, so this runs as a {@link TaskListener} after the analysis of each class,
+ * rather than during annotation processing.
+ *
+ * @author solonovamax
+ */
+final class VersionCallScanner extends TreePathScanner<Void, Void> {
+    private static final String VERSIONS = Versions.class.getName();
+
+    @NotNull
+    private final Trees trees;
+
+    @NotNull
+    private final CompilationUnitTree compilationUnit;
+
+    private VersionCallScanner(@NotNull Trees trees, @NotNull CompilationUnitTree compilationUnit) {
+        this.trees = trees;
+        this.compilationUnit = compilationUnit;
+    }
+
+    /**
+     * Creates a listener which validates the calls in every class once it has been analyzed.
+     *
+     * @param trees The tree utilities of the compiler.
+     * @return The listener.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    static TaskListener listener(@NotNull Trees trees) {
+        return new TaskListener() {
+            @Override
+            public void finished(TaskEvent event) {
+                if (event.getKind() != TaskEvent.Kind.ANALYZE || event.getTypeElement() == null)
+                    return;
+
+                TreePath path = trees.getPath(event.getTypeElement());
+                if (path != null)
+                    new VersionCallScanner(trees, event.getCompilationUnit()).scan(path, null);
+            }
+        };
+    }
+
+    @Override
+    public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
+        if (node.getArguments().size() == 1) {
+            Element method = this.trees.getElement(new TreePath(getCurrentPath(), node.getMethodSelect()));
+            if (method != null && method.getKind() == ElementKind.METHOD && isVersions(method.getEnclosingElement()))
+                validate(method.getSimpleName().toString(), node.getArguments().get(0));
+        }
+
+        return super.visitMethodInvocation(node, unused);
+    }
+
+    private void validate(@NotNull String method, @NotNull ExpressionTree argument) {
+        String literal = constantString(argument);
+        if (literal == null)
+            return;
+
+        try {
+            switch (method) {
+                case "parseVersion":
+                case "parseVersionLazily":
+                    Versions.parseVersion(literal);
+                    break;
+                case "parseVersionRange":
+                    Versions.parseVersionRange(literal);
+                    break;
+                default:
+                    break;
+            }
+        } catch (ParseException e) {
+            this.trees.printMessage(Diagnostic.Kind.ERROR, String.format("Invalid version literal.%n%s", e.getMessage()), argument,
+                                    this.compilationUnit);
+        }
+    }
+
+    /**
+     * Finds the value of an argument which is either a string literal, or a reference to a string constant.
+     */
+    @Nullable
+    private String constantString(@NotNull ExpressionTree argument) {
+        if (argument.getKind() == Tree.Kind.STRING_LITERAL)
+            return (String) ((LiteralTree) argument).getValue();
+
+        Element element = this.trees.getElement(new TreePath(getCurrentPath(), argument));
+        if (element instanceof VariableElement) {
+            Object value = ((VariableElement) element).getConstantValue();
+            if (value instanceof String)
+                return (String) value;
+        }
+        return null;
+    }
+
+    @Contract(pure = true)
+    private static boolean isVersions(@Nullable Element element) {
+        return element instanceof TypeElement && ((TypeElement) element).getQualifiedName().contentEquals(VERSIONS);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionConstant.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.processor;
+
+
+import ca.solostudios.strata.version.Version;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Marks a {@code String} constant as a version, which is validated at compile time.
+ * <p>
+ * For every class with constants marked by this annotation or by {@link VersionRangeConstant}, the {@link VersionConstantProcessor}
+ * generates a holder class in the same package, named after the class with {@code Versions} appended. The holder has a
+ * {@link Version} constant of the same name for each marked constant, which is built directly from its components, so no version is
+ * parsed at runtime.
+ * <p>
+ * For example,
+ * <pre>{@code
+ * class Dependencies {
+ *     @VersionConstant
+ *     static final String MINIMUM = "1.2.3";
+ * }
+ * }</pre>
+ * generates a {@code DependenciesVersions} class, with a {@code MINIMUM} constant equal to {@code Versions.parseVersion("1.2.3")}.
+ *
+ * @author solonovamax
+ * @see VersionRangeConstant
+ * @see VersionConstantProcessor
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface VersionConstant {
+}
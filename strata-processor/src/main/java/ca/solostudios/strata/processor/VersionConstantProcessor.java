@@ -0,0 +1,167 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionConstantProcessor.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.processor;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * An annotation processor which validates version and version range literals at compile time.
+ * <p>
+ * Constants marked with {@link VersionConstant} or {@link VersionRangeConstant} are parsed when they are compiled, and a holder class
+ * with the precomputed {@link ca.solostudios.strata.version.Version Version} or {@link ca.solostudios.strata.version.VersionRange
+ * VersionRange} is generated for each class declaring them. An invalid constant is a compile error, reported with the message of the
+ * {@link ParseException}.
+ * <p>
+ * The processor only runs for these two annotations, and is registered with Gradle as an aggregating incremental processor. Constant
+ * strings passed to the parsing methods of {@link Versions} are validated by the separate {@link VersionCallPlugin} instead.
+ *
+ * @author solonovamax
+ * @see VersionConstant
+ * @see VersionRangeConstant
+ * @see VersionCallPlugin
+ */
+public final class VersionConstantProcessor extends AbstractProcessor {
+    private static final String[] GENERATED_ANNOTATIONS = {
+            "javax.annotation.processing.Generated",
+            "javax.annotation.Generated",
+    };
+
+    @Nullable
+    private String generatedAnnotation;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+
+        for (String annotation : GENERATED_ANNOTATIONS) {
+            if (processingEnv.getElementUtils().getTypeElement(annotation) != null) {
+                this.generatedAnnotation = annotation;
+                break;
+            }
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(VersionConstant.class.getName(), VersionRangeConstant.class.getName()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, ConstantHolder> holders = new LinkedHashMap<>();
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(VersionConstant.class)) {
+            VariableElement field = constantField(element, VersionConstant.class);
+            if (field == null)
+                continue;
+
+            String literal = (String) field.getConstantValue();
+            try {
+                holder(holders, field).addVersion(field, literal, Versions.parseVersion(literal));
+            } catch (ParseException e) {
+                error(field, String.format("Invalid version constant.%n%s", e.getMessage()));
+            }
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(VersionRangeConstant.class)) {
+            VariableElement field = constantField(element, VersionRangeConstant.class);
+            if (field == null)
+                continue;
+
+            String literal = (String) field.getConstantValue();
+            try {
+                holder(holders, field).addVersionRange(field, literal, Versions.parseVersionRange(literal));
+            } catch (ParseException e) {
+                error(field, String.format("Invalid version range constant.%n%s", e.getMessage()));
+            }
+        }
+
+        for (Map.Entry<TypeElement, ConstantHolder> entry : holders.entrySet()) {
+            try {
+                entry.getValue().write(this.processingEnv.getFiler(), this.generatedAnnotation);
+            } catch (IOException e) {
+                error(entry.getKey(), String.format("Could not write the version constants of %s: %s", entry.getKey(), e.getMessage()));
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks that a marked element is a {@code String} constant declared in a named class.
+     *
+     * @return The element as a field, or {@code null} if it is not a valid constant.
+     */
+    @Nullable
+    private VariableElement constantField(@NotNull Element element, @NotNull Class<?> annotation) {
+        // local and anonymous classes have no qualified name, so a holder could not be named after them
+        if (element.getKind() == ElementKind.FIELD && ((VariableElement) element).getConstantValue() instanceof String &&
+            ((TypeElement) element.getEnclosingElement()).getQualifiedName().length() > 0)
+            return (VariableElement) element;
+
+        error(element, String.format("@%s may only be used on String constants declared in a named class.", annotation.getSimpleName()));
+        return null;
+    }
+
+    @NotNull
+    private ConstantHolder holder(@NotNull Map<TypeElement, ConstantHolder> holders, @NotNull VariableElement field) {
+        TypeElement type = (TypeElement) field.getEnclosingElement();
+        return holders.computeIfAbsent(type, it -> new ConstantHolder(it, this.processingEnv.getElementUtils()));
+    }
+
+    private void error(@NotNull Element element, @NotNull String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
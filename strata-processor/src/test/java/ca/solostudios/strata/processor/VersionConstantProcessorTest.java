@@ -0,0 +1,248 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionConstantProcessorTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.processor;
+
+
+import ca.solostudios.strata.Versions;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionConstantProcessorTest {
+    private static final String DEPENDENCIES = String.join("\n",
+            "package com.example;",
+            "",
+            "import ca.solostudios.strata.processor.VersionConstant;",
+            "import ca.solostudios.strata.processor.VersionRangeConstant;",
+            "",
+            "public class Dependencies {",
+            "    @VersionConstant",
+            "    public static final String MINIMUM = \"1.2.3\";",
+            "    @VersionConstant",
+            "    public static final String PRE_RELEASE = \"1.0.0-rc.1+build.5\";",
+            "    @VersionConstant",
+            "    public static final String HUGE = \"99999999999999999999.3000000000.1\";",
+            "    @VersionConstant",
+            "    public static final String HUGE_PRE_RELEASE = \"1.0.0-alpha.99999999999999999999.0-x\";",
+            "    @VersionRangeConstant",
+            "    public static final String SUPPORTED = \"[1.2.0,2.0.0-alpha)\";",
+            "    @VersionRangeConstant",
+            "    public static final String ANY = \"*\";",
+            "",
+            "    public static class Nested {",
+            "        @VersionRangeConstant",
+            "        public static final String CARET = \"^0.2.3\";",
+            "    }",
+            "}"
+    );
+
+    @Test
+    void testGeneratedConstants() throws Exception {
+        Path output = Files.createTempDirectory("strata-processor");
+        try {
+            assertSuccess(compile(output, "com.example.Dependencies", DEPENDENCIES));
+
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{ output.toUri().toURL() }, getClass().getClassLoader())) {
+                Class<?> holder = loader.loadClass("com.example.DependenciesVersions");
+                assertEquals(Versions.parseVersion("1.2.3"), holder.getField("MINIMUM").get(null));
+                assertEquals(Versions.parseVersion("1.0.0-rc.1+build.5"), holder.getField("PRE_RELEASE").get(null));
+                assertEquals(Versions.parseVersion("99999999999999999999.3000000000.1"), holder.getField("HUGE").get(null));
+                assertEquals(Versions.parseVersion("1.0.0-alpha.99999999999999999999.0-x"), holder.getField("HUGE_PRE_RELEASE").get(null));
+                assertEquals(Versions.parseVersionRange("[1.2.0,2.0.0-alpha)"), holder.getField("SUPPORTED").get(null));
+                assertEquals(Versions.parseVersionRange("*"), holder.getField("ANY").get(null));
+
+                Class<?> nested = loader.loadClass("com.example.Dependencies_NestedVersions");
+                assertEquals(Versions.parseVersionRange("^0.2.3"), nested.getField("CARET").get(null));
+            }
+        } finally {
+            delete(output);
+        }
+    }
+
+    @Test
+    void testSupportedAnnotationTypes() {
+        // gradle only treats a processor as incremental if it does not claim every annotation
+        Set<String> expected = new HashSet<>(Arrays.asList(VersionConstant.class.getName(), VersionRangeConstant.class.getName()));
+        assertEquals(expected, new VersionConstantProcessor().getSupportedAnnotationTypes());
+    }
+
+    @Test
+    void testInvalidConstants() throws IOException {
+        String source = String.join("\n",
+                "import ca.solostudios.strata.processor.VersionConstant;",
+                "import ca.solostudios.strata.processor.VersionRangeConstant;",
+                "",
+                "class Invalid {",
+                "    @VersionConstant",
+                "    static final String VERSION = \"1.2\";",
+                "    @VersionRangeConstant",
+                "    static final String RANGE = \"[1.0.0,2.0.0\";",
+                "}"
+        );
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compileErrors("Invalid", source);
+        assertEquals(2, errors.size());
+        assertError(errors.get(0), 6, "Illegal character. Character '.' expected.");
+        assertError(errors.get(1), 8, "Found end of input while parsing version range string.");
+    }
+
+    @Test
+    void testNonConstantFields() throws IOException {
+        String source = String.join("\n",
+                "import ca.solostudios.strata.processor.VersionConstant;",
+                "",
+                "class NotConstant {",
+                "    @VersionConstant",
+                "    static String VERSION = \"1.2.3\";",
+                "    @VersionConstant",
+                "    static final int NUMBER = 123;",
+                "}"
+        );
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compileErrors("NotConstant", source);
+        assertEquals(2, errors.size());
+        assertError(errors.get(0), 5, "may only be used on String constants");
+        assertError(errors.get(1), 7, "may only be used on String constants");
+    }
+
+    @Test
+    void testCalls() throws IOException {
+        String source = String.join("\n",
+                "import ca.solostudios.strata.Versions;",
+                "",
+                "class Calls {",
+                "    static final String RANGE = \"[1.0.0,2.0\";",
+                "    static final String VALID = \"1.2.3\";",
+                "",
+                "    void calls(String dynamic) {",
+                "        Versions.parseVersion(\"01.2.3\");",
+                "        Versions.parseVersionRange(RANGE);",
+                "        Versions.parseVersionLazily(\"1.2.3-\");",
+                "        Versions.parseVersion(VALID);",
+                "        Versions.parseVersionRange(\"[1.0.0,2.0.0)\");",
+                "        Versions.parseVersion(dynamic);",
+                "    }",
+                "}"
+        );
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compileErrors("Calls", source, "-Xplugin:" + VersionCallPlugin.NAME);
+        assertEquals(3, errors.size());
+        assertError(errors.get(0), 8, "Numeric identifier must not contain leading zeros.");
+        assertError(errors.get(1), 9, "Found end of input while parsing version range string.");
+        assertError(errors.get(2), 10, "Numeric identifier expected.");
+
+        // calls are only validated when the plugin is enabled
+        assertTrue(compileErrors("Calls", source).isEmpty());
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compileErrors(String className, String source, String... options)
+            throws IOException {
+        Path output = Files.createTempDirectory("strata-processor");
+        try {
+            List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : compile(output, className, source, options).getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    errors.add(diagnostic);
+            }
+            return errors;
+        } finally {
+            delete(output);
+        }
+    }
+
+    private static DiagnosticCollector<JavaFileObject> compile(Path output, String className, String source, String... options)
+            throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> arguments = new ArrayList<>(Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", output.toString(),
+                    "-s", output.toString()
+            ));
+            arguments.addAll(Arrays.asList(options));
+
+            JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                                                           JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, arguments, null,
+                                                                 Collections.singletonList(file));
+            task.setProcessors(Collections.singletonList(new VersionConstantProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private static void assertSuccess(DiagnosticCollector<JavaFileObject> diagnostics) {
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                fail(diagnostic.toString());
+        }
+    }
+
+    private static void assertError(Diagnostic<? extends JavaFileObject> diagnostic, long line, String message) {
+        assertEquals(line, diagnostic.getLineNumber(), diagnostic.toString());
+        assertTrue(diagnostic.getMessage(null).contains(message), diagnostic.toString());
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file build.gradle.kts is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -127,6 +127,38 @@ repositories {
     mavenCentral()
 }
 
+/**
+ * Java versions which have their own layer in the multi-release jar.
+ *
+ * Sources for each layer are located in `src/main/java<version>`, and override the classes of the same name in `src/main/java`.
+ */
+val multiReleaseVersions = listOf(17, 22)
+
+/**
+ * Modules outside of the default module graph which are needed to compile and run a layer of the multi-release jar.
+ *
+ * Code using these modules must check that they are present at runtime, and fall back to the lower layers if they are not.
+ */
+val multiReleaseModules = mapOf(
+    17 to listOf("jdk.incubator.vector"),
+)
+
+/**
+ * The outputs of all layers up to and including the provided version, with the highest layer first, as they are seen by a JVM of that
+ * version loading the multi-release jar.
+ */
+fun multiReleaseOutputs(version: Int): FileCollection = files(
+    multiReleaseVersions.filter { it <= version }.sortedDescending().map { sourceSets["java$it"].output }
+)
+
+val multiReleaseSourceSets = multiReleaseVersions.associateWith { version ->
+    sourceSets.create("java$version") {
+        java.setSrcDirs(listOf("src/main/java$version"))
+
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    }
+}
+
 dependencies {
     api(libs.jetbrains.annotations)
 
@@ -134,7 +166,7 @@ dependencies {
 }
 
 tasks {
-    test {
+    withType<Test>().configureEach {
         useJUnitPlatform()
 
         ignoreFailures = false
@@ -145,4 +177,149 @@ tasks {
             exceptionFormat = TestExceptionFormat.FULL
         }
     }
+
+    jar {
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
+
+    val testMultiRelease by registering {
+        description = "Runs the test suite against every layer of the multi-release jar."
+        group = LifecycleBasePlugin.VERIFICATION_GROUP
+    }
+
+    multiReleaseSourceSets.forEach { (version, sourceSet) ->
+        named<JavaCompile>(sourceSet.compileJavaTaskName) {
+            javaCompiler = project.javaToolchains.compilerFor {
+                languageVersion = JavaLanguageVersion.of(version)
+            }
+            options.release = version
+            options.compilerArgs.addAll(multiReleaseModules[version].orEmpty().map { "--add-modules=$it" })
+        }
+
+        jar {
+            into("META-INF/versions/$version") {
+                from(sourceSet.output)
+            }
+        }
+
+        // runs the test suite against the classes of this layer
+        val testLayer = register<Test>("testJava$version") {
+            description = "Runs the test suite against the Java $version layer of the multi-release jar."
+            group = LifecycleBasePlugin.VERIFICATION_GROUP
+
+            javaLauncher = project.javaToolchains.launcherFor {
+                languageVersion = JavaLanguageVersion.of(version)
+            }
+            testClassesDirs = sourceSets.test.get().output.classesDirs
+            classpath = multiReleaseOutputs(version) + sourceSets.test.get().runtimeClasspath
+            jvmArgs(multiReleaseVersions.filter { it <= version }.flatMap { multiReleaseModules[it].orEmpty() }.map { "--add-modules=$it" })
+        }
+
+        testMultiRelease {
+            dependsOn(testLayer)
+        }
+    }
+
+    // every layer is tested on its own toolchain, so this is opt-in to avoid provisioning those JDKs on every check
+    if (providers.gradleProperty("strata.testMultiRelease").map { it.toBoolean() }.getOrElse(false)) {
+        check {
+            dependsOn(testMultiRelease)
+        }
+    }
+}
+
+sourceSets.named("jmh") {
+    // benchmark the multi-release jar itself, so that forks can compare layers with -Djdk.util.jar.enableMultiRelease=false
+    runtimeClasspath = files(tasks.jar) + runtimeClasspath
+}
+
+jmh {
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    // reports the bytes allocated per operation next to each score
+    profilers.add("gc")
+    // benchmarks share the corpus generator with the tests
+    includeTests = true
+}
+
+/**
+ * The committed JMH results that new results are compared against.
+ *
+ * Recorded with JMH 1.37 on Temurin 21.0.1, on a Linux virtual machine with a single core of an Intel Xeon and 5 GB of memory, so
+ * the Java 17 layer is the one benchmarked. The benchmarks ran with their own forks and iteration counts, but with iterations of one
+ * second instead of ten (`-w 1s -r 1s`). Scores only compare against results from similar hardware, so record a new baseline with
+ * jmhUpdateBaseline before comparing on another machine.
+ */
+val jmhBaseline = layout.projectDirectory.file("src/jmh/baseline.json")
+
+tasks {
+    val jmhCheckBaseline = register<JmhBaselineCheck>("jmhCheckBaseline") {
+        description = "Checks that the committed baseline has results to compare the benchmarks against."
+        group = LifecycleBasePlugin.VERIFICATION_GROUP
+
+        baseline = jmhBaseline
+    }
+
+    jmh.configure {
+        // the whole suite takes a long time, so a comparison against an empty baseline fails before running it
+        mustRunAfter(jmhCheckBaseline)
+    }
+
+    register<JmhBaselineComparison>("jmhCompareBaseline") {
+        description = "Runs the benchmarks and compares their results against the committed baseline."
+        group = LifecycleBasePlugin.VERIFICATION_GROUP
+
+        dependsOn(jmhCheckBaseline, jmh)
+        results = project.jmh.resultsFile
+        baseline = jmhBaseline
+        tolerances = layout.projectDirectory.file("src/jmh/tolerances.properties")
+        report = layout.buildDirectory.file("reports/jmh/comparison.txt")
+        ignoreRegressions = providers.gradleProperty("jmh.ignoreRegressions").map { it.toBoolean() }.orElse(false)
+    }
+
+    register<JavaExec>("generateCorpus") {
+        description = "Writes a corpus of version and version range strings for the benchmarks."
+        group = "jmh"
+
+        classpath = sourceSets.test.get().runtimeClasspath
+        mainClass = "ca.solostudios.strata.VersionCorpus"
+
+        val count = providers.gradleProperty("corpus.count").orElse("1000000")
+        val seed = providers.gradleProperty("corpus.seed").orElse("0")
+        val invalidFraction = providers.gradleProperty("corpus.invalidFraction").orElse("0")
+        val directory = layout.buildDirectory.dir("corpus")
+        argumentProviders += CommandLineArgumentProvider {
+            listOf(directory.get().asFile.path, count.get(), seed.get(), invalidFraction.get())
+        }
+        outputs.dir(directory)
+    }
+
+    register<JavaExec>("heapFootprint") {
+        description = "Measures the heap retained by versions, ranges, and the version collections, and writes it to a report."
+        group = "jmh"
+
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass = "ca.solostudios.strata.HeapFootprint"
+        // the serial collector compacts the whole heap on System.gc(), so the heap deltas are exact
+        jvmArgs("-XX:+UseSerialGC", "-Xmx2g")
+
+        val population = providers.gradleProperty("footprint.population").orElse("500000")
+        val report = layout.buildDirectory.file("reports/footprint/footprint.txt")
+        argumentProviders += CommandLineArgumentProvider {
+            listOf(report.get().asFile.path, population.get())
+        }
+        outputs.file(report)
+        outputs.upToDateWhen { false }
+    }
+
+    register<Copy>("jmhUpdateBaseline") {
+        description = "Replaces the committed baseline with the results of the last benchmark run."
+        group = LifecycleBasePlugin.VERIFICATION_GROUP
+
+        from(project.jmh.resultsFile)
+        into(jmhBaseline.asFile.parentFile)
+        rename { jmhBaseline.asFile.name }
+    }
 }
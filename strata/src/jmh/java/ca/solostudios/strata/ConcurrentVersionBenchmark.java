@@ -0,0 +1,216 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file ConcurrentVersionBenchmark.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static ca.solostudios.strata.Versions.parseVersionRange;
+
+
+/**
+ * Measures how parsing, comparison, hashing, and range matching scale with the number of threads.
+ * <p>
+ * Inputs are drawn from a Zipfian distribution, so that a few popular versions and ranges make up most of the work, as they do when
+ * resolving dependencies. The parsed versions and the ranges are shared by all threads, while each thread draws its own sequence of inputs.
+ * <p>
+ * Each nested class runs all benchmarks with a fixed number of threads, and can be selected on its own with an include pattern such as
+ * {@code ConcurrentVersionBenchmark.Threads16}. The {@code parseAndMatch} group runs a parsing thread next to a matching thread, so JMH
+ * raises its thread count to 2 in {@link Threads1}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+public abstract class ConcurrentVersionBenchmark {
+    @Benchmark
+    public Version parse(Inputs inputs, Cursor cursor) throws ParseException {
+        return parseVersion(inputs.strings[cursor.nextVersion()]);
+    }
+
+    @Benchmark
+    public int compare(Inputs inputs, Cursor cursor) {
+        return inputs.versions[cursor.nextVersion()].compareTo(inputs.versions[cursor.nextVersion()]);
+    }
+
+    @Benchmark
+    public int hash(Inputs inputs, Cursor cursor) {
+        return inputs.versions[cursor.nextVersion()].hashCode();
+    }
+
+    @Benchmark
+    public boolean isSatisfiedBy(Inputs inputs, Cursor cursor) {
+        return inputs.ranges[cursor.nextRange()].isSatisfiedBy(inputs.versions[cursor.nextVersion()]);
+    }
+
+    @Benchmark
+    @Group("parseAndMatch")
+    @GroupThreads(1)
+    public Version parseAndMatchParse(Inputs inputs, Cursor cursor) throws ParseException {
+        return parseVersion(inputs.strings[cursor.nextVersion()]);
+    }
+
+    @Benchmark
+    @Group("parseAndMatch")
+    @GroupThreads(1)
+    public boolean parseAndMatchMatch(Inputs inputs, Cursor cursor) {
+        return inputs.ranges[cursor.nextRange()].isSatisfiedBy(inputs.versions[cursor.nextVersion()]);
+    }
+
+    @Threads(1)
+    public static class Threads1 extends ConcurrentVersionBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends ConcurrentVersionBenchmark {
+    }
+
+    @Threads(16)
+    public static class Threads16 extends ConcurrentVersionBenchmark {
+    }
+
+    @Threads(64)
+    public static class Threads64 extends ConcurrentVersionBenchmark {
+    }
+
+    /**
+     * The versions and ranges shared by all threads, ordered from most to least popular.
+     */
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        static final int VERSIONS = 1024;
+
+        private static final String[] RANGES = {
+                "[1.0.0,2.0.0)", "^1.2.0", "1.+", ">=1.0.0", "[1.2.3,]", "1.2.+", "^0.1.2", "(,4.5.6)", "[2.0.0,3.0.0)", "<=3.1.4",
+                "(1.2.3,)", "^2.0.0-rc.1", "0.+", "[1.0.0-alpha,1.0.0]", ">2.0.0", "+",
+        };
+
+        String[] strings;
+
+        Version[] versions;
+
+        VersionRange[] ranges;
+
+        @Setup
+        public void setup() throws ParseException {
+            VersionCorpus corpus = new VersionCorpus(0xC0C0A);
+            Set<String> strings = new LinkedHashSet<>();
+            while (strings.size() < VERSIONS)
+                strings.add(corpus.nextVersion());
+            this.strings = strings.toArray(new String[0]);
+
+            this.versions = new Version[VERSIONS];
+            for (int i = 0; i < VERSIONS; i++)
+                this.versions[i] = parseVersion(this.strings[i]);
+
+            this.ranges = new VersionRange[RANGES.length];
+            for (int i = 0; i < RANGES.length; i++)
+                this.ranges[i] = parseVersionRange(RANGES[i]);
+        }
+    }
+
+    /**
+     * A sequence of Zipfian distributed indices into the {@link Inputs}, which is different for every thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private static final int LENGTH = 1 << 14;
+
+        /**
+         * The exponent of the distribution. With an exponent of 1, the most popular version is drawn about 13% of the time out of 1024.
+         */
+        private static final double SKEW = 1.0;
+
+        private final int[] versions = new int[LENGTH];
+
+        private final int[] ranges = new int[LENGTH];
+
+        private int position;
+
+        @Setup
+        public void setup(ThreadParams threads) {
+            Random random = new Random(0x5EED + threads.getThreadIndex());
+            double[] versionWeights = cumulativeWeights(Inputs.VERSIONS);
+            double[] rangeWeights = cumulativeWeights(Inputs.RANGES.length);
+            for (int i = 0; i < LENGTH; i++) {
+                this.versions[i] = sample(versionWeights, random);
+                this.ranges[i] = sample(rangeWeights, random);
+            }
+        }
+
+        int nextVersion() {
+            return this.versions[this.position++ & (LENGTH - 1)];
+        }
+
+        int nextRange() {
+            return this.ranges[this.position & (LENGTH - 1)];
+        }
+
+        private static double[] cumulativeWeights(int count) {
+            double[] weights = new double[count];
+            double total = 0;
+            for (int rank = 0; rank < count; rank++) {
+                total += 1 / Math.pow(rank + 1, SKEW);
+                weights[rank] = total;
+            }
+            for (int rank = 0; rank < count; rank++)
+                weights[rank] /= total;
+            return weights;
+        }
+
+        private static int sample(double[] cumulativeWeights, Random random) {
+            int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+            return Math.min(index < 0 ? -index - 1 : index, cumulativeWeights.length - 1);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file CorpusBenchmark.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+
+
+/**
+ * Parses and sorts a large corpus of versions, as when ingesting a repository index.
+ * <p>
+ * The corpus is generated by {@link VersionCorpus} from the {@code seed}, {@code size}, and {@code invalidFraction} parameters, unless
+ * {@code corpus} names a file written by the {@code generateCorpus} task, in which case the file is used as is.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+public class CorpusBenchmark {
+    @Param("")
+    public String corpus;
+
+    @Param("100000")
+    public int size;
+
+    @Param("0")
+    public long seed;
+
+    @Param({ "0", "0.05" })
+    public double invalidFraction;
+
+    private String[] strings;
+
+    private Version[] versions;
+
+    @Setup
+    public void setup() throws IOException {
+        List<String> strings = this.corpus.isEmpty() ? new VersionCorpus(this.seed, this.invalidFraction).versions(this.size)
+                                                     : VersionCorpus.read(Paths.get(this.corpus));
+        this.strings = strings.toArray(new String[0]);
+        this.versions = Arrays.stream(this.strings).map(CorpusBenchmark::parseOrNull).filter(version -> version != null)
+                              .toArray(Version[]::new);
+    }
+
+    @Benchmark
+    public int ingest() {
+        int parsed = 0;
+        for (String string : this.strings) {
+            if (parseOrNull(string) != null)
+                parsed++;
+        }
+        return parsed;
+    }
+
+    @Benchmark
+    public Version[] sort() {
+        Version[] versions = this.versions.clone();
+        Arrays.sort(versions);
+        return versions;
+    }
+
+    private static Version parseOrNull(String string) {
+        try {
+            return parseVersion(string);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+}
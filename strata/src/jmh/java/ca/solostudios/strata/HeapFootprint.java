@@ -0,0 +1,206 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file HeapFootprint.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import ca.solostudios.strata.collection.VersionStore;
+import ca.solostudios.strata.collection.VersionTable;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.MutableVersion;
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionRange;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static ca.solostudios.strata.Versions.parseVersionLazily;
+import static ca.solostudios.strata.Versions.parseVersionRange;
+
+
+/**
+ * Measures the heap retained by versions, version ranges, and the version collections.
+ * <p>
+ * Each population is built from a {@link VersionCorpus}, and measured as the difference in used heap before and after building it, with
+ * both sides taken after garbage collection settles. Every element is parsed from a fresh copy of its string, so the string is only
+ * counted if the element retains it. This needs no agent, but is only accurate with a large population and a collector which fully compacts the
+ * heap on {@link System#gc()}, such as the serial collector.
+ * <p>
+ * The first argument is the file to write the report to, and the second the population size. Run it with the {@code heapFootprint}
+ * task.
+ */
+public final class HeapFootprint {
+    private static final long SEED = 0x4EA9;
+
+    private static volatile Object sink;
+
+    private final int population;
+
+    private final List<String> versions;
+
+    private final List<String> ranges;
+
+    /**
+     * Distinct releases, which are fields like the corpus so that they stay reachable for the whole run.
+     */
+    private final List<String> releases;
+
+    private final List<String> lines = new ArrayList<>();
+
+    private HeapFootprint(int population) {
+        this.population = population;
+        this.versions = new VersionCorpus(SEED).versions(population);
+        this.ranges = new VersionCorpus(SEED).ranges(population);
+        this.releases = new ArrayList<>(population);
+        for (int i = 0; i < population; i++)
+            this.releases.add(i / 10_000 + "." + i / 100 % 100 + "." + i % 100);
+    }
+
+    public static void main(String[] args) throws IOException, ParseException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: HeapFootprint <report> [population]");
+            System.exit(1);
+        }
+
+        Path report = Paths.get(args[0]);
+        HeapFootprint footprint = new HeapFootprint(args.length > 1 ? Integer.parseInt(args[1]) : 500_000);
+        footprint.run();
+
+        if (report.getParent() != null)
+            Files.createDirectories(report.getParent());
+        Files.write(report, footprint.lines, StandardCharsets.UTF_8);
+        footprint.lines.forEach(System.out::println);
+    }
+
+    private void run() throws ParseException {
+        this.lines.add(String.format("Heap footprint, population of %d, %s %s (%s), %s", this.population, System.getProperty("java.vm.name"),
+                                     System.getProperty("java.vm.version"), System.getProperty("os.arch"),
+                                     String.join(" ", ManagementFactory.getRuntimeMXBean().getInputArguments())));
+        this.lines.add("");
+        this.lines.add(String.format("%-40s %16s", "Population", "Bytes per element"));
+
+        measure("String (corpus)", index -> copy(this.versions.get(index)));
+        measure("Version (corpus)", index -> parseVersion(copy(this.versions.get(index))));
+        measure("Version (distinct releases)", index -> parseVersion(copy(this.releases.get(index))));
+        measure("Version (repeated releases)", index -> parseVersion(copy(this.releases.get(index % 1000))));
+        measure("Version (lazily parsed corpus)", index -> parseVersionLazily(copy(this.versions.get(index))));
+        measure("MutableVersion (corpus)", index -> new MutableVersion().set(copy(this.versions.get(index))));
+        measure("VersionRange (corpus)", index -> parseVersionRange(copy(this.ranges.get(index))));
+
+        measureCollection("VersionTable (corpus)", () -> {
+            VersionTable table = new VersionTable();
+            for (String version : this.versions) {
+                try {
+                    table.add(parseVersion(copy(version)));
+                } catch (IllegalArgumentException e) {
+                    // components too large for a table
+                }
+            }
+            return table;
+        }, VersionTable::size);
+
+        VersionStore store = measureCollection("VersionStore (corpus), heap", () -> {
+            VersionStore versions = new VersionStore();
+            for (String version : this.versions)
+                versions.add(copy(version));
+            return versions;
+        }, VersionStore::size);
+        this.lines.add(String.format("%-40s %16.1f", "VersionStore (corpus), off-heap", (double) store.footprint() / store.size()));
+        store.close();
+    }
+
+    /**
+     * Measures a population of objects held in an array, not counting the array itself.
+     */
+    private void measure(String name, Element element) throws ParseException {
+        Object[] holder = new Object[this.population];
+        long before = usedHeap();
+        for (int i = 0; i < this.population; i++)
+            holder[i] = element.create(i);
+        long after = usedHeap();
+        this.lines.add(String.format("%-40s %16.1f", name, (double) (after - before) / this.population));
+        reachabilityFence(holder);
+    }
+
+    /**
+     * Measures a single collection holding the whole population.
+     */
+    private <T> T measureCollection(String name, Collection<T> collection, ToIntFunction<T> size) throws ParseException {
+        long before = usedHeap();
+        T retained = collection.create();
+        long after = usedHeap();
+        this.lines.add(String.format("%-40s %16.1f", name, (double) (after - before) / size.applyAsInt(retained)));
+        return retained;
+    }
+
+    private static String copy(String string) {
+        return new String(string.toCharArray());
+    }
+
+    /**
+     * The used heap, once repeated garbage collections stop freeing memory.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            System.gc();
+            long current = runtime.totalMemory() - runtime.freeMemory();
+            if (current >= used && i >= 3)
+                return Math.min(current, used);
+            used = Math.min(current, used);
+        }
+        return used;
+    }
+
+    /**
+     * Keeps an object reachable up to this point, as {@code Reference.reachabilityFence} does on Java 9 and newer.
+     */
+    private static void reachabilityFence(Object object) {
+        sink = object;
+        sink = null;
+    }
+
+    @FunctionalInterface
+    private interface Element {
+        Object create(int index) throws ParseException;
+    }
+
+    @FunctionalInterface
+    private interface Collection<T> {
+        T create() throws ParseException;
+    }
+}
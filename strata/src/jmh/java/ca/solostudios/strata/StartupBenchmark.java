@@ -0,0 +1,76 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file StartupBenchmark.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static ca.solostudios.strata.Versions.parseVersionRange;
+
+
+/**
+ * Measures the first parse of a fresh JVM, as done by command line tools which parse a single version per process.
+ * <p>
+ * Every measurement is the only invocation of its fork, so it includes loading and initializing the classes of the parser. Running with
+ * {@code -prof cl} also reports the number of classes loaded. The JMH harness initializes parts of the JDK, such as lambdas, before the
+ * benchmark runs, so the first parse of a plain JVM is slower than measured here.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(50)
+public class StartupBenchmark {
+    @Benchmark
+    public Version firstVersionParse() throws ParseException {
+        return parseVersion("1.2.3-rc.1+build.5");
+    }
+
+    @Benchmark
+    public VersionRange firstVersionRangeParse() throws ParseException {
+        return parseVersionRange("[1.2.3,2.0.0)");
+    }
+
+    @Benchmark
+    public boolean firstMatch() throws ParseException {
+        return parseVersionRange("^1.2.0").isSatisfiedBy(parseVersion("1.4.2"));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file AsciiKernelBenchmark.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares the scalar and Vector API implementations of the {@link AsciiKernels} on a corpus of version strings.
+ * <p>
+ * Both variants run the same code; the scalar forks disable vectorization through the {@code ca.solostudios.strata.disableVectorization}
+ * system property, and the vector forks add the {@code jdk.incubator.vector} module. These benchmarks must be run on Java 17 or newer, so
+ * that the Java 17 layer of the multi-release jar is used.
+ * <p>
+ * The corpus mixes small semantic versions, pre-releases, calendar versions, timestamped snapshots, and build metadata, in proportions
+ * similar to those found in a public repository index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AsciiKernelBenchmark {
+    private static final String SCALAR = "-Dca.solostudios.strata.disableVectorization=true";
+
+    private static final String VECTOR = "--add-modules=jdk.incubator.vector";
+
+    private static final int LINES = 10_000;
+
+    private byte[] corpus;
+
+    /**
+     * The start and end of every major, minor, and patch version in the corpus.
+     */
+    private int[] numbers;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0x57AA7A);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            int kind = random.nextInt(100);
+            if (kind < 55) {
+                text.append(random.nextInt(5)).append('.').append(random.nextInt(30)).append('.').append(random.nextInt(20));
+            } else if (kind < 70) {
+                text.append(random.nextInt(5)).append('.').append(random.nextInt(30)).append('.').append(random.nextInt(20));
+                text.append(random.nextBoolean() ? "-SNAPSHOT" : "-rc." + random.nextInt(5));
+            } else if (kind < 85) {
+                text.append(2015 + random.nextInt(10)).append('.').append(1 + random.nextInt(12)).append('.').append(1 + random.nextInt(28));
+            } else if (kind < 95) {
+                text.append(1 + random.nextInt(3)).append(".0.").append(2015 + random.nextInt(10))
+                    .append(String.format("%02d%02d%02d%02d%02d", 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24),
+                                          random.nextInt(60), random.nextInt(60)));
+            } else {
+                text.append(random.nextInt(5)).append('.').append(random.nextInt(30)).append('.').append(random.nextInt(20));
+                text.append("+sha.").append(Long.toHexString(random.nextLong()));
+            }
+            text.append('\n');
+        }
+        this.corpus = text.toString().getBytes(StandardCharsets.US_ASCII);
+
+        this.numbers = new int[LINES * 6];
+        int count = 0;
+        int position = 0;
+        while (position < this.corpus.length) {
+            for (int component = 0; component < 3; component++) {
+                int end = ScalarAsciiKernels.indexOfNonDigit(this.corpus, position, this.corpus.length);
+                this.numbers[count++] = position;
+                this.numbers[count++] = end;
+                position = end + 1;
+            }
+            while (this.corpus[position - 1] != '\n')
+                position++;
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = SCALAR)
+    public int scalarClassify() {
+        return classify();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public int vectorClassify() {
+        return classify();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = SCALAR)
+    public long scalarParseDigits() {
+        return parseDigits();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public long vectorParseDigits() {
+        return parseDigits();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = SCALAR)
+    public int scalarIngest() {
+        return new VersionTable(LINES).addAll(this.corpus, 0, this.corpus.length);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public int vectorIngest() {
+        return new VersionTable(LINES).addAll(this.corpus, 0, this.corpus.length);
+    }
+
+    private int classify() {
+        int lines = 0;
+        int position = 0;
+        while (position < this.corpus.length) {
+            position = AsciiKernels.indexOfNonVersionCharacter(this.corpus, position, this.corpus.length) + 1;
+            lines++;
+        }
+        return lines;
+    }
+
+    private long parseDigits() {
+        long sum = 0;
+        for (int i = 0; i < this.numbers.length; i += 2)
+            sum += AsciiKernels.parseDigits(this.corpus, this.numbers[i], this.numbers[i + 1]);
+        return sum;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionRangeParserBenchmark.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import ca.solostudios.strata.version.VersionRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares the recursive descent {@link VersionRangeParser} to the single-pass {@link VersionRangeAutomaton}, over one sample of every
+ * form of version range.
+ * <p>
+ * Every benchmark parses each sample once, so the reported time is per range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+public class VersionRangeParserBenchmark {
+    private static final String[] SAMPLES = {
+            "[1.0.0,2.0.0)",
+            "(,1.0.0-beta.11]",
+            "[1.2.3-alpha+build.5,)",
+            ">=1.2.3-rc.1",
+            "<4.5.6",
+            "^0.1.2",
+            "1.2.+",
+            "*",
+    };
+
+    private final VersionRangeParser parser = new VersionRangeParser();
+
+    private final VersionRangeAutomaton automaton = new VersionRangeAutomaton();
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void recursiveDescent(Blackhole blackhole) {
+        for (String sample : SAMPLES) {
+            VersionRange range = this.parser.reset(sample).parse();
+            blackhole.consume(range);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void automaton(Blackhole blackhole) {
+        for (String sample : SAMPLES) {
+            VersionRange range = this.automaton.reset(sample).parse();
+            blackhole.consume(range);
+        }
+    }
+}
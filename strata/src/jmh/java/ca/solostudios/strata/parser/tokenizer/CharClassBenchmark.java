@@ -0,0 +1,160 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file CharClassBenchmark.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser.tokenizer;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the per-character cost of classifying version and version range characters, comparing the predicate chains and varargs
+ * {@code Char.is(char...)} checks previously used by the parsers to the {@link CharClass} table.
+ * <p>
+ * Every benchmark classifies each character of the same input once, so the reported time is per character.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+public class CharClassBenchmark {
+    private static final String[] SAMPLES = {
+            "1.2.3",
+            "1.0.0-alpha.1+build.5",
+            "[1.0.0,2.0.0)",
+            ">=1.2.3-rc.1",
+            "^0.1.2",
+            "1.2.+",
+            "10.20.30-SNAPSHOT+20240101.abcdef0",
+            "(,1.0.0-beta.11]",
+    };
+
+    private static final int LENGTH = 4096;
+
+    private final char[] input = new char[LENGTH];
+
+    public CharClassBenchmark() {
+        int position = 0;
+        for (int i = 0; position < LENGTH; i++) {
+            String sample = SAMPLES[i % SAMPLES.length];
+            for (int j = 0; j < sample.length() && position < LENGTH; j++)
+                this.input[position++] = sample.charAt(j);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public int predicateChainAlphaNumeric() {
+        int count = 0;
+        for (char value : this.input) {
+            if (isLetter(value) || isDigit(value) || is(value, '-'))
+                count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public int tableAlphaNumeric() {
+        int count = 0;
+        for (char value : this.input) {
+            if (CharClass.isAlphaNumeric(value))
+                count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public int varargsRangePunctuation() {
+        int count = 0;
+        for (char value : this.input) {
+            if (is(value, '[', '(') || is(value, ']', ')') || is(value, '>', '<') || is(value, '+') || is(value, '*'))
+                count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public int tableRangePunctuation() {
+        int count = 0;
+        for (char value : this.input) {
+            if (CharClass.is(value, CharClass.RANGE_START | CharClass.RANGE_END | CharClass.COMPARISON | CharClass.PLUS | CharClass.STAR))
+                count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LENGTH)
+    public int charObjectClassification() {
+        int count = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            Char value = new Char(this.input[i], i);
+            if (value.isAlphaNumeric() || value.hasClass(CharClass.DOT | CharClass.PLUS))
+                count++;
+        }
+        return count;
+    }
+
+    // the classification used by Char before the table was introduced
+
+    private static boolean isDigit(char value) {
+        return value >= '0' && value <= '9';
+    }
+
+    private static boolean isLetter(char value) {
+        return (value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z');
+    }
+
+    private static boolean is(char value, char test) {
+        return test == value && test != '\0';
+    }
+
+    private static boolean is(char value, char... tests) {
+        for (char test : tests) {
+            if (test == value && test != '\0')
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file PreReleaseComparisonBenchmark.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.version;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+
+
+/**
+ * Compares the precedence of pre-release identifiers.
+ * <p>
+ * The identifiers of this library are compared on their values by {@link PreReleaseIdentifier#compareTo(PreReleaseIdentifier)}, while
+ * identifiers implemented outside of it go through the virtual {@code isNumeric()}, {@code asInteger()} and {@code asString()} fallback.
+ * Both benchmarks compare identifiers with the same values, so that the difference between them is the cost of the fallback.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PreReleaseComparisonBenchmark {
+    private static final String[] TAGS = { "alpha", "beta", "rc", "SNAPSHOT", "M", "dev" };
+
+    private static final int COUNT = 1024;
+
+    private final PreReleaseIdentifier[] identifiers = new PreReleaseIdentifier[COUNT];
+
+    private final PreReleaseIdentifier[] customIdentifiers = new PreReleaseIdentifier[COUNT];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0x9AE);
+        for (int i = 0; i < COUNT; i++) {
+            String tag = TAGS[random.nextInt(TAGS.length)];
+            PreRelease preRelease = parseVersion(String.format("1.2.3-%s.%d.%s", tag, random.nextInt(20), random.nextBoolean() ? "1" : "x"))
+                    .getPreRelease();
+            this.identifiers[i] = preRelease.getIdentifiers().get(random.nextInt(3));
+            this.customIdentifiers[i] = new CustomIdentifier(this.identifiers[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT - 1)
+    public int builtInIdentifierComparison() {
+        return compare(this.identifiers);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT - 1)
+    public int customIdentifierComparison() {
+        return compare(this.customIdentifiers);
+    }
+
+    private static int compare(PreReleaseIdentifier[] identifiers) {
+        int sum = 0;
+        for (int i = 1; i < COUNT; i++)
+            sum += identifiers[i - 1].compareTo(identifiers[i]);
+        return sum;
+    }
+
+    /**
+     * An identifier implemented outside of this library, with the value of one of its identifiers.
+     */
+    private static final class CustomIdentifier extends PreReleaseIdentifier {
+        private final String value;
+
+        private final BigInteger integer;
+
+        private CustomIdentifier(PreReleaseIdentifier identifier) {
+            this.value = identifier.getFormatted();
+            this.integer = identifier.isNumeric() ? new BigInteger(this.value) : null;
+        }
+
+        @Override
+        protected BigInteger asInteger() {
+            return this.integer;
+        }
+
+        @Override
+        protected String asString() {
+            return this.value;
+        }
+
+        @Override
+        protected boolean isNumeric() {
+            return this.integer != null;
+        }
+    }
+}
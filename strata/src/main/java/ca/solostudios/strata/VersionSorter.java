@@ -0,0 +1,374 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionSorter.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import ca.solostudios.strata.version.Version;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * Sorting for arrays of {@link Version}s.
+ * <p>
+ * The major, minor, and patch versions are extracted once into primitive {@code long} keys, and the versions are then sorted with an
+ * LSD radix sort over these keys. {@link Version#compareTo(Version)} is then only used to order versions with equal core versions by their
+ * pre-release, and for the (rare) versions which have a negative component or a component that does not fit in a {@code long}.
+ * <p>
+ * All sorts are stable, and produce the same order as {@link Arrays#sort(Object[])}.
+ *
+ * @author solonovamax
+ * @see Versions#sort(Version[])
+ * @see Versions#parallelSort(Version[])
+ */
+final class VersionSorter {
+    /**
+     * Below this size, the overhead of extracting keys is not worth it.
+     */
+    private static final int COMPARISON_SORT_THRESHOLD = 64;
+
+    /**
+     * Below this size, a parallel sort is not worth it.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 14;
+
+    /**
+     * Below this size, merge sorts fall back to an insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private static final int RADIX_BITS = 8;
+
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    /**
+     * Marks the key of a version with a component that is negative or doesn't fit in a long. Such versions are ordered with
+     * {@link Version#compareTo(Version)}, so the keys which are radix sorted are never negative and can't collide with this marker.
+     */
+    private static final long UNPACKED = -1;
+
+    @NotNull
+    private final Version @NotNull [] versions;
+
+    private final long @NotNull [] major;
+
+    private final long @NotNull [] minor;
+
+    private final long @NotNull [] patch;
+
+    private VersionSorter(@NotNull Version @NotNull [] versions) {
+        this.versions = versions;
+        this.major = new long[versions.length];
+        this.minor = new long[versions.length];
+        this.patch = new long[versions.length];
+    }
+
+    /**
+     * Sorts the provided array of versions in ascending order.
+     *
+     * @param versions The versions to sort.
+     */
+    static void sort(@NotNull Version @NotNull [] versions) {
+        if (versions.length < COMPARISON_SORT_THRESHOLD) {
+            Arrays.sort(versions);
+            return;
+        }
+
+        VersionSorter sorter = new VersionSorter(versions);
+        sorter.extractKeys(0, versions.length);
+        sorter.apply(sorter.sortRange(0, versions.length));
+    }
+
+    /**
+     * Sorts the provided array of versions in ascending order, using the {@link ForkJoinPool#commonPool() common fork-join pool}.
+     * <p>
+     * The array is split into chunks which are each sorted with the sequential radix sort, and which are then merged.
+     *
+     * @param versions The versions to sort.
+     */
+    static void parallelSort(@NotNull Version @NotNull [] versions) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (versions.length < PARALLEL_SORT_THRESHOLD || parallelism <= 1) {
+            sort(versions);
+            return;
+        }
+
+        VersionSorter sorter = new VersionSorter(versions);
+        int grain = Math.max(PARALLEL_SORT_THRESHOLD, versions.length / (parallelism << 2));
+        SortTask task = sorter.new SortTask(0, versions.length, grain);
+        ForkJoinPool.commonPool().invoke(task);
+        sorter.apply(task.result);
+    }
+
+    private void extractKeys(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Version version = this.versions[i];
+            BigInteger major = version.getMajor();
+            BigInteger minor = version.getMinor();
+            BigInteger patch = version.getPatch();
+            if (fitsInKey(major) && fitsInKey(minor) && fitsInKey(patch)) {
+                this.major[i] = major.longValue();
+                this.minor[i] = minor.longValue();
+                this.patch[i] = patch.longValue();
+            } else {
+                this.major[i] = UNPACKED;
+            }
+        }
+    }
+
+    private void apply(int @NotNull [] order) {
+        Version[] sorted = new Version[order.length];
+        for (int i = 0; i < order.length; i++)
+            sorted[i] = this.versions[order[i]];
+        System.arraycopy(sorted, 0, this.versions, 0, sorted.length);
+    }
+
+    /**
+     * Sorts a range of versions, whose keys must already have been extracted.
+     *
+     * @return The sorted indices of the versions in the range.
+     */
+    private int @NotNull [] sortRange(int from, int to) {
+        int packedCount = 0;
+        for (int i = from; i < to; i++)
+            if (this.major[i] != UNPACKED)
+                packedCount++;
+
+        int[] packed = new int[packedCount];
+        int[] unpacked = new int[to - from - packedCount];
+        for (int i = from, p = 0, u = 0; i < to; i++) {
+            if (this.major[i] != UNPACKED)
+                packed[p++] = i;
+            else
+                unpacked[u++] = i;
+        }
+
+        radixSort(packed);
+        sortPreReleaseTies(packed);
+
+        if (unpacked.length == 0)
+            return packed;
+
+        mergeSort(unpacked, 0, unpacked.length, new int[unpacked.length]);
+        return merge(packed, unpacked);
+    }
+
+    /**
+     * Stable LSD radix sort of the provided indices by their core version.
+     * <p>
+     * Each component is sorted separately, starting with the patch version. Only the bytes that are used by at least one key are sorted
+     * on, and a pass is skipped entirely when every key has the same byte.
+     */
+    private void radixSort(int @NotNull [] indices) {
+        int length = indices.length;
+        if (length == 0)
+            return;
+
+        int[] indexBuffer = new int[length];
+        long[] keys = new long[length];
+        long[] keyBuffer = new long[length];
+        int[] counts = new int[RADIX];
+
+        for (long[] component : new long[][]{ this.patch, this.minor, this.major }) {
+            long used = 0;
+            for (int i = 0; i < length; i++) {
+                keys[i] = component[indices[i]];
+                used |= keys[i];
+            }
+
+            int passes = (Long.SIZE - Long.numberOfLeadingZeros(used) + RADIX_BITS - 1) / RADIX_BITS;
+            for (int pass = 0; pass < passes; pass++) {
+                int shift = pass * RADIX_BITS;
+
+                Arrays.fill(counts, 0);
+                for (int i = 0; i < length; i++)
+                    counts[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+
+                if (counts[(int) (keys[0] >>> shift) & (RADIX - 1)] == length)
+                    continue; // every key has the same digit
+
+                for (int i = 0, sum = 0; i < RADIX; i++) {
+                    int count = counts[i];
+                    counts[i] = sum;
+                    sum += count;
+                }
+
+                for (int i = 0; i < length; i++) {
+                    int position = counts[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+                    keyBuffer[position] = keys[i];
+                    indexBuffer[position] = indices[i];
+                }
+
+                long[] swapKeys = keys;
+                keys = keyBuffer;
+                keyBuffer = swapKeys;
+                System.arraycopy(indexBuffer, 0, indices, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Orders runs of versions with equal core versions by their pre-release.
+     */
+    private void sortPreReleaseTies(int @NotNull [] indices) {
+        int[] buffer = null;
+        int start = 0;
+        for (int i = 1; i <= indices.length; i++) {
+            if (i < indices.length && compareCore(indices[start], indices[i]) == 0)
+                continue;
+
+            if (i - start > 1) {
+                if (buffer == null)
+                    buffer = new int[indices.length];
+                mergeSort(indices, start, i, buffer);
+            }
+            start = i;
+        }
+    }
+
+    private int @NotNull [] merge(int @NotNull [] left, int @NotNull [] right) {
+        int[] merged = new int[left.length + right.length];
+        int l = 0;
+        int r = 0;
+        int m = 0;
+        while (l < left.length && r < right.length)
+            merged[m++] = compare(right[r], left[l]) < 0 ? right[r++] : left[l++];
+        while (l < left.length)
+            merged[m++] = left[l++];
+        while (r < right.length)
+            merged[m++] = right[r++];
+        return merged;
+    }
+
+    /**
+     * Stable merge sort of a range of indices, using {@link #compare(int, int)}.
+     */
+    private void mergeSort(int @NotNull [] indices, int from, int to, int @NotNull [] buffer) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int index = indices[i];
+                int j = i - 1;
+                while (j >= from && compare(indices[j], index) > 0) {
+                    indices[j + 1] = indices[j];
+                    j--;
+                }
+                indices[j + 1] = index;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(indices, from, middle, buffer);
+        mergeSort(indices, middle, to, buffer);
+        if (compare(indices[middle - 1], indices[middle]) <= 0)
+            return; // already in order
+
+        System.arraycopy(indices, from, buffer, from, to - from);
+        int l = from;
+        int r = middle;
+        int m = from;
+        while (l < middle && r < to)
+            indices[m++] = compare(buffer[r], buffer[l]) < 0 ? buffer[r++] : buffer[l++];
+        while (l < middle)
+            indices[m++] = buffer[l++];
+        while (r < to)
+            indices[m++] = buffer[r++];
+    }
+
+    private int compare(int first, int second) {
+        if (this.major[first] == UNPACKED || this.major[second] == UNPACKED)
+            return this.versions[first].compareTo(this.versions[second]);
+
+        int coreComparison = compareCore(first, second);
+        if (coreComparison != 0)
+            return coreComparison;
+
+        return this.versions[first].getPreRelease().compareTo(this.versions[second].getPreRelease());
+    }
+
+    private int compareCore(int first, int second) {
+        int comparison = Long.compare(this.major[first], this.major[second]);
+        if (comparison != 0)
+            return comparison;
+        comparison = Long.compare(this.minor[first], this.minor[second]);
+        if (comparison != 0)
+            return comparison;
+        return Long.compare(this.patch[first], this.patch[second]);
+    }
+
+    /**
+     * Checks if a component can be radix sorted, which sorts its keys as unsigned numbers.
+     */
+    @Contract(pure = true)
+    private static boolean fitsInKey(@NotNull BigInteger value) {
+        return value.signum() >= 0 && value.bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Sorts a range of versions by forking until the range is small enough to be sorted sequentially, then merging the sorted halves.
+     */
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 4702436208734568347L;
+
+        private final int from;
+
+        private final int to;
+
+        private final int grain;
+
+        private int[] result;
+
+        private SortTask(int from, int to, int grain) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.grain) {
+                extractKeys(this.from, this.to);
+                this.result = sortRange(this.from, this.to);
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            SortTask left = new SortTask(this.from, middle, this.grain);
+            SortTask right = new SortTask(middle, this.to, this.grain);
+            invokeAll(left, right);
+
+            this.result = merge(left.result, right.result);
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file Versions.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -29,13 +29,19 @@
 package ca.solostudios.strata;
 
 
+import ca.solostudios.strata.metrics.MetricsRegistry;
+import ca.solostudios.strata.metrics.StrataMetrics;
 import ca.solostudios.strata.parser.VersionParser;
+import ca.solostudios.strata.parser.VersionRangeAutomaton;
 import ca.solostudios.strata.parser.VersionRangeParser;
+import ca.solostudios.strata.parser.VersionStringComparator;
+import ca.solostudios.strata.parser.VersionValidator;
 import ca.solostudios.strata.parser.tokenizer.ParseException;
 import ca.solostudios.strata.version.BuildMetadata;
-import ca.solostudios.strata.version.CoreVersion;
+import ca.solostudios.strata.version.MutableVersion;
 import ca.solostudios.strata.version.PreRelease;
 import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionCache;
 import ca.solostudios.strata.version.VersionRange;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -50,41 +56,67 @@ import java.math.BigInteger;
  * @author solonovamax
  */
 public final class Versions {
+    /**
+     * Per-thread parsers, reset for every parse so their input readers and scratch buffers are reused.
+     * <p>
+     * These are anonymous classes rather than {@link ThreadLocal#withInitial(java.util.function.Supplier) lambdas}, as bootstrapping the
+     * first lambda of a process loads around a hundred classes, which is most of the cost of a single parse. The parsers are only loaded
+     * once their thread local is first used.
+     */
+    private static final ThreadLocal<VersionParser> VERSION_PARSER = new ThreadLocal<VersionParser>() {
+        @Override
+        protected VersionParser initialValue() {
+            return new VersionParser();
+        }
+    };
+
+    private static final ThreadLocal<VersionRangeAutomaton> VERSION_RANGE_PARSER = new ThreadLocal<VersionRangeAutomaton>() {
+        @Override
+        protected VersionRangeAutomaton initialValue() {
+            return new VersionRangeAutomaton();
+        }
+    };
+
+    private static final ThreadLocal<MutableVersion> MUTABLE_VERSION = new ThreadLocal<MutableVersion>() {
+        @Override
+        protected MutableVersion initialValue() {
+            return new MutableVersion();
+        }
+    };
+
     private Versions() {
     }
 
     /**
-     * Constructs a new version from the provided values.
+     * A release version, without a pre-release or build metadata, with the provided values.
+     * <p>
+     * Versions whose components are all at most {@code 255} are cached, so the returned instance may be shared with other callers.
      *
      * @param major The major version.
      * @param minor The minor version.
      * @param patch The patch version.
      *
-     * @return The new version.
+     * @return The version.
      */
     @NotNull
-    @Contract(value = "_, _, _ -> new", pure = true)
     public static Version getVersion(int major, int minor, int patch) {
-        return new Version(new CoreVersion(BigInteger.valueOf(major),
-                                           BigInteger.valueOf(minor),
-                                           BigInteger.valueOf(patch)),
-                           PreRelease.NULL,
-                           BuildMetadata.NULL);
+        return VersionCache.release(major, minor, patch);
     }
 
     /**
-     * Constructs a new version from the provided values.
+     * A release version, without a pre-release or build metadata, with the provided values.
+     * <p>
+     * Versions whose components are all at most {@code 255} are cached, so the returned instance may be shared with other callers.
      *
      * @param major The major version.
      * @param minor The minor version.
      * @param patch The patch version.
      *
-     * @return The new version.
+     * @return The version.
      */
     @NotNull
-    @Contract(value = "_, _, _ -> new", pure = true)
     public static Version getVersion(@NotNull BigInteger major, @NotNull BigInteger minor, @NotNull BigInteger patch) {
-        return new Version(new CoreVersion(major, minor, patch), PreRelease.NULL, BuildMetadata.NULL);
+        return VersionCache.release(major, minor, patch);
     }
 
     /**
@@ -101,7 +133,7 @@ public final class Versions {
     @Contract(value = "_, _, _, _ -> new", pure = true)
     public static Version getVersion(@NotNull BigInteger major, @NotNull BigInteger minor, @NotNull BigInteger patch,
                                      @NotNull PreRelease preRelease) {
-        return new Version(new CoreVersion(major, minor, patch), preRelease, BuildMetadata.NULL);
+        return new Version(VersionCache.coreVersion(major, minor, patch), preRelease, BuildMetadata.NULL);
     }
 
     /**
@@ -118,7 +150,7 @@ public final class Versions {
     @Contract(value = "_, _, _, _ -> new", pure = true)
     public static Version getVersion(@NotNull BigInteger major, @NotNull BigInteger minor, @NotNull BigInteger patch,
                                      @NotNull BuildMetadata buildMetadata) {
-        return new Version(new CoreVersion(major, minor, patch), PreRelease.NULL, buildMetadata);
+        return new Version(VersionCache.coreVersion(major, minor, patch), PreRelease.NULL, buildMetadata);
     }
 
     /**
@@ -136,7 +168,7 @@ public final class Versions {
     @Contract(value = "_, _, _, _, _ -> new", pure = true)
     public static Version getVersion(@NotNull BigInteger major, @NotNull BigInteger minor, @NotNull BigInteger patch,
                                      @NotNull PreRelease preRelease, @NotNull BuildMetadata buildMetadata) {
-        return new Version(new CoreVersion(major, minor, patch), preRelease, buildMetadata);
+        return new Version(VersionCache.coreVersion(major, minor, patch), preRelease, buildMetadata);
     }
 
     /**
@@ -153,7 +185,56 @@ public final class Versions {
     @NotNull
     @Contract(value = "_ -> new", pure = true)
     public static Version parseVersion(@NotNull String versionString) throws ParseException {
-        return new VersionParser(versionString).parse();
+        StrataMetrics metrics = MetricsRegistry.active();
+        if (metrics == null)
+            return VERSION_PARSER.get().reset(versionString).parse();
+        else
+            return parseVersionInstrumented(versionString, metrics);
+    }
+
+    /**
+     * Parses a version from the provided string, according to the semver spec as listed in {@link VersionParser}, decoding its components
+     * lazily.
+     * <p>
+     * The whole string is validated in a single pass, but the returned version only records where each component is. The core version,
+     * pre-release, and build metadata are decoded the first time their getters are invoked. {@link Version#getFormatted()} returns the
+     * provided string, since a valid version string is always in canonical form, and comparing or checking equality of two lazily parsed
+     * versions does not decode them.
+     *
+     * @param versionString The version string to parse.
+     *
+     * @return The parsed version.
+     *
+     * @throws ParseException If an exception occurred during the parsing of the version. If taking user input, the message from this
+     *                        exception is highly useful and should be returned to the user.
+     * @see VersionParser
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public static Version parseVersionLazily(@NotNull String versionString) throws ParseException {
+        return MUTABLE_VERSION.get().set(versionString).toLazyVersion();
+    }
+
+    /**
+     * Parses a version from the provided string into a {@link MutableVersion}, according to the semver spec as listed in
+     * {@link VersionParser}.
+     * <p>
+     * Unlike {@link #parseVersion(String)}, this does not allocate. It is intended for streaming over large numbers of versions, where only
+     * some are kept through {@link MutableVersion#toImmutable()}.
+     *
+     * @param versionString The version string to parse.
+     * @param holder        The holder to parse the version into.
+     *
+     * @return The holder.
+     *
+     * @throws ParseException If an exception occurred during the parsing of the version. If taking user input, the message from this
+     *                        exception is highly useful and should be returned to the user.
+     * @see MutableVersion#set(CharSequence)
+     */
+    @NotNull
+    @Contract("_, _ -> param2")
+    public static MutableVersion parseVersion(@NotNull CharSequence versionString, @NotNull MutableVersion holder) throws ParseException {
+        return holder.set(versionString);
     }
 
     /**
@@ -186,7 +267,11 @@ public final class Versions {
             builder.append('+')
                    .append(buildMetadataVersion);
 
-        return new VersionParser(builder.toString()).parse();
+        StrataMetrics metrics = MetricsRegistry.active();
+        if (metrics == null)
+            return VERSION_PARSER.get().reset(builder).parse();
+        else
+            return parseVersionInstrumented(builder, metrics);
     }
 
     /**
@@ -199,11 +284,148 @@ public final class Versions {
      * @throws ParseException If an exception occurred during the parsing of the version. If taking user input, the message from this
      *                        exception is highly useful and should be returned to the user.@see Versions#parseVersion(String)
      * @see VersionRangeParser
+     * @see VersionRangeAutomaton
      */
     @NotNull
     @Contract(value = "_ -> new", pure = true)
     public static VersionRange parseVersionRange(@NotNull String versionString) throws ParseException {
-        return new VersionRangeParser(versionString).parse();
+        StrataMetrics metrics = MetricsRegistry.active();
+        if (metrics == null)
+            return VERSION_RANGE_PARSER.get().reset(versionString).parse();
+
+        long start = System.nanoTime();
+        try {
+            VersionRange range = VERSION_RANGE_PARSER.get().reset(versionString).parse();
+            metrics.onSuccess(StrataMetrics.Operation.PARSE_VERSION_RANGE, System.nanoTime() - start);
+            return range;
+        } catch (ParseException e) {
+            metrics.onFailure(StrataMetrics.Operation.PARSE_VERSION_RANGE, e.getKind(), System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if the provided string is a valid version, according to the semver spec as listed in {@link VersionParser}.
+     * <p>
+     * This does not allocate, and is significantly faster than parsing the version and catching the {@link ParseException}.
+     *
+     * @param versionString The version string to validate.
+     *
+     * @return {@code true} if the string is a valid version, {@code false} otherwise.
+     *
+     * @see #indexOfVersionError(CharSequence)
+     * @see VersionValidator
+     */
+    @Contract(pure = true)
+    public static boolean isValidVersion(@NotNull CharSequence versionString) {
+        return VersionValidator.validateVersion(versionString) == VersionValidator.VALID;
+    }
+
+    /**
+     * Finds the first error in the provided version string, according to the semver spec as listed in {@link VersionParser}.
+     * <p>
+     * This does not allocate.
+     *
+     * @param versionString The version string to validate.
+     *
+     * @return {@code -1} if the string is a valid version, otherwise the offset of the first error. This is the same as the position of
+     * the {@link ParseException} thrown by {@link #parseVersion(String)}.
+     *
+     * @see #isValidVersion(CharSequence)
+     * @see VersionValidator
+     */
+    @Contract(pure = true)
+    public static int indexOfVersionError(@NotNull CharSequence versionString) {
+        return VersionValidator.validateVersion(versionString);
+    }
+
+    /**
+     * Checks if the provided string is a valid version range, according to the specification described in {@link VersionRangeParser}.
+     * <p>
+     * This does not allocate, and is significantly faster than parsing the version range and catching the {@link ParseException}.
+     *
+     * @param versionRangeString The version range string to validate.
+     *
+     * @return {@code true} if the string is a valid version range, {@code false} otherwise.
+     *
+     * @see #indexOfVersionRangeError(CharSequence)
+     * @see VersionValidator
+     */
+    @Contract(pure = true)
+    public static boolean isValidVersionRange(@NotNull CharSequence versionRangeString) {
+        return VersionValidator.validateVersionRange(versionRangeString) == VersionValidator.VALID;
+    }
+
+    /**
+     * Finds the first error in the provided version range string, according to the specification described in
+     * {@link VersionRangeParser}.
+     * <p>
+     * This does not allocate.
+     *
+     * @param versionRangeString The version range string to validate.
+     *
+     * @return {@code -1} if the string is a valid version range, otherwise the offset of the first error. This is the same as the position
+     * of the {@link ParseException} thrown by {@link #parseVersionRange(String)}.
+     *
+     * @see #isValidVersionRange(CharSequence)
+     * @see VersionValidator
+     */
+    @Contract(pure = true)
+    public static int indexOfVersionRangeError(@NotNull CharSequence versionRangeString) {
+        return VersionValidator.validateVersionRange(versionRangeString);
+    }
+
+    /**
+     * Compares two version strings by precedence, without parsing them into {@link Version}s.
+     * <p>
+     * This is equivalent to {@code parseVersion(first).compareTo(parseVersion(second))}, however both strings are compared in a single
+     * scan, and nothing is allocated unless one of them is invalid.
+     *
+     * @param first  The first version string.
+     * @param second The second version string.
+     *
+     * @return A negative integer, zero, or a positive integer as the first version is less than, equal to, or greater than the second
+     * version.
+     *
+     * @throws ParseException If either of the strings is not a valid version. If taking user input, the message from this exception is
+     *                        highly useful and should be returned to the user.
+     * @see VersionStringComparator
+     */
+    @Contract(pure = true)
+    public static int compare(@NotNull CharSequence first, @NotNull CharSequence second) throws ParseException {
+        return VersionStringComparator.INSTANCE.compare(first, second);
+    }
+
+    /**
+     * Sorts the provided array of versions in ascending order of precedence.
+     * <p>
+     * This produces the same order as {@link java.util.Arrays#sort(Object[])}, but the major, minor, and patch versions are only extracted
+     * once per version and sorted with a radix sort. {@link Version#compareTo(Version)} is only used to order versions which have the same
+     * core version by their pre-release.
+     * <p>
+     * This sort is stable.
+     *
+     * @param versions The versions to sort.
+     * @see #parallelSort(Version[])
+     */
+    public static void sort(@NotNull Version @NotNull [] versions) {
+        VersionSorter.sort(versions);
+    }
+
+    /**
+     * Sorts the provided array of versions in ascending order of precedence, in parallel.
+     * <p>
+     * The array is split into chunks that are sorted as per {@link #sort(Version[])} using the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool}, and are then merged. Small arrays are sorted
+     * sequentially.
+     * <p>
+     * This sort is stable.
+     *
+     * @param versions The versions to sort.
+     * @see #sort(Version[])
+     */
+    public static void parallelSort(@NotNull Version @NotNull [] versions) {
+        VersionSorter.parallelSort(versions);
     }
 
     /**
@@ -224,4 +446,17 @@ public final class Versions {
                                                @Nullable Version endVersion, boolean endInclusive) {
         return new VersionRange(startVersion, startInclusive, endVersion, endInclusive);
     }
+
+    @NotNull
+    private static Version parseVersionInstrumented(@NotNull CharSequence versionString, @NotNull StrataMetrics metrics) throws ParseException {
+        long start = System.nanoTime();
+        try {
+            Version version = VERSION_PARSER.get().reset(versionString).parse();
+            metrics.onSuccess(StrataMetrics.Operation.PARSE_VERSION, System.nanoTime() - start);
+            return version;
+        } catch (ParseException e) {
+            metrics.onFailure(StrataMetrics.Operation.PARSE_VERSION, e.getKind(), System.nanoTime() - start);
+            throw e;
+        }
+    }
 }
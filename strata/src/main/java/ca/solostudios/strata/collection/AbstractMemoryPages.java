@@ -0,0 +1,150 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file AbstractMemoryPages.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The page bookkeeping shared by all implementations of {@link MemoryPages}.
+ * <p>
+ * Memory is handed out through {@link #allocate(int)}, which returns an address encoding both the page index (upper 32 bits) and the
+ * offset inside that page (lower 32 bits). An allocation never spans two pages, so any {@code address + n} inside an allocation is valid.
+ * Implementations only decide how a page is allocated and how it is accessed.
+ *
+ * @param <P> The type of a single page.
+ * @author solonovamax
+ */
+abstract class AbstractMemoryPages<P> implements AutoCloseable {
+    @NotNull
+    private final List<P> pages = new ArrayList<>();
+
+    private final int pageSize;
+
+    private int position;
+
+    private long footprint = 0;
+
+    /**
+     * Constructs a new empty set of memory pages.
+     *
+     * @param pageSize The size of a single page, in bytes.
+     */
+    @Contract(pure = true)
+    AbstractMemoryPages(int pageSize) {
+        this.pageSize = pageSize;
+        this.position = pageSize; // forces a page to be allocated on first use
+    }
+
+    /**
+     * Allocates a contiguous block of memory.
+     * <p>
+     * If the block is larger than the page size, a dedicated page is allocated for it.
+     *
+     * @param size The size of the block, in bytes.
+     * @return The address of the block.
+     */
+    final long allocate(int size) {
+        if (size > this.pageSize) {
+            addPage(size);
+            this.position = this.pageSize; // the dedicated page is full
+            return (long) (this.pages.size() - 1) << 32;
+        }
+
+        if (this.position + size > this.pageSize) {
+            addPage(this.pageSize);
+            this.position = 0;
+        }
+
+        long address = ((long) (this.pages.size() - 1) << 32) | this.position;
+        this.position += size;
+        return address;
+    }
+
+    /**
+     * The number of bytes of off-heap memory reserved by these pages.
+     *
+     * @return The reserved size, in bytes.
+     */
+    @Contract(pure = true)
+    final long footprint() {
+        return this.footprint;
+    }
+
+    /**
+     * Releases all pages.
+     */
+    @Override
+    public void close() {
+        this.pages.clear();
+        this.footprint = 0;
+    }
+
+    /**
+     * Allocates a new page.
+     *
+     * @param size The size of the page, in bytes.
+     * @return The new page.
+     */
+    @NotNull
+    abstract P newPage(int size);
+
+    /**
+     * The page containing an address.
+     *
+     * @param address The address.
+     * @return The page.
+     */
+    @NotNull
+    @Contract(pure = true)
+    final P page(long address) {
+        return this.pages.get((int) (address >>> 32));
+    }
+
+    /**
+     * The offset of an address inside of its page.
+     *
+     * @param address The address.
+     * @return The offset, in bytes.
+     */
+    @Contract(pure = true)
+    static int offset(long address) {
+        return (int) address;
+    }
+
+    private void addPage(int size) {
+        this.pages.add(newPage(size));
+        this.footprint += size;
+    }
+}
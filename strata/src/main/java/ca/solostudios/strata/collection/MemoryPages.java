@@ -0,0 +1,106 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file MemoryPages.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * A paged, append-only region of direct (off-heap) memory.
+ * <p>
+ * This implementation is backed by direct {@link ByteBuffer}s. On Java 22 and newer, the multi-release jar replaces it with an
+ * implementation backed by {@code MemorySegment}s, which frees its memory deterministically on {@link #close()}. Direct buffers cannot
+ * be freed explicitly on Java 8, so closing these pages only drops them, and the memory is returned once they are garbage collected.
+ *
+ * @author solonovamax
+ */
+final class MemoryPages extends AbstractMemoryPages<ByteBuffer> {
+    /**
+     * Constructs a new empty set of memory pages.
+     *
+     * @param pageSize The size of a single page, in bytes.
+     */
+    @Contract(pure = true)
+    MemoryPages(int pageSize) {
+        super(pageSize);
+    }
+
+    @Contract(pure = true)
+    byte getByte(long address) {
+        return page(address).get(offset(address));
+    }
+
+    void putByte(long address, byte value) {
+        page(address).put(offset(address), value);
+    }
+
+    @Contract(pure = true)
+    int getInt(long address) {
+        return page(address).getInt(offset(address));
+    }
+
+    void putInt(long address, int value) {
+        page(address).putInt(offset(address), value);
+    }
+
+    @Contract(pure = true)
+    long getLong(long address) {
+        return page(address).getLong(offset(address));
+    }
+
+    void putLong(long address, long value) {
+        page(address).putLong(offset(address), value);
+    }
+
+    /**
+     * Copies bytes out of this memory into a heap array.
+     *
+     * @param address     The address to start copying from.
+     * @param destination The array to copy into.
+     * @param offset      The offset into the destination array.
+     * @param length      The number of bytes to copy.
+     */
+    void getBytes(long address, byte @NotNull [] destination, int offset, int length) {
+        ByteBuffer page = page(address);
+        int start = offset(address);
+        for (int i = 0; i < length; i++)
+            destination[offset + i] = page.get(start + i);
+    }
+
+    @NotNull
+    @Override
+    ByteBuffer newPage(int size) {
+        return ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file ScalarAsciiKernels.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import ca.solostudios.strata.parser.tokenizer.CharClass;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Scalar implementations of the {@link AsciiKernels}, which process a single byte at a time.
+ *
+ * @author solonovamax
+ */
+final class ScalarAsciiKernels {
+    /**
+     * The classes of the characters allowed in a version string.
+     */
+    private static final int VERSION_CHARACTER = CharClass.ALPHANUMERIC | CharClass.DOT | CharClass.PLUS;
+
+    private ScalarAsciiKernels() {
+    }
+
+    /**
+     * @see AsciiKernels#indexOfNonVersionCharacter(byte[], int, int)
+     */
+    @Contract(pure = true)
+    static int indexOfNonVersionCharacter(byte @NotNull [] input, int from, int to) {
+        for (int i = from; i < to; i++) {
+            // non-ascii bytes are negative, and never belong to a class
+            if (input[i] < 0 || !CharClass.is((char) input[i], VERSION_CHARACTER))
+                return i;
+        }
+        return to;
+    }
+
+    /**
+     * @see AsciiKernels#indexOfNonDigit(byte[], int, int)
+     */
+    @Contract(pure = true)
+    static int indexOfNonDigit(byte @NotNull [] input, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (input[i] < '0' || input[i] > '9')
+                return i;
+        }
+        return to;
+    }
+
+    /**
+     * @see AsciiKernels#parseDigits(byte[], int, int)
+     */
+    @Contract(pure = true)
+    static long parseDigits(byte @NotNull [] input, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = input[i] - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10)
+                return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
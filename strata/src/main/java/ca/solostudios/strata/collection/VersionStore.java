@@ -0,0 +1,472 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionStore.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.parser.tokenizer.Identifiers;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.BuildMetadata;
+import ca.solostudios.strata.version.PreRelease;
+import ca.solostudios.strata.version.Version;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * An append-only store of {@link Version}s, kept in off-heap memory.
+ * <p>
+ * Versions are encoded into direct memory as they are added, and are afterwards referred to by the index returned from
+ * {@link #add(Version)}. Comparison and formatting work directly on the encoded form, so no {@link Version} object graph is kept on the
+ * heap for any of the stored versions. A {@link Version} is only materialized when requested through {@link #get(int)}.
+ * <p>
+ * On Java 22 and newer, the off-heap memory is managed through {@code MemorySegment}s and is freed as soon as the store is
+ * {@link #close() closed}. On older versions, direct {@link java.nio.ByteBuffer}s are used instead, which are freed once they are garbage
+ * collected.
+ * <p>
+ * This class is not thread-safe. Adding versions must not happen concurrently with any other operation, however once all versions have
+ * been added, the store may safely be read from multiple threads. Closing the store is visible to all readers, which fail with an
+ * {@link IllegalStateException} once they observe it, however the store must not be closed while a read is still in progress.
+ *
+ * <h2>Encoding</h2>
+ * Each version is encoded as:
+ * <ol>
+ *     <li>a flags byte, indicating if the core version is packed, if there is a pre-release, and if there is build metadata,</li>
+ *     <li>the length of the formatted version, as an int,</li>
+ *     <li>the end of the core version and the end of the pre-release in the formatted version, as ints,</li>
+ *     <li>the major, minor, and patch versions as longs, if they all fit in a long,</li>
+ *     <li>the formatted version, as ASCII.</li>
+ * </ol>
+ *
+ * @author solonovamax
+ */
+public final class VersionStore implements AutoCloseable {
+    private static final int DEFAULT_PAGE_SIZE = 1 << 22;
+
+    private static final byte FLAG_PACKED = 1;
+
+    private static final byte FLAG_PRE_RELEASE = 1 << 1;
+
+    private static final byte FLAG_BUILD_METADATA = 1 << 2;
+
+    private static final int FLAGS_OFFSET = 0;
+
+    private static final int LENGTH_OFFSET = 1;
+
+    private static final int CORE_END_OFFSET = 5;
+
+    private static final int PRE_RELEASE_END_OFFSET = 9;
+
+    private static final int HEADER_SIZE = 13;
+
+    private static final int PACKED_SIZE = 3 * Long.BYTES;
+
+    private static final char DOT = '.';
+
+    @NotNull
+    private final MemoryPages data;
+
+    @NotNull
+    private final MemoryPages index;
+
+    private final int indexSlotsPerPage;
+
+    private int size = 0;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Constructs a new empty version store.
+     */
+    public VersionStore() {
+        this(DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Constructs a new empty version store, which allocates off-heap memory in pages of the provided size.
+     *
+     * @param pageSize The size of a single page of off-heap memory, in bytes. Must be a positive multiple of 8.
+     * @throws IllegalArgumentException If the page size is not a positive multiple of 8.
+     */
+    public VersionStore(int pageSize) {
+        if (pageSize <= 0 || pageSize % Long.BYTES != 0)
+            throw new IllegalArgumentException(String.format("Page size must be a positive multiple of %d, but was %d.", Long.BYTES, pageSize));
+
+        this.data = new MemoryPages(pageSize);
+        this.index = new MemoryPages(pageSize);
+        this.indexSlotsPerPage = pageSize / Long.BYTES;
+    }
+
+    /**
+     * Adds a version to this store.
+     *
+     * @param version The version to add.
+     * @return The index of the added version.
+     */
+    public int add(@NotNull Version version) {
+        checkOpen();
+        if (this.size == Integer.MAX_VALUE)
+            throw new IllegalStateException("Version store is full.");
+
+        String formatted = version.getFormatted();
+        int coreEnd = version.getCoreVersion().getFormatted().length();
+        int preReleaseEnd = coreEnd + version.getPreRelease().getFormatted().length();
+
+        boolean packed = fitsInLong(version.getMajor()) && fitsInLong(version.getMinor()) && fitsInLong(version.getPatch());
+        byte flags = 0;
+        if (packed)
+            flags |= FLAG_PACKED;
+        if (preReleaseEnd != coreEnd)
+            flags |= FLAG_PRE_RELEASE;
+        if (preReleaseEnd != formatted.length())
+            flags |= FLAG_BUILD_METADATA;
+
+        long address = this.data.allocate(HEADER_SIZE + (packed ? PACKED_SIZE : 0) + formatted.length());
+        this.data.putByte(address + FLAGS_OFFSET, flags);
+        this.data.putInt(address + LENGTH_OFFSET, formatted.length());
+        this.data.putInt(address + CORE_END_OFFSET, coreEnd);
+        this.data.putInt(address + PRE_RELEASE_END_OFFSET, preReleaseEnd);
+
+        long textAddress = address + HEADER_SIZE;
+        if (packed) {
+            this.data.putLong(textAddress, version.getMajor().longValue());
+            this.data.putLong(textAddress + Long.BYTES, version.getMinor().longValue());
+            this.data.putLong(textAddress + 2 * Long.BYTES, version.getPatch().longValue());
+            textAddress += PACKED_SIZE;
+        }
+
+        for (int i = 0; i < formatted.length(); i++)
+            this.data.putByte(textAddress + i, (byte) formatted.charAt(i));
+
+        this.index.putLong(this.index.allocate(Long.BYTES), address);
+        return this.size++;
+    }
+
+    /**
+     * Parses a version and adds it to this store.
+     *
+     * @param version The version string to parse and add.
+     * @return The index of the added version.
+     * @throws ParseException If an exception occurred during the parsing of the version. If taking user input, the message from this
+     *                        exception is highly useful and should be returned to the user.
+     * @see Versions#parseVersion(String)
+     */
+    public int add(@NotNull CharSequence version) throws ParseException {
+        return add(Versions.parseVersion(version.toString()));
+    }
+
+    /**
+     * The number of versions in this store.
+     *
+     * @return The number of versions.
+     */
+    @Contract(pure = true)
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Materializes the version at the provided index.
+     * <p>
+     * The version is built from its encoded components and offsets, and is not parsed again.
+     *
+     * @param index The index of the version.
+     * @return A new {@link Version} equal to the version that was added at this index.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public Version get(int index) {
+        long address = address(index);
+        String formatted = formatted(address);
+        int coreEnd = this.data.getInt(address + CORE_END_OFFSET);
+        int preReleaseEnd = this.data.getInt(address + PRE_RELEASE_END_OFFSET);
+        byte flags = flags(address);
+
+        // the version is rebuilt from the encoded offsets, as the text is not necessarily parsable, such as for negative components
+        BigInteger major;
+        BigInteger minor;
+        BigInteger patch;
+        if ((flags & FLAG_PACKED) != 0) {
+            long packed = address + HEADER_SIZE;
+            major = BigInteger.valueOf(this.data.getLong(packed));
+            minor = BigInteger.valueOf(this.data.getLong(packed + Long.BYTES));
+            patch = BigInteger.valueOf(this.data.getLong(packed + 2 * Long.BYTES));
+        } else {
+            int majorEnd = formatted.indexOf(DOT);
+            int minorEnd = formatted.indexOf(DOT, majorEnd + 1);
+            major = new BigInteger(formatted.substring(0, majorEnd));
+            minor = new BigInteger(formatted.substring(majorEnd + 1, minorEnd));
+            patch = new BigInteger(formatted.substring(minorEnd + 1, coreEnd));
+        }
+
+        PreRelease preRelease = (flags & FLAG_PRE_RELEASE) != 0 ? PreRelease.of(formatted, coreEnd + 1, preReleaseEnd) :
+                                PreRelease.NULL;
+        BuildMetadata buildMetadata = (flags & FLAG_BUILD_METADATA) != 0 ?
+                                      BuildMetadata.of(formatted, preReleaseEnd + 1, formatted.length()) : BuildMetadata.NULL;
+        return Versions.getVersion(major, minor, patch, preRelease, buildMetadata);
+    }
+
+    /**
+     * The formatted version at the provided index, without materializing the version.
+     *
+     * @param index The index of the version.
+     * @return The version, formatted as per {@link Version#getFormatted()}.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public String getFormatted(int index) {
+        return formatted(address(index));
+    }
+
+    @NotNull
+    private String formatted(long address) {
+        byte[] bytes = new byte[this.data.getInt(address + LENGTH_OFFSET)];
+        this.data.getBytes(textAddress(address), bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Appends the formatted version at the provided index to a {@link StringBuilder}, without materializing the version.
+     *
+     * @param index   The index of the version.
+     * @param builder The builder to append to.
+     * @return The provided builder.
+     */
+    @NotNull
+    public StringBuilder appendFormatted(int index, @NotNull StringBuilder builder) {
+        long address = address(index);
+        long textAddress = textAddress(address);
+        int length = this.data.getInt(address + LENGTH_OFFSET);
+        builder.ensureCapacity(builder.length() + length);
+        for (int i = 0; i < length; i++)
+            builder.append((char) this.data.getByte(textAddress + i));
+        return builder;
+    }
+
+    /**
+     * Whether the version at the provided index has a pre-release.
+     *
+     * @param index The index of the version.
+     * @return {@code true} if the version has a pre-release, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public boolean isPreRelease(int index) {
+        return (flags(address(index)) & FLAG_PRE_RELEASE) != 0;
+    }
+
+    /**
+     * Whether the version at the provided index has build metadata.
+     *
+     * @param index The index of the version.
+     * @return {@code true} if the version has build metadata, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public boolean hasBuildMetadata(int index) {
+        return (flags(address(index)) & FLAG_BUILD_METADATA) != 0;
+    }
+
+    /**
+     * Compares the precedence of two stored versions, without materializing either of them.
+     * <p>
+     * This is consistent with {@link Version#compareTo(Version)}.
+     *
+     * @param first  The index of the first version.
+     * @param second The index of the second version.
+     * @return A negative integer, zero, or a positive integer as the first version is less than, equal to, or greater than the second
+     * version.
+     */
+    @Contract(pure = true)
+    public int compare(int first, int second) {
+        long a = address(first);
+        long b = address(second);
+
+        int coreComparison = compareCore(a, b);
+        if (coreComparison != 0)
+            return coreComparison;
+
+        return comparePreRelease(a, b);
+    }
+
+    /**
+     * The number of bytes of off-heap memory currently reserved by this store.
+     *
+     * @return The reserved size, in bytes.
+     */
+    @Contract(pure = true)
+    public long footprint() {
+        return this.data.footprint() + this.index.footprint();
+    }
+
+    /**
+     * Closes this store, releasing its off-heap memory.
+     * <p>
+     * Any further operations on this store will throw an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (this.closed)
+            return;
+
+        this.closed = true;
+        this.data.close();
+        this.index.close();
+    }
+
+    private int compareCore(long a, long b) {
+        if ((flags(a) & flags(b) & FLAG_PACKED) != 0) {
+            long packedA = a + HEADER_SIZE;
+            long packedB = b + HEADER_SIZE;
+            for (int i = 0; i < PACKED_SIZE; i += Long.BYTES) {
+                int comparison = Long.compare(this.data.getLong(packedA + i), this.data.getLong(packedB + i));
+                if (comparison != 0)
+                    return comparison;
+            }
+            return 0;
+        }
+
+        long textA = textAddress(a);
+        long textB = textAddress(b);
+        long endA = textA + this.data.getInt(a + CORE_END_OFFSET);
+        long endB = textB + this.data.getInt(b + CORE_END_OFFSET);
+        while (textA < endA) {
+            long componentEndA = indexOf(textA, endA);
+            long componentEndB = indexOf(textB, endB);
+
+            int comparison = compareNumeric(textA, componentEndA, textB, componentEndB);
+            if (comparison != 0)
+                return comparison;
+
+            textA = componentEndA + 1;
+            textB = componentEndB + 1;
+        }
+        return 0;
+    }
+
+    private int comparePreRelease(long a, long b) {
+        boolean preReleaseA = (flags(a) & FLAG_PRE_RELEASE) != 0;
+        boolean preReleaseB = (flags(b) & FLAG_PRE_RELEASE) != 0;
+        if (!preReleaseA)
+            return preReleaseB ? 1 : 0;
+        else if (!preReleaseB)
+            return -1;
+
+        // skip the '-'
+        long textA = textAddress(a) + this.data.getInt(a + CORE_END_OFFSET) + 1;
+        long textB = textAddress(b) + this.data.getInt(b + CORE_END_OFFSET) + 1;
+        long endA = textAddress(a) + this.data.getInt(a + PRE_RELEASE_END_OFFSET);
+        long endB = textAddress(b) + this.data.getInt(b + PRE_RELEASE_END_OFFSET);
+
+        while (textA < endA && textB < endB) {
+            long identifierEndA = indexOf(textA, endA);
+            long identifierEndB = indexOf(textB, endB);
+
+            boolean numericA = isNumeric(textA, identifierEndA);
+            boolean numericB = isNumeric(textB, identifierEndB);
+
+            int comparison;
+            if (numericA)
+                comparison = numericB ? compareNumeric(textA, identifierEndA, textB, identifierEndB) : -1;
+            else
+                comparison = numericB ? 1 : compareAscii(textA, identifierEndA, textB, identifierEndB);
+
+            if (comparison != 0)
+                return comparison;
+
+            textA = identifierEndA + 1;
+            textB = identifierEndB + 1;
+        }
+
+        // a larger set of identifiers has a higher precedence
+        return Boolean.compare(textA < endA, textB < endB);
+    }
+
+    private int compareNumeric(long startA, long endA, long startB, long endB) {
+        int lengthComparison = Identifiers.compareLengths(endA - startA, endB - startB);
+        return lengthComparison != 0 ? lengthComparison : compareAscii(startA, endA, startB, endB);
+    }
+
+    private int compareAscii(long startA, long endA, long startB, long endB) {
+        long lengthA = endA - startA;
+        long lengthB = endB - startB;
+        long length = Math.min(lengthA, lengthB);
+        for (long i = 0; i < length; i++) {
+            int comparison = this.data.getByte(startA + i) - this.data.getByte(startB + i);
+            if (comparison != 0)
+                return comparison;
+        }
+        return Long.compare(lengthA, lengthB);
+    }
+
+    private boolean isNumeric(long start, long end) {
+        for (long i = start; i < end; i++) {
+            byte value = this.data.getByte(i);
+            if (value < '0' || value > '9')
+                return false;
+        }
+        return true;
+    }
+
+    private long indexOf(long start, long end) {
+        long i = start;
+        while (i < end && this.data.getByte(i) != DOT)
+            i++;
+        return i;
+    }
+
+    private byte flags(long address) {
+        return this.data.getByte(address + FLAGS_OFFSET);
+    }
+
+    private long textAddress(long address) {
+        return address + HEADER_SIZE + ((flags(address) & FLAG_PACKED) != 0 ? PACKED_SIZE : 0);
+    }
+
+    private long address(int index) {
+        checkOpen();
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, this.size));
+
+        int page = index / this.indexSlotsPerPage;
+        int offset = (index % this.indexSlotsPerPage) * Long.BYTES;
+        return this.index.getLong(((long) page << 32) | offset);
+    }
+
+    private void checkOpen() {
+        if (this.closed)
+            throw new IllegalStateException("Version store has been closed.");
+    }
+
+    @Contract(pure = true)
+    private static boolean fitsInLong(@NotNull BigInteger value) {
+        return value.bitLength() < Long.SIZE;
+    }
+}
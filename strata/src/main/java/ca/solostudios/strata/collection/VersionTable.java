@@ -0,0 +1,671 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionTable.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.metrics.StrataEvents;
+import ca.solostudios.strata.parser.tokenizer.Char;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionCache;
+import ca.solostudios.strata.version.VersionRange;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * A columnar table of {@link Version}s.
+ * <p>
+ * Instead of storing {@link Version} objects, the major, minor, and patch versions are stored in parallel {@code long} arrays, alongside a
+ * {@code boolean} array of pre-release flags. The filters provided by this class are simple loops over these arrays, which the JIT is
+ * able to vectorize. The pre-release and build metadata are only kept as text for the rows which have them, so that {@link Version}s can
+ * be reconstructed at the boundaries through {@link #get(int)}, {@link #stream()}, or {@link #parallelStream()}.
+ * <p>
+ * Only versions where each of the major, minor, and patch versions fit in a {@code long} may be stored in a table.
+ * <p>
+ * This class is not thread-safe. Adding versions must not happen concurrently with any other operation, however once all versions have
+ * been added, the table may safely be read from multiple threads. Its iterators and spliterators are fail-fast, and throw a
+ * {@link ConcurrentModificationException} on a best-effort basis when a version is added while they are in use.
+ *
+ * @author solonovamax
+ */
+public final class VersionTable implements Iterable<Version> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long @NotNull [] major;
+
+    private long @NotNull [] minor;
+
+    private long @NotNull [] patch;
+
+    private boolean @NotNull [] preRelease;
+
+    /**
+     * The pre-release and build metadata of each row, formatted, or {@code null} if the row has neither.
+     */
+    private @Nullable String @NotNull [] suffix;
+
+    private int size = 0;
+
+    /**
+     * Constructs a new empty version table.
+     */
+    public VersionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty version table with the provided initial capacity.
+     *
+     * @param initialCapacity The initial number of rows the table can hold before growing.
+     * @throws IllegalArgumentException If the initial capacity is negative.
+     */
+    public VersionTable(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException(String.format("Illegal capacity: %d", initialCapacity));
+
+        this.major = new long[initialCapacity];
+        this.minor = new long[initialCapacity];
+        this.patch = new long[initialCapacity];
+        this.preRelease = new boolean[initialCapacity];
+        this.suffix = new String[initialCapacity];
+    }
+
+    /**
+     * Constructs a new version table containing the provided versions, in iteration order.
+     *
+     * @param versions The versions to add.
+     * @throws IllegalArgumentException If any of the versions has a major, minor, or patch version which does not fit in a {@code long}.
+     */
+    public VersionTable(@NotNull Collection<? extends Version> versions) {
+        this(versions.size());
+        for (Version version : versions)
+            add(version);
+    }
+
+    /**
+     * Adds a version to the end of this table.
+     *
+     * @param version The version to add.
+     * @return The row of the added version.
+     * @throws IllegalArgumentException If the version has a major, minor, or patch version which does not fit in a {@code long}.
+     */
+    public int add(@NotNull Version version) {
+        long major = toLong(version.getMajor(), "major", version);
+        long minor = toLong(version.getMinor(), "minor", version);
+        long patch = toLong(version.getPatch(), "patch", version);
+
+        if (this.size == this.major.length)
+            grow();
+
+        int row = this.size++;
+        this.major[row] = major;
+        this.minor[row] = minor;
+        this.patch[row] = patch;
+        this.preRelease[row] = !version.getPreRelease().isEmpty();
+
+        String suffix = version.getPreRelease().getFormatted() + version.getBuildMetadata().getFormatted();
+        this.suffix[row] = suffix.isEmpty() ? null : suffix;
+
+        return row;
+    }
+
+    /**
+     * Adds all versions in a block of ASCII text to the end of this table, one version per line.
+     * <p>
+     * Lines are separated by {@code \n} or {@code \r\n}, and empty lines are skipped. The bytes are classified and the major, minor, and
+     * patch versions are converted directly from the input, without creating {@link Version}s; only the pre-release and build metadata of
+     * the versions which have them are decoded to strings. On Java 17 and newer, this uses the Vector API when the
+     * {@code jdk.incubator.vector} module is available.
+     *
+     * @param input The ASCII text.
+     * @param from  The start of the text, inclusive.
+     * @param to    The end of the text, exclusive.
+     * @return The number of versions added.
+     * @throws ParseException            If a line is not a valid version, or contains a nul character. The versions of all preceding lines
+     *                                   will have been added.
+     * @throws IllegalArgumentException  If a version has a major, minor, or patch version which does not fit in a {@code long}. The
+     *                                   versions of all preceding lines will have been added.
+     * @throws IndexOutOfBoundsException If the range is not inside the input.
+     */
+    public int addAll(byte @NotNull [] input, int from, int to) throws ParseException {
+        if (from < 0 || to > input.length || from > to)
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) is out of bounds for length %d", from, to, input.length));
+
+        int added = 0;
+        int position = from;
+        while (position < to) {
+            int end = AsciiKernels.indexOfNonVersionCharacter(input, position, to);
+
+            int next;
+            if (end == to)
+                next = to;
+            else if (input[end] == '\n')
+                next = end + 1;
+            else if (input[end] == '\r' && end + 1 < to && input[end + 1] == '\n')
+                next = end + 2;
+            else
+                throw invalidLine(input, position, lineEnd(input, end, to));
+
+            if (end != position) {
+                addLine(input, position, end);
+                added++;
+            }
+            position = next;
+        }
+        return added;
+    }
+
+    /**
+     * The number of rows in this table.
+     *
+     * @return The number of rows.
+     */
+    @Contract(pure = true)
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * The major version of the provided row.
+     *
+     * @param row The row.
+     * @return The major version.
+     */
+    @Contract(pure = true)
+    public long getMajor(int row) {
+        checkRow(row);
+        return this.major[row];
+    }
+
+    /**
+     * The minor version of the provided row.
+     *
+     * @param row The row.
+     * @return The minor version.
+     */
+    @Contract(pure = true)
+    public long getMinor(int row) {
+        checkRow(row);
+        return this.minor[row];
+    }
+
+    /**
+     * The patch version of the provided row.
+     *
+     * @param row The row.
+     * @return The patch version.
+     */
+    @Contract(pure = true)
+    public long getPatch(int row) {
+        checkRow(row);
+        return this.patch[row];
+    }
+
+    /**
+     * Whether the version of the provided row has a pre-release.
+     *
+     * @param row The row.
+     * @return {@code true} if the version has a pre-release, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public boolean isPreRelease(int row) {
+        checkRow(row);
+        return this.preRelease[row];
+    }
+
+    /**
+     * Materializes the version of the provided row.
+     *
+     * @param row The row.
+     * @return A new {@link Version} equal to the version that was added at this row.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public Version get(int row) {
+        checkRow(row);
+        return materialize(row);
+    }
+
+    /**
+     * Selects all rows with the provided major version.
+     *
+     * @param major The major version.
+     * @return A bit set where the bit of each matching row is set.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public BitSet selectMajor(long major) {
+        long[] words = newSelection();
+        for (int i = 0; i < this.size; i++)
+            words[i >>> 6] |= (this.major[i] == major ? 1L : 0L) << i;
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Selects all rows which have a pre-release.
+     *
+     * @return A bit set where the bit of each matching row is set.
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public BitSet selectPreReleases() {
+        long[] words = newSelection();
+        for (int i = 0; i < this.size; i++)
+            words[i >>> 6] |= (this.preRelease[i] ? 1L : 0L) << i;
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Selects all rows which do not have a pre-release.
+     *
+     * @return A bit set where the bit of each matching row is set.
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public BitSet selectReleases() {
+        long[] words = newSelection();
+        for (int i = 0; i < this.size; i++)
+            words[i >>> 6] |= (this.preRelease[i] ? 0L : 1L) << i;
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Selects all rows which satisfy the provided range.
+     * <p>
+     * This is consistent with {@link VersionRange#isSatisfiedBy(Version)}.
+     *
+     * @param range The range.
+     * @return A bit set where the bit of each matching row is set.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public BitSet select(@NotNull VersionRange range) {
+        Object event = StrataEvents.beginRangeMatch();
+        long[] words = newSelection();
+
+        Version start = range.getStartVersion();
+        Version end = range.getEndVersion();
+        // an unbounded start is lower than all rows, and an unbounded end greater than all rows
+        Bound startBound = start == null ? Bound.LOWEST : new Bound(start);
+        Bound endBound = end == null ? Bound.HIGHEST : new Bound(end);
+        int startLimit = start == null || range.isStartInclusive() ? 0 : 1;
+        int endLimit = end == null || range.isEndInclusive() ? 0 : -1;
+
+        for (int i = 0; i < this.size; i++) {
+            boolean matches = compareToBound(i, startBound) >= startLimit && compareToBound(i, endBound) <= endLimit;
+            words[i >>> 6] |= (matches ? 1L : 0L) << i;
+        }
+        BitSet selection = BitSet.valueOf(words);
+
+        if (event != null)
+            StrataEvents.endRangeMatch(event, this.size, selection.cardinality());
+        return selection;
+    }
+
+    /**
+     * Returns an iterator over the versions in this table, materializing each version as it is reached.
+     *
+     * @return An iterator over the versions in this table.
+     */
+    @NotNull
+    @Override
+    public Iterator<Version> iterator() {
+        return new Iterator<Version>() {
+            private int row = 0;
+
+            private final int expectedSize = VersionTable.this.size;
+
+            @Override
+            public boolean hasNext() {
+                return this.row < this.expectedSize;
+            }
+
+            @Override
+            public Version next() {
+                checkForModification(this.expectedSize);
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return materialize(this.row++);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the versions in this table, materializing each version as it is reached.
+     * <p>
+     * The spliterator splits evenly on the rows of the table, and is therefore well suited for parallel, fork-join processing. It is
+     * fail-fast: if a version is added to this table after the spliterator was created, it throws a
+     * {@link ConcurrentModificationException} on a best-effort basis.
+     *
+     * @return A spliterator over the versions in this table.
+     */
+    @NotNull
+    @Override
+    public Spliterator<Version> spliterator() {
+        return new RowSpliterator(0, this.size, this.size);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} of the versions in this table.
+     *
+     * @return A sequential stream of the versions in this table.
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public Stream<Version> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel {@link Stream} of the versions in this table.
+     *
+     * @return A parallel stream of the versions in this table.
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public Stream<Version> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Materializes all the versions in this table.
+     *
+     * @return A new list of the versions in this table.
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public List<Version> toList() {
+        List<Version> versions = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++)
+            versions.add(materialize(i));
+        return versions;
+    }
+
+    @NotNull
+    private Version materialize(int row) {
+        String suffix = this.suffix[row];
+        if (suffix == null)
+            return VersionCache.release(this.major[row], this.minor[row], this.patch[row]);
+        else
+            return Versions.parseVersion(String.format("%d.%d.%d%s", this.major[row], this.minor[row], this.patch[row], suffix));
+    }
+
+    private int compareToBound(int row, @NotNull Bound bound) {
+        int comparison = bound.compareComponent(Bound.MAJOR, this.major[row]);
+        if (comparison != 0)
+            return comparison;
+        comparison = bound.compareComponent(Bound.MINOR, this.minor[row]);
+        if (comparison != 0)
+            return comparison;
+        return bound.compareComponent(Bound.PATCH, this.patch[row]);
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, this.major.length + (this.major.length >> 1));
+        this.major = Arrays.copyOf(this.major, capacity);
+        this.minor = Arrays.copyOf(this.minor, capacity);
+        this.patch = Arrays.copyOf(this.patch, capacity);
+        this.preRelease = Arrays.copyOf(this.preRelease, capacity);
+        this.suffix = Arrays.copyOf(this.suffix, capacity);
+    }
+
+    /**
+     * Adds a single line, which only contains characters allowed in versions.
+     */
+    private void addLine(byte @NotNull [] input, int from, int to) throws ParseException {
+        int majorEnd = AsciiKernels.indexOfNonDigit(input, from, to);
+        int minorEnd = AsciiKernels.indexOfNonDigit(input, majorEnd + 1, to);
+        int patchEnd = AsciiKernels.indexOfNonDigit(input, minorEnd + 1, to);
+
+        if (!isNumber(input, from, majorEnd, to, false) ||
+            !isNumber(input, majorEnd + 1, minorEnd, to, false) ||
+            !isNumber(input, minorEnd + 1, patchEnd, to, true))
+            throw invalidLine(input, from, to);
+
+        String suffix = null;
+        if (patchEnd != to) {
+            String line = new String(input, from, to - from, StandardCharsets.US_ASCII);
+            if (!Versions.isValidVersion(line))
+                throw invalidLine(input, from, to);
+            suffix = line.substring(patchEnd - from);
+        }
+
+        long major = AsciiKernels.parseDigits(input, from, majorEnd);
+        long minor = AsciiKernels.parseDigits(input, majorEnd + 1, minorEnd);
+        long patch = AsciiKernels.parseDigits(input, minorEnd + 1, patchEnd);
+        if (major < 0 || minor < 0 || patch < 0) {
+            String component = major < 0 ? "major" : minor < 0 ? "minor" : "patch";
+            throw new IllegalArgumentException(String.format("The %s version of '%s' is too large to be stored in a version table.",
+                                                             component, new String(input, from, to - from, StandardCharsets.US_ASCII)));
+        }
+
+        if (this.size == this.major.length)
+            grow();
+
+        int row = this.size++;
+        this.major[row] = major;
+        this.minor[row] = minor;
+        this.patch[row] = patch;
+        this.preRelease[row] = suffix != null && suffix.charAt(0) == '-';
+        this.suffix[row] = suffix;
+    }
+
+    /**
+     * Checks that {@code [start, end)} is a number without leading zeros, followed by a dot, or if it is the patch version, by the end of
+     * the line, a pre-release, or build metadata.
+     */
+    @Contract(pure = true)
+    private static boolean isNumber(byte @NotNull [] input, int start, int end, int lineEnd, boolean patch) {
+        if (start >= end || (input[start] == '0' && end - start > 1))
+            return false;
+        if (end == lineEnd)
+            return patch;
+        return patch ? input[end] == '-' || input[end] == '+' : input[end] == '.';
+    }
+
+    @Contract(pure = true)
+    private static int lineEnd(byte @NotNull [] input, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (input[i] == '\n')
+                return i > from && input[i - 1] == '\r' ? i - 1 : i;
+        }
+        return to;
+    }
+
+    /**
+     * Builds the exception for an invalid line, by running it through the version parser so that the message and position are identical
+     * to it.
+     * <p>
+     * The parser stops at a nul character, so it accepts a line with a valid version followed by a nul character. A line must be a
+     * version in full, so such a line is instead rejected at the nul character.
+     */
+    @NotNull
+    private static ParseException invalidLine(byte @NotNull [] input, int from, int to) {
+        String line = new String(input, from, to - from, StandardCharsets.US_ASCII);
+        try {
+            Versions.parseVersion(line);
+        } catch (ParseException e) {
+            return e;
+        }
+        return new ParseException("Expected end of version. Illegal character found.", line, new Char('\0', line.indexOf('\0')),
+                                  ParseException.Kind.ILLEGAL_CHARACTER);
+    }
+
+    private long @NotNull [] newSelection() {
+        return new long[(this.size + 63) >>> 6];
+    }
+
+    /**
+     * Rows are only ever appended, so the size of this table changes on every modification.
+     */
+    private void checkForModification(int expectedSize) {
+        if (this.size != expectedSize)
+            throw new ConcurrentModificationException();
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= this.size)
+            throw new IndexOutOfBoundsException(String.format("Row: %d, Size: %d", row, this.size));
+    }
+
+    @Contract(pure = true)
+    private static long toLong(@NotNull BigInteger value, @NotNull String component, @NotNull Version version) {
+        if (value.bitLength() >= Long.SIZE)
+            throw new IllegalArgumentException(String.format("The %s version of '%s' is too large to be stored in a version table.",
+                                                             component, version.getFormatted()));
+        return value.longValue();
+    }
+
+    /**
+     * A bound of a range, with the components of its version stored as longs.
+     * <p>
+     * Rows can hold any {@code long}, including negative ones, so a component too large for a {@code long} cannot be stored as one. It is
+     * instead flagged as overflowing, with the sign of the component, and is then lower or greater than the same component of every row.
+     */
+    private static final class Bound {
+        private static final int MAJOR = 0;
+
+        private static final int MINOR = 1;
+
+        private static final int PATCH = 2;
+
+        private static final Bound LOWEST = new Bound(new long[3], new int[]{ -1, 0, 0 });
+
+        private static final Bound HIGHEST = new Bound(new long[3], new int[]{ 1, 0, 0 });
+
+        private final long @NotNull [] components;
+
+        /**
+         * The sign of each component too large for a {@code long}, or {@code 0} for the components stored in {@link #components}.
+         */
+        private final int @NotNull [] overflow;
+
+        private Bound(@NotNull Version version) {
+            this(new long[3], new int[3]);
+            set(MAJOR, version.getMajor());
+            set(MINOR, version.getMinor());
+            set(PATCH, version.getPatch());
+        }
+
+        private Bound(long @NotNull [] components, int @NotNull [] overflow) {
+            this.components = components;
+            this.overflow = overflow;
+        }
+
+        private void set(int component, @NotNull BigInteger value) {
+            if (value.bitLength() < Long.SIZE)
+                this.components[component] = value.longValue();
+            else
+                this.overflow[component] = value.signum();
+        }
+
+        /**
+         * Compares a component of a row to the same component of this bound.
+         */
+        @Contract(pure = true)
+        private int compareComponent(int component, long value) {
+            int overflow = this.overflow[component];
+            return overflow != 0 ? -overflow : Long.compare(value, this.components[component]);
+        }
+    }
+
+    /**
+     * A spliterator over a range of rows of this table.
+     */
+    private final class RowSpliterator implements Spliterator<Version> {
+        private int row;
+
+        private final int end;
+
+        private final int expectedSize;
+
+        private RowSpliterator(int row, int end, int expectedSize) {
+            this.row = row;
+            this.end = end;
+            this.expectedSize = expectedSize;
+        }
+
+        @Override
+        public boolean tryAdvance(@NotNull Consumer<? super Version> action) {
+            if (this.row >= this.end)
+                return false;
+
+            action.accept(materialize(this.row++));
+            checkForModification(this.expectedSize);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(@NotNull Consumer<? super Version> action) {
+            for (; this.row < this.end; this.row++)
+                action.accept(materialize(this.row));
+            checkForModification(this.expectedSize);
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<Version> trySplit() {
+            int middle = (this.row + this.end) >>> 1;
+            if (middle <= this.row)
+                return null;
+
+            RowSpliterator prefix = new RowSpliterator(this.row, middle, this.expectedSize);
+            this.row = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.end - this.row;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+}
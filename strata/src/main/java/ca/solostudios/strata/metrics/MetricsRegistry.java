@@ -0,0 +1,87 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file MetricsRegistry.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.metrics;
+
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ServiceLoader;
+
+
+/**
+ * Holds the installed {@link StrataMetrics} implementation.
+ * <p>
+ * On first use, the first implementation registered through {@link ServiceLoader} is installed, if there is any. On the class path,
+ * implementations must be registered in {@code META-INF/services}, as the service loader, which loads over a hundred classes, only runs if
+ * that file exists. When this library is a named module on Java 17 or newer, a {@code provides} clause in a {@code module-info} also
+ * registers them.
+ *
+ * @author solonovamax
+ */
+public final class MetricsRegistry {
+    @Nullable
+    private static volatile StrataMetrics metrics = MetricsService.load();
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Installs a metrics implementation, replacing the current one.
+     *
+     * @param metrics The metrics implementation.
+     */
+    public static void install(@NotNull StrataMetrics metrics) {
+        MetricsRegistry.metrics = metrics;
+    }
+
+    /**
+     * Removes the installed metrics implementation, disabling instrumentation.
+     */
+    public static void uninstall() {
+        MetricsRegistry.metrics = null;
+    }
+
+    /**
+     * The installed metrics implementation.
+     * <p>
+     * Instrumented code reads this once per operation, and skips taking any timings if it is {@code null}. This is only meant to be called
+     * by the instrumented code of this library.
+     *
+     * @return The installed metrics implementation, or {@code null} if instrumentation is disabled.
+     */
+    @Nullable
+    @ApiStatus.Internal
+    @Contract(pure = true)
+    public static StrataMetrics active() {
+        return metrics;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file StrataEvents.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.metrics;
+
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Hooks emitting JDK Flight Recorder events from the parsers and collections.
+ * <p>
+ * Each hook comes in pairs: a {@code begin} method returning an opaque event handle, and an {@code end} method completing the event with
+ * its outcome. The handle is {@code null} when the event is disabled, in which case callers skip the {@code end} method entirely.
+ * <p>
+ * This implementation never emits events, and every handle is {@code null}. On Java 17 and newer, the multi-release jar replaces it with
+ * an implementation that emits the events in the {@code Strata} category, all of which are disabled by default and must be enabled in
+ * the recording settings.
+ *
+ * @author solonovamax
+ */
+public final class StrataEvents {
+    private StrataEvents() {
+    }
+
+    /**
+     * Begins a version parse event.
+     *
+     * @return The event handle, or {@code null} if the event is disabled.
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Object beginVersionParse() {
+        return null;
+    }
+
+    /**
+     * Ends a version parse event.
+     *
+     * @param event       The event handle returned by {@link #beginVersionParse()}.
+     * @param inputLength The length of the parsed string.
+     * @param success     {@code true} if the string was parsed, {@code false} if it was rejected.
+     */
+    public static void endVersionParse(@NotNull Object event, int inputLength, boolean success) {
+    }
+
+    /**
+     * Begins a version range parse event.
+     *
+     * @return The event handle, or {@code null} if the event is disabled.
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Object beginVersionRangeParse() {
+        return null;
+    }
+
+    /**
+     * Ends a version range parse event.
+     *
+     * @param event       The event handle returned by {@link #beginVersionRangeParse()}.
+     * @param inputLength The length of the parsed string.
+     * @param success     {@code true} if the string was parsed, {@code false} if it was rejected.
+     */
+    public static void endVersionRangeParse(@NotNull Object event, int inputLength, boolean success) {
+    }
+
+    /**
+     * Begins an event for matching a batch of versions against a range.
+     *
+     * @return The event handle, or {@code null} if the event is disabled.
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Object beginRangeMatch() {
+        return null;
+    }
+
+    /**
+     * Ends an event for matching a batch of versions against a range.
+     *
+     * @param event      The event handle returned by {@link #beginRangeMatch()}.
+     * @param batchSize  The number of versions matched against the range.
+     * @param matchCount The number of versions which satisfied the range.
+     */
+    public static void endRangeMatch(@NotNull Object event, int batchSize, int matchCount) {
+    }
+
+    /**
+     * Begins a cache access event.
+     *
+     * @return The event handle, or {@code null} if the event is disabled.
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Object beginCacheAccess() {
+        return null;
+    }
+
+    /**
+     * Ends a cache access event.
+     *
+     * @param event The event handle returned by {@link #beginCacheAccess()}.
+     * @param cache The cache which was accessed.
+     * @param hit   {@code true} if the cache held the requested value, {@code false} otherwise.
+     */
+    public static void endCacheAccess(@NotNull Object event, @NotNull StrataMetrics.Cache cache, boolean hit) {
+    }
+}
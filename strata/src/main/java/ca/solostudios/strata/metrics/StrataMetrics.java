@@ -0,0 +1,106 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file StrataMetrics.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.metrics;
+
+
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * A service provider interface receiving metrics about parsing and matching versions.
+ * <p>
+ * Implementations are installed either through {@link MetricsRegistry#install(StrataMetrics)}, or by registering them as a
+ * {@link java.util.ServiceLoader service} for this interface. While no implementation is installed, no timings are taken and the
+ * instrumented methods only pay for a single field read.
+ * <p>
+ * Implementations are called from whichever thread is parsing, and must therefore be thread safe. They should also be cheap, as they
+ * are called for every instrumented operation. {@link StripedMetrics} is a ready-made implementation backed by striped counters.
+ *
+ * @author solonovamax
+ * @see MetricsRegistry
+ * @see StripedMetrics
+ */
+public interface StrataMetrics {
+    /**
+     * Called when an operation completed successfully.
+     *
+     * @param operation     The operation.
+     * @param durationNanos The time the operation took, in nanoseconds.
+     */
+    default void onSuccess(@NotNull Operation operation, long durationNanos) {
+    }
+
+    /**
+     * Called when an operation failed with a {@link ParseException}.
+     *
+     * @param operation     The operation.
+     * @param kind          The kind of failure, as reported by {@link ParseException#getKind()}.
+     * @param durationNanos The time the operation took until it failed, in nanoseconds.
+     */
+    default void onFailure(@NotNull Operation operation, @NotNull ParseException.Kind kind, long durationNanos) {
+    }
+
+    /**
+     * Called when a cache is consulted.
+     *
+     * @param cache The cache.
+     * @param hit   {@code true} if the cache held the requested value, {@code false} otherwise.
+     */
+    default void onCacheAccess(@NotNull Cache cache, boolean hit) {
+    }
+
+    /**
+     * The instrumented operations.
+     */
+    enum Operation {
+        /**
+         * {@link ca.solostudios.strata.Versions#parseVersion(String)}.
+         */
+        PARSE_VERSION,
+        /**
+         * {@link ca.solostudios.strata.Versions#parseVersionRange(String)}.
+         */
+        PARSE_VERSION_RANGE,
+        /**
+         * {@link ca.solostudios.strata.version.VersionRange#isSatisfiedBy(ca.solostudios.strata.version.Version)}.
+         */
+        IS_SATISFIED_BY,
+    }
+
+    /**
+     * The instrumented caches.
+     */
+    enum Cache {
+        /**
+         * The shared release versions of {@link ca.solostudios.strata.version.VersionCache}.
+         */
+        RELEASE_VERSIONS,
+    }
+}
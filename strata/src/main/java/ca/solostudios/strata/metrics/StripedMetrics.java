@@ -0,0 +1,192 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file StripedMetrics.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.metrics;
+
+
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A {@link StrataMetrics} implementation that aggregates everything into striped {@link LongAdder} counters, so that threads parsing
+ * concurrently do not contend on them.
+ * <p>
+ * Latencies are recorded in a histogram with power-of-two buckets: bucket {@code i} counts the operations which took at least
+ * {@code 2^(i - 1)} and less than {@code 2^i} nanoseconds, with bucket {@code 0} counting those that took no measurable time.
+ *
+ * @author solonovamax
+ */
+public final class StripedMetrics implements StrataMetrics {
+    /**
+     * The number of buckets in each latency histogram.
+     */
+    public static final int HISTOGRAM_BUCKETS = Long.SIZE;
+
+    private static final int OPERATIONS = Operation.values().length;
+
+    private static final int FAILURE_KINDS = ParseException.Kind.values().length;
+
+    private static final int CACHES = Cache.values().length;
+
+    @NotNull
+    private final LongAdder @NotNull [] successes = adders(OPERATIONS);
+
+    @NotNull
+    private final LongAdder @NotNull [] failures = adders(OPERATIONS * FAILURE_KINDS);
+
+    @NotNull
+    private final LongAdder @NotNull [] latencies = adders(OPERATIONS * HISTOGRAM_BUCKETS);
+
+    @NotNull
+    private final LongAdder @NotNull [] cacheHits = adders(CACHES);
+
+    @NotNull
+    private final LongAdder @NotNull [] cacheMisses = adders(CACHES);
+
+    @Override
+    public void onSuccess(@NotNull Operation operation, long durationNanos) {
+        this.successes[operation.ordinal()].increment();
+        recordLatency(operation, durationNanos);
+    }
+
+    @Override
+    public void onFailure(@NotNull Operation operation, @NotNull ParseException.Kind kind, long durationNanos) {
+        this.failures[operation.ordinal() * FAILURE_KINDS + kind.ordinal()].increment();
+        recordLatency(operation, durationNanos);
+    }
+
+    @Override
+    public void onCacheAccess(@NotNull Cache cache, boolean hit) {
+        (hit ? this.cacheHits : this.cacheMisses)[cache.ordinal()].increment();
+    }
+
+    /**
+     * The number of times an operation was performed, whether it succeeded or not.
+     *
+     * @param operation The operation.
+     * @return The number of times the operation was performed.
+     */
+    @Contract(pure = true)
+    public long getCount(@NotNull Operation operation) {
+        return getSuccessCount(operation) + getFailureCount(operation);
+    }
+
+    /**
+     * The number of times an operation succeeded.
+     *
+     * @param operation The operation.
+     * @return The number of successes.
+     */
+    @Contract(pure = true)
+    public long getSuccessCount(@NotNull Operation operation) {
+        return this.successes[operation.ordinal()].sum();
+    }
+
+    /**
+     * The number of times an operation failed.
+     *
+     * @param operation The operation.
+     * @return The number of failures, of any kind.
+     */
+    @Contract(pure = true)
+    public long getFailureCount(@NotNull Operation operation) {
+        long count = 0;
+        for (ParseException.Kind kind : ParseException.Kind.values())
+            count += getFailureCount(operation, kind);
+        return count;
+    }
+
+    /**
+     * The number of times an operation failed with a specific kind of failure.
+     *
+     * @param operation The operation.
+     * @param kind      The kind of failure.
+     * @return The number of failures of that kind.
+     */
+    @Contract(pure = true)
+    public long getFailureCount(@NotNull Operation operation, @NotNull ParseException.Kind kind) {
+        return this.failures[operation.ordinal() * FAILURE_KINDS + kind.ordinal()].sum();
+    }
+
+    /**
+     * A snapshot of the latency histogram of an operation.
+     *
+     * @param operation The operation.
+     * @return The count of each of the {@link #HISTOGRAM_BUCKETS} buckets, as described in {@link StripedMetrics}.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public long @NotNull [] getLatencyHistogram(@NotNull Operation operation) {
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++)
+            histogram[i] = this.latencies[operation.ordinal() * HISTOGRAM_BUCKETS + i].sum();
+        return histogram;
+    }
+
+    /**
+     * The fraction of accesses to a cache which were hits.
+     *
+     * @param cache The cache.
+     * @return The hit ratio, between {@code 0} and {@code 1}, or {@link Double#NaN} if the cache was never accessed.
+     */
+    @Contract(pure = true)
+    public double getCacheHitRatio(@NotNull Cache cache) {
+        long hits = this.cacheHits[cache.ordinal()].sum();
+        long total = hits + this.cacheMisses[cache.ordinal()].sum();
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+
+    /**
+     * Resets all counters to zero.
+     * <p>
+     * Operations recorded while resetting may or may not be counted.
+     */
+    public void reset() {
+        for (LongAdder[] adders : new LongAdder[][]{ this.successes, this.failures, this.latencies, this.cacheHits, this.cacheMisses }) {
+            for (LongAdder adder : adders)
+                adder.reset();
+        }
+    }
+
+    private void recordLatency(@NotNull Operation operation, long durationNanos) {
+        int bucket = Long.SIZE - Long.numberOfLeadingZeros(Math.max(durationNanos, 0));
+        this.latencies[operation.ordinal() * HISTOGRAM_BUCKETS + Math.min(bucket, HISTOGRAM_BUCKETS - 1)].increment();
+    }
+
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    private static LongAdder @NotNull [] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++)
+            adders[i] = new LongAdder();
+        return adders;
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file VersionParser.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -29,21 +29,20 @@
 package ca.solostudios.strata.parser;
 
 
+import ca.solostudios.strata.metrics.StrataEvents;
 import ca.solostudios.strata.parser.tokenizer.Char;
-import ca.solostudios.strata.parser.tokenizer.LookaheadReader;
+import ca.solostudios.strata.parser.tokenizer.CharClass;
+import ca.solostudios.strata.parser.tokenizer.LookaheadCharSequence;
 import ca.solostudios.strata.parser.tokenizer.ParseException;
 import ca.solostudios.strata.version.BuildMetadata;
 import ca.solostudios.strata.version.CoreVersion;
 import ca.solostudios.strata.version.PreRelease;
-import ca.solostudios.strata.version.PreReleaseIdentifier;
 import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionCache;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.StringReader;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
 
 
 /**
@@ -51,6 +50,9 @@ import java.util.List;
  * <p>
  * Constructed with the string to parse, {@link VersionParser#parse()} must be invoked to parse the version.
  * This method returns the parsed version.
+ * <p>
+ * A parser may be reused for any number of strings through {@link #reset(CharSequence)}, which avoids reallocating its input reader.
+ * Parsers are not thread safe; {@link ca.solostudios.strata.Versions} keeps one per thread.
  *
  * <p><br><br>
  * The Semantic Versioning spec is provided below:
@@ -133,20 +135,46 @@ public final class VersionParser {
     private static final char DASH = '-';
 
     @NotNull
-    private final LookaheadReader input;
+    private final LookaheadCharSequence input;
 
     @NotNull
-    private final String versionString;
+    private CharSequence versionString;
+
+    /**
+     * Constructs a new version parser with no string to parse.
+     * <p>
+     * {@link #reset(CharSequence)} must be invoked before the parser is used.
+     */
+    @Contract(pure = true)
+    public VersionParser() {
+        this("");
+    }
 
     /**
      * Constructs a new version parser with the provided string to parse.
      *
      * @param versionString The version string to parse.
      */
-  @Contract(pure = true)
-  public VersionParser(@NotNull String versionString) {
-        this.input = new LookaheadReader(new StringReader(versionString));
+    @Contract(pure = true)
+    public VersionParser(@NotNull String versionString) {
+        this.input = new LookaheadCharSequence(versionString);
+        this.versionString = versionString;
+    }
+
+    /**
+     * Resets this parser to parse a new version string.
+     * <p>
+     * The sequence must not be modified until {@link #parse()} returns.
+     *
+     * @param versionString The version string to parse.
+     * @return This parser.
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public VersionParser reset(@NotNull CharSequence versionString) {
+        this.input.reset(versionString);
         this.versionString = versionString;
+        return this;
     }
 
     /**
@@ -159,6 +187,22 @@ public final class VersionParser {
     @NotNull
     @Contract(value = "-> new", pure = true)
     public Version parse() throws ParseException {
+        Object event = StrataEvents.beginVersionParse();
+        if (event == null)
+            return parseVersion();
+
+        try {
+            Version version = parseVersion();
+            StrataEvents.endVersionParse(event, this.versionString.length(), true);
+            return version;
+        } catch (ParseException e) {
+            StrataEvents.endVersionParse(event, this.versionString.length(), false);
+            throw e;
+        }
+    }
+
+    @NotNull
+    private Version parseVersion() throws ParseException {
         CoreVersion coreVersion = parseCoreVersion();
         PreRelease preRelease = PreRelease.NULL;
         BuildMetadata buildMetadata = BuildMetadata.NULL;
@@ -180,84 +224,95 @@ public final class VersionParser {
         if (next.isEndOfInput())
             return new Version(coreVersion, preRelease, buildMetadata);
         else
-            throw new ParseException("Expected end of version. Illegal character found.", this.versionString, next);
+            throw new ParseException("Expected end of version. Illegal character found.", this.versionString.toString(), next,
+                                     ParseException.Kind.ILLEGAL_CHARACTER);
     }
 
     @NotNull
     private CoreVersion parseCoreVersion() throws ParseException {
-        BigInteger major = new BigInteger(consumeNumber());
+        BigInteger major = consumeComponent();
         consumeCharacter(DOT);
-        BigInteger minor = new BigInteger(consumeNumber());
+        BigInteger minor = consumeComponent();
         consumeCharacter(DOT);
-        BigInteger patch = new BigInteger(consumeNumber());
-        return new CoreVersion(major, minor, patch);
+        BigInteger patch = consumeComponent();
+        return VersionCache.coreVersion(major, minor, patch);
     }
 
     @NotNull
     private PreRelease parsePreRelease() throws ParseException {
-        List<PreReleaseIdentifier> identifiers = new ArrayList<>();
+        int start = this.input.current().getPos();
 
-        identifiers.add(parsePreReleaseIdentifier());
+        scanPreReleaseIdentifier();
 
         while (this.input.current().is('.')) {
             this.input.consume();
 
-            identifiers.add(parsePreReleaseIdentifier());
+            scanPreReleaseIdentifier();
         }
 
-        return new PreRelease(identifiers);
+        return PreRelease.of(this.versionString, start, this.input.current().getPos());
     }
 
-    @NotNull
-    private PreReleaseIdentifier parsePreReleaseIdentifier() throws ParseException {
+    private void scanPreReleaseIdentifier() throws ParseException {
         if (lookaheadAlphaNumeric())
-            return new PreReleaseIdentifier.AlphaNumericalPreReleaseIdentifier(consumeAlphaNumeric());
+            scanAlphaNumeric();
         else
-            return new PreReleaseIdentifier.NumericalPreReleaseIdentifier(new BigInteger(consumeNumber()));
+            scanNumber();
     }
 
     @NotNull
     private BuildMetadata parseBuildMetadata() throws ParseException {
-        StringBuilder sb = new StringBuilder();
+        int start = this.input.current().getPos();
         if (!(this.input.current().isAlphaNumeric()))
-            throw new ParseException("Alpha-Numeric identifier expected.", this.versionString, this.input.current());
+            throw new ParseException("Alpha-Numeric identifier expected.", this.versionString.toString(), this.input.current(),
+                                     ParseException.Kind.MISSING_IDENTIFIER);
 
+        Char consumed;
         do {
-            Char consumed = this.input.consume();
+            consumed = this.input.consume();
             if (consumed.is(DOT)) {
                 if (this.input.current().is(DOT))
-                    throw new ParseException("Alpha-Numeric identifier expected, but found period.", this.versionString, this.input.current());
+                    throw new ParseException("Alpha-Numeric identifier expected, but found period.", this.versionString.toString(), this.input.current(),
+                                             ParseException.Kind.MISSING_IDENTIFIER);
                 if (this.input.current().isEndOfInput())
-                    throw new ParseException("Alpha-Numeric identifier expected, but found end of input.", this.versionString, this.input.current());
+                    throw new ParseException("Alpha-Numeric identifier expected, but found end of input.", this.versionString.toString(), this.input.current(),
+                                             ParseException.Kind.MISSING_IDENTIFIER);
             }
+        } while (this.input.current().hasClass(CharClass.ALPHANUMERIC | CharClass.DOT));
 
-            sb.append(consumed.getValue());
-        } while (this.input.current().isAlphaNumeric() || this.input.current().is(DOT));
+        if (consumed.is(DOT)) // a period followed by a character that cannot start an identifier
+            throw new ParseException("Expected end of version. Illegal character found.", this.versionString.toString(), this.input.current(),
+                                     ParseException.Kind.ILLEGAL_CHARACTER);
 
-        return new BuildMetadata(sb.toString());
+        return BuildMetadata.of(this.versionString, start, this.input.current().getPos());
     }
 
     @NotNull
-    private String consumeNumber() throws ParseException {
-        StringBuilder sb = new StringBuilder();
+    private BigInteger consumeComponent() throws ParseException {
+        int start = this.input.current().getPos();
+        scanNumber();
+        return VersionCache.component(this.versionString, start, this.input.current().getPos());
+    }
+
+    private void scanNumber() throws ParseException {
         if (!this.input.current().isDigit())
-            throw new ParseException("Numeric identifier expected.", this.versionString, this.input.current());
+            throw new ParseException("Numeric identifier expected.", this.versionString.toString(), this.input.current(),
+                                     ParseException.Kind.MISSING_IDENTIFIER);
 
         if (this.input.current().is('0') && this.input.next().isDigit())
-            throw new ParseException("Numeric identifier must not contain leading zeros.", this.versionString, this.input.current());
+            throw new ParseException("Numeric identifier must not contain leading zeros.", this.versionString.toString(), this.input.current(),
+                                     ParseException.Kind.LEADING_ZERO);
 
         do {
-            sb.append(this.input.consume().getValue());
+            this.input.consume();
         } while (this.input.current().isDigit());
-
-        return sb.toString();
     }
 
     private boolean lookaheadAlphaNumeric() throws ParseException {
         boolean foundNonDigit = false;
 
         for (int i = 0; !foundNonDigit; i++) {
-            foundNonDigit = this.input.next(i).isLetter() || this.input.next(i).is(DASH);
+            foundNonDigit = this.input.next(i).hasClass(CharClass.LETTER | CharClass.HYPHEN);
 
             if (!this.input.next(i).isAlphaNumeric())
                 return foundNonDigit;
@@ -266,17 +321,14 @@ public final class VersionParser {
         return true;
     }
 
-    @NotNull
-    private String consumeAlphaNumeric() throws ParseException {
-        StringBuilder sb = new StringBuilder();
+    private void scanAlphaNumeric() throws ParseException {
         if (!(this.input.current().isAlphaNumeric()))
-            throw new ParseException("Alpha-Numeric identifier expected.", this.versionString, this.input.current());
+            throw new ParseException("Alpha-Numeric identifier expected.", this.versionString.toString(), this.input.current(),
+                                     ParseException.Kind.MISSING_IDENTIFIER);
 
         do {
-            sb.append(this.input.consume().getValue());
+            this.input.consume();
         } while (this.input.current().isAlphaNumeric());
-
-        return sb.toString();
     }
 
     private void consumeCharacter(char expected) throws ParseException {
@@ -284,6 +336,6 @@ public final class VersionParser {
             this.input.consume();
         else
             throw new ParseException(String.format("Illegal character. Character '%s' expected.", expected),
-                    this.versionString, this.input.current());
+                    this.versionString.toString(), this.input.current(), ParseException.Kind.ILLEGAL_CHARACTER);
     }
 }
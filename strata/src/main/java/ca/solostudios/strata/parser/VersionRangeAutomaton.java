@@ -0,0 +1,591 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionRangeAutomaton.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.metrics.StrataEvents;
+import ca.solostudios.strata.parser.tokenizer.Char;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.BuildMetadata;
+import ca.solostudios.strata.version.PreRelease;
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionCache;
+import ca.solostudios.strata.version.VersionRange;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+
+/**
+ * A parser for version range strings, which reads the string in a single pass through a table-driven DFA.
+ * <p>
+ * The DFA covers the whole grammar described in {@link VersionRangeParser}. The version states of {@link VersionValidator} are embedded
+ * once for every place a version may appear, the bounds of a bracket range treating their terminator as the end of the version, and
+ * glob ranges use its glob states. While running, the parser records where the components of the current version end, so versions are
+ * built straight from the input, without being copied out or scanned a second time.
+ * <p>
+ * This parser accepts exactly the same strings as {@link VersionRangeParser}, produces equal {@link VersionRange}s, and throws
+ * {@link ParseException}s with the same messages and positions. A parser may be reused for any number of strings through
+ * {@link #reset(CharSequence)}. Parsers are not thread safe.
+ * <p>
+ * Ranges are parsed with this class through {@link Versions#parseVersionRange(String)}, it is not part of the public API itself.
+ *
+ * @author solonovamax
+ * @see VersionRangeParser
+ * @see VersionValidator
+ */
+@ApiStatus.Internal
+public final class VersionRangeAutomaton {
+    private static final char OPEN_BRACKET = '[';
+    private static final char CLOSE_BRACKET = ']';
+    private static final char GREATER_THAN = '>';
+    private static final char END_OF_INPUT = '\0';
+
+    // character classes, following those of the version DFA
+    private static final int OPEN = VersionValidator.CLASS_COUNT;
+    private static final int CLOSE = OPEN + 1;
+    private static final int COMMA = OPEN + 2;
+    private static final int OPERATOR = OPEN + 3;
+    private static final int EQUALS = OPEN + 4;
+    private static final int CARET = OPEN + 5;
+    private static final int CLASS_COUNT = OPEN + 6;
+
+    // states. each embedded copy of the version states starts at its own major start state
+    private static final int VERSION_STATES = VersionValidator.GLOB_MAJOR_START;
+    /**
+     * The version following a comparison operator or a caret.
+     */
+    private static final int TRAILING_START = VersionValidator.MAJOR_START;
+    private static final int LOWER_START = TRAILING_START + VERSION_STATES;
+    private static final int UPPER_START = LOWER_START + VERSION_STATES;
+    /**
+     * The offset of the glob states of the version DFA.
+     */
+    private static final int GLOB_OFFSET = UPPER_START + VERSION_STATES - VersionValidator.GLOB_MAJOR_START;
+    private static final int RANGE_START = GLOB_OFFSET + VersionValidator.STATE_COUNT;
+    /**
+     * A comparison operator, which may be followed by an equals sign.
+     */
+    private static final int COMPARISON_OPERATOR = RANGE_START + 1;
+    /**
+     * The lower bound is invalid, and its terminator has not been found yet.
+     */
+    private static final int LOWER_ERROR = RANGE_START + 2;
+    /**
+     * The upper bound is invalid, and its terminator has not been found yet.
+     */
+    private static final int UPPER_ERROR = RANGE_START + 3;
+    private static final int RANGE_END = RANGE_START + 4;
+    private static final int STATE_COUNT = RANGE_START + 5;
+
+    // contexts, for where in the range a state is
+    private static final int TRAILING = 0;
+    private static final int LOWER = 1;
+    private static final int UPPER = 2;
+    private static final int GLOB = 3;
+    private static final int NONE = 4;
+
+    // segments of a version
+    private static final int MAJOR_SEGMENT = 0;
+    private static final int MINOR_SEGMENT = 1;
+    private static final int PATCH_SEGMENT = 2;
+    private static final int PRE_RELEASE_SEGMENT = 3;
+    private static final int BUILD_METADATA_SEGMENT = 4;
+    private static final int NO_SEGMENT = 5;
+
+    // actions, in addition to those of the version DFA
+    private static final byte ACCEPT = VersionValidator.ACCEPT;
+    private static final byte ERROR = VersionValidator.ERROR;
+    private static final byte ERROR_PREVIOUS = VersionValidator.ERROR_PREVIOUS;
+    private static final byte ERROR_IDENTIFIER = VersionValidator.ERROR_IDENTIFIER;
+    /**
+     * The input ended before the range was complete.
+     */
+    private static final byte ERROR_END_OF_INPUT = -5;
+    /**
+     * The terminator of an invalid bound was found, so the error in its version is reported.
+     */
+    private static final byte ERROR_BOUND = -6;
+
+    private static final byte @NotNull [] CHARACTER_CLASSES = Arrays.copyOf(VersionValidator.CHARACTER_CLASSES, 128);
+
+    private static final byte @NotNull [] TRANSITIONS = new byte[STATE_COUNT * CLASS_COUNT];
+
+    /**
+     * The state of the version DFA each state was embedded from, or {@code -1}.
+     */
+    private static final byte @NotNull [] BASES = new byte[STATE_COUNT];
+
+    private static final byte @NotNull [] CONTEXTS = new byte[STATE_COUNT];
+
+    private static final byte @NotNull [] SEGMENTS = new byte[STATE_COUNT];
+
+    static {
+        CHARACTER_CLASSES['['] = OPEN;
+        CHARACTER_CLASSES['('] = OPEN;
+        CHARACTER_CLASSES[']'] = CLOSE;
+        CHARACTER_CLASSES[')'] = CLOSE;
+        CHARACTER_CLASSES[','] = COMMA;
+        CHARACTER_CLASSES['>'] = OPERATOR;
+        CHARACTER_CLASSES['<'] = OPERATOR;
+        CHARACTER_CLASSES['='] = EQUALS;
+        CHARACTER_CLASSES['^'] = CARET;
+
+        Arrays.fill(TRANSITIONS, ERROR);
+        Arrays.fill(BASES, (byte) -1);
+        Arrays.fill(CONTEXTS, (byte) NONE);
+        Arrays.fill(SEGMENTS, (byte) NO_SEGMENT);
+
+        // versions
+        for (int state = 0; state < VERSION_STATES; state++) {
+            for (int type = 0; type < CLASS_COUNT; type++) {
+                embed(TRAILING_START, state, type, versionType(type), ACCEPT);
+                embed(LOWER_START, state, type, type == COMMA ? VersionValidator.END : versionType(type), UPPER_START);
+                embed(UPPER_START, state, type, type == CLOSE ? VersionValidator.END : versionType(type), RANGE_END);
+            }
+            on(LOWER_START + state, VersionValidator.END, ERROR_END_OF_INPUT);
+            on(UPPER_START + state, VersionValidator.END, ERROR_END_OF_INPUT);
+
+            describe(TRAILING_START + state, state, TRAILING);
+            describe(LOWER_START + state, state, LOWER);
+            describe(UPPER_START + state, state, UPPER);
+        }
+        on(TRAILING_START, VersionValidator.END, ERROR_END_OF_INPUT);
+        on(LOWER_START, COMMA, UPPER_START); // the lower bound is omitted
+        on(UPPER_START, CLOSE, RANGE_END); // the upper bound is omitted
+
+        // comparisons
+        System.arraycopy(TRANSITIONS, TRAILING_START * CLASS_COUNT, TRANSITIONS, COMPARISON_OPERATOR * CLASS_COUNT, CLASS_COUNT);
+        on(COMPARISON_OPERATOR, EQUALS, TRAILING_START);
+        describe(COMPARISON_OPERATOR, VersionValidator.MAJOR_START, TRAILING);
+
+        // glob ranges
+        for (int state = VersionValidator.GLOB_MAJOR_START; state < VersionValidator.STATE_COUNT; state++) {
+            for (int type = 0; type < CLASS_COUNT; type++)
+                embed(GLOB_OFFSET, state, type, versionType(type), ACCEPT);
+
+            describe(GLOB_OFFSET + state, state, GLOB);
+        }
+
+        // anything which is not a bracket range, a comparison, or a caret is a glob range
+        System.arraycopy(TRANSITIONS, (GLOB_OFFSET + VersionValidator.GLOB_MAJOR_START) * CLASS_COUNT,
+                         TRANSITIONS, RANGE_START * CLASS_COUNT, CLASS_COUNT);
+        on(RANGE_START, OPEN, LOWER_START);
+        on(RANGE_START, OPERATOR, COMPARISON_OPERATOR);
+        on(RANGE_START, CARET, TRAILING_START);
+        describe(RANGE_START, VersionValidator.GLOB_MAJOR_START, GLOB);
+
+        // an invalid bound is reported once its terminator is found, and the end of input is reported otherwise
+        for (int type = 0; type < CLASS_COUNT; type++) {
+            on(LOWER_ERROR, type, LOWER_ERROR);
+            on(UPPER_ERROR, type, UPPER_ERROR);
+        }
+        on(LOWER_ERROR, COMMA, ERROR_BOUND);
+        on(LOWER_ERROR, VersionValidator.END, ERROR_END_OF_INPUT);
+        on(UPPER_ERROR, CLOSE, ERROR_BOUND);
+        on(UPPER_ERROR, VersionValidator.END, ERROR_END_OF_INPUT);
+
+        on(RANGE_END, VersionValidator.END, ACCEPT);
+    }
+
+    private final int @NotNull [] ends = new int[NO_SEGMENT + 1];
+
+    @NotNull
+    private String versionRangeString;
+
+    private int versionStart;
+
+    private int error;
+
+    private int errorPosition;
+
+    /**
+     * Constructs a new version range parser with no string to parse.
+     * <p>
+     * {@link #reset(CharSequence)} must be invoked before the parser is used.
+     */
+    @Contract(pure = true)
+    public VersionRangeAutomaton() {
+        this("");
+    }
+
+    /**
+     * Constructs a new version range parser with the provided string to parse.
+     *
+     * @param versionRangeString The version range string to parse
+     */
+    @Contract(pure = true)
+    public VersionRangeAutomaton(@NotNull String versionRangeString) {
+        this.versionRangeString = versionRangeString;
+    }
+
+    /**
+     * Resets this parser to parse a new version range string.
+     *
+     * @param versionRangeString The version range string to parse.
+     * @return This parser.
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public VersionRangeAutomaton reset(@NotNull CharSequence versionRangeString) {
+        this.versionRangeString = versionRangeString.toString();
+        return this;
+    }
+
+    /**
+     * Parses the provided version range string to a {@link VersionRange}.
+     *
+     * @return The {@link VersionRange} parsed from the string this object was reset to.
+     * @throws ParseException If an exception occurred during the parsing of the version range. If taking user input, the message from
+     *                        this exception is highly useful and should be returned to the user.
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public VersionRange parse() throws ParseException {
+        Object event = StrataEvents.beginVersionRangeParse();
+        if (event == null)
+            return parseRange();
+
+        try {
+            VersionRange range = parseRange();
+            StrataEvents.endVersionRangeParse(event, this.versionRangeString.length(), true);
+            return range;
+        } catch (ParseException e) {
+            StrataEvents.endVersionRangeParse(event, this.versionRangeString.length(), false);
+            throw e;
+        }
+    }
+
+    /**
+     * Validates a version range string, without building the range.
+     *
+     * @param versionRange The version range string to validate.
+     * @return {@link VersionValidator#VALID} if the string is a valid {@link VersionRange}, otherwise the offset of the first error. This
+     * is the same as the position of the exception thrown by {@link #parse()}.
+     */
+    @Contract(pure = true)
+    static int validate(@NotNull CharSequence versionRange) {
+        int length = versionRange.length();
+        int state = RANGE_START;
+        int identifierStart = 0;
+        int boundErrorPosition = 0;
+        for (int i = 0; ; i++) {
+            char c = i < length ? versionRange.charAt(i) : END_OF_INPUT;
+            int type = c < CHARACTER_CLASSES.length ? CHARACTER_CLASSES[c] : VersionValidator.OTHER;
+            if (BASES[state] == VersionValidator.PRE_RELEASE_START)
+                identifierStart = i;
+
+            int next = TRANSITIONS[state * CLASS_COUNT + type];
+            if (next >= 0) {
+                state = next;
+                continue;
+            }
+
+            switch (next) {
+                case ACCEPT:
+                    return VersionValidator.VALID;
+                case ERROR_END_OF_INPUT:
+                    return i;
+                case ERROR_BOUND:
+                    return boundErrorPosition;
+            }
+
+            // as in fail(), an error in a bound only counts once its terminator is found
+            int position = errorPosition(next, i, identifierStart);
+            if (CONTEXTS[state] == LOWER)
+                state = LOWER_ERROR;
+            else if (CONTEXTS[state] == UPPER)
+                state = UPPER_ERROR;
+            else
+                return position;
+
+            boundErrorPosition = position;
+            i--; // the terminator of the bound is read again
+        }
+    }
+
+    @NotNull
+    private VersionRange parseRange() throws ParseException {
+        String input = this.versionRangeString;
+        int length = input.length();
+
+        Version lower = null;
+        Version upper = null;
+        int state = RANGE_START;
+        int identifierStart = 0;
+        for (int i = 0; ; i++) {
+            char c = i < length ? input.charAt(i) : END_OF_INPUT;
+            int type = c < CHARACTER_CLASSES.length ? CHARACTER_CLASSES[c] : VersionValidator.OTHER;
+            if (BASES[state] == VersionValidator.PRE_RELEASE_START)
+                identifierStart = i;
+
+            int next = TRANSITIONS[state * CLASS_COUNT + type];
+            if (next == ACCEPT) {
+                this.ends[SEGMENTS[state]] = i;
+                return range(state, lower, upper, i);
+            } else if (next < 0) {
+                state = fail(state, type, next, i, identifierStart);
+                i--; // the terminator of the bound is read again
+                continue;
+            }
+
+            if (SEGMENTS[next] != SEGMENTS[state])
+                this.ends[SEGMENTS[state]] = i;
+
+            if (CONTEXTS[next] != CONTEXTS[state] && state != LOWER_START && state != UPPER_START) {
+                if (CONTEXTS[state] == LOWER)
+                    lower = version();
+                else if (CONTEXTS[state] == UPPER)
+                    upper = version();
+            }
+
+            if (BASES[next] == VersionValidator.MAJOR_START) {
+                this.versionStart = i + 1;
+                this.ends[PRE_RELEASE_SEGMENT] = -1;
+                this.ends[BUILD_METADATA_SEGMENT] = -1;
+            }
+
+            state = next;
+        }
+    }
+
+    /**
+     * Handles a transition which failed.
+     * <p>
+     * An error in a bound of a bracket range is only reported once the terminator of the bound is found, as the end of input takes
+     * precedence over it, so the state in which to look for the terminator is returned. Every other error is thrown.
+     */
+    private int fail(int state, int type, int action, int i, int identifierStart) throws ParseException {
+        String input = this.versionRangeString;
+        if (action == ERROR_END_OF_INPUT)
+            throw new ParseException("Found end of input while parsing version range string.", input, new Char(charAt(input, i), i),
+                                     ParseException.Kind.UNEXPECTED_END_OF_INPUT);
+        else if (action == ERROR_BOUND)
+            throw versionError(i);
+
+        int context = CONTEXTS[state];
+        if ((context == LOWER && type == COMMA) || (context == UPPER && type == CLOSE))
+            type = VersionValidator.END;
+
+        int position = errorPosition(action, i, identifierStart);
+        int error = state == RANGE_END ? VersionValidator.ERROR_END_OF_INPUT_EXPECTED :
+                    VersionValidator.error(BASES[state], versionType(type));
+
+        if (context == GLOB || context == NONE)
+            throw VersionValidator.exception(error, input, position);
+
+        this.error = error;
+        this.errorPosition = position;
+        if (context == LOWER)
+            return LOWER_ERROR;
+        else if (context == UPPER)
+            return UPPER_ERROR;
+
+        int end = input.indexOf(END_OF_INPUT, this.versionStart);
+        throw versionError(end < 0 ? input.length() : end);
+    }
+
+    /**
+     * Creates the exception for an error in a version, which wraps the exception for the version on its own.
+     */
+    @NotNull
+    private ParseException versionError(int end) {
+        String version = this.versionRangeString.substring(this.versionStart, end);
+        int position = this.errorPosition - this.versionStart;
+
+        ParseException exception = VersionValidator.exception(this.error, version, position);
+        return new ParseException(exception, this.versionRangeString, exception.getPosition().increment(this.versionStart));
+    }
+
+    @NotNull
+    private VersionRange range(int state, @Nullable Version lower, @Nullable Version upper, int end) {
+        String input = this.versionRangeString;
+        switch (CONTEXTS[state]) {
+            case TRAILING:
+                Version version = version();
+                if (CHARACTER_CLASSES[input.charAt(0)] == CARET)
+                    return Versions.getVersionRange(version, true, highVersionForCaret(version), false);
+
+                boolean inclusive = this.versionStart == 2;
+                if (input.charAt(0) == GREATER_THAN)
+                    return Versions.getVersionRange(version, inclusive, null, true);
+                else
+                    return Versions.getVersionRange(null, true, version, inclusive);
+            case GLOB:
+                return glob();
+            default:
+                return Versions.getVersionRange(lower, input.charAt(0) == OPEN_BRACKET, upper, input.charAt(end - 1) == CLOSE_BRACKET);
+        }
+    }
+
+    @NotNull
+    private VersionRange glob() {
+        String input = this.versionRangeString;
+        int majorEnd = this.ends[MAJOR_SEGMENT];
+        if (majorEnd == 0) // '+' or '*'
+            return Versions.getVersionRange(null, true, null, false);
+
+        BigInteger major = VersionCache.component(input, 0, majorEnd);
+        int minorEnd = this.ends[MINOR_SEGMENT];
+        if (minorEnd == majorEnd + 1)
+            return Versions.getVersionRange(Versions.getVersion(major, BigInteger.ZERO, BigInteger.ZERO), true,
+                                            Versions.getVersion(VersionCache.next(major), BigInteger.ZERO, BigInteger.ZERO), false);
+
+        BigInteger minor = VersionCache.component(input, majorEnd + 1, minorEnd);
+        int patchEnd = this.ends[PATCH_SEGMENT];
+        if (patchEnd == minorEnd + 1)
+            return Versions.getVersionRange(Versions.getVersion(major, minor, BigInteger.ZERO), true,
+                                            Versions.getVersion(major, VersionCache.next(minor), BigInteger.ZERO), false);
+
+        BigInteger patch = VersionCache.component(input, minorEnd + 1, patchEnd);
+        return Versions.getVersionRange(Versions.getVersion(major, minor, patch), true,
+                                        Versions.getVersion(major, minor, VersionCache.next(patch)), false);
+    }
+
+    /**
+     * Builds the version which was just read, from the recorded ends of its segments.
+     */
+    @NotNull
+    private Version version() {
+        String input = this.versionRangeString;
+        int majorEnd = this.ends[MAJOR_SEGMENT];
+        int minorEnd = this.ends[MINOR_SEGMENT];
+        int patchEnd = this.ends[PATCH_SEGMENT];
+        int preReleaseEnd = this.ends[PRE_RELEASE_SEGMENT];
+        int buildMetadataEnd = this.ends[BUILD_METADATA_SEGMENT];
+
+        BigInteger major = VersionCache.component(input, this.versionStart, majorEnd);
+        BigInteger minor = VersionCache.component(input, majorEnd + 1, minorEnd);
+        BigInteger patch = VersionCache.component(input, minorEnd + 1, patchEnd);
+        PreRelease preRelease = preReleaseEnd < 0 ? PreRelease.NULL : PreRelease.of(input, patchEnd + 1, preReleaseEnd);
+        BuildMetadata buildMetadata = buildMetadataEnd < 0 ? BuildMetadata.NULL :
+                                      BuildMetadata.of(input, (preReleaseEnd < 0 ? patchEnd : preReleaseEnd) + 1, buildMetadataEnd);
+
+        return new Version(VersionCache.coreVersion(major, minor, patch), preRelease, buildMetadata);
+    }
+
+    @NotNull
+    private static Version highVersionForCaret(@NotNull Version lowVersion) {
+        if (!lowVersion.getMajor().equals(BigInteger.ZERO))
+            return Versions.getVersion(VersionCache.next(lowVersion.getMajor()), BigInteger.ZERO, BigInteger.ZERO);
+        else if (!lowVersion.getMinor().equals(BigInteger.ZERO))
+            return Versions.getVersion(BigInteger.ZERO, VersionCache.next(lowVersion.getMinor()), BigInteger.ZERO);
+        else
+            return Versions.getVersion(BigInteger.ZERO, BigInteger.ZERO, VersionCache.next(lowVersion.getPatch()));
+    }
+
+    /**
+     * The position of the error reported for a failed transition.
+     */
+    @Contract(pure = true)
+    private static int errorPosition(int action, int i, int identifierStart) {
+        return action == ERROR_PREVIOUS ? i - 1 : action == ERROR_IDENTIFIER ? identifierStart : i;
+    }
+
+    @Contract(pure = true)
+    private static char charAt(@NotNull String input, int position) {
+        return position < input.length() ? input.charAt(position) : END_OF_INPUT;
+    }
+
+    /**
+     * The class of a character, as seen by the version DFA.
+     */
+    @Contract(pure = true)
+    private static int versionType(int type) {
+        return type < VersionValidator.CLASS_COUNT ? type : VersionValidator.OTHER;
+    }
+
+    /**
+     * Copies a transition of the version DFA into this DFA.
+     *
+     * @param offset      The offset of the copy of the version states.
+     * @param state       The state of the version DFA.
+     * @param type        The character class of this DFA.
+     * @param versionType The character class of the version DFA.
+     * @param accept      The transition replacing an accepted version.
+     */
+    private static void embed(int offset, int state, int type, int versionType, int accept) {
+        int next = VersionValidator.TRANSITIONS[state * VersionValidator.CLASS_COUNT + versionType];
+        on(offset + state, type, next >= 0 ? offset + next : next == ACCEPT ? accept : next);
+    }
+
+    private static void describe(int state, int base, int context) {
+        BASES[state] = (byte) base;
+        CONTEXTS[state] = (byte) context;
+        SEGMENTS[state] = (byte) segment(base);
+    }
+
+    @Contract(pure = true)
+    private static int segment(int base) {
+        switch (base) {
+            case VersionValidator.MAJOR_START:
+            case VersionValidator.MAJOR_ZERO:
+            case VersionValidator.MAJOR:
+            case VersionValidator.GLOB_MAJOR_START:
+            case VersionValidator.GLOB_MAJOR_ZERO:
+            case VersionValidator.GLOB_MAJOR:
+                return MAJOR_SEGMENT;
+            case VersionValidator.MINOR_START:
+            case VersionValidator.MINOR_ZERO:
+            case VersionValidator.MINOR:
+            case VersionValidator.GLOB_MINOR_START:
+            case VersionValidator.GLOB_MINOR_ZERO:
+            case VersionValidator.GLOB_MINOR:
+                return MINOR_SEGMENT;
+            case VersionValidator.PATCH_START:
+            case VersionValidator.PATCH_ZERO:
+            case VersionValidator.PATCH:
+            case VersionValidator.GLOB_PATCH_START:
+            case VersionValidator.GLOB_PATCH_ZERO:
+            case VersionValidator.GLOB_PATCH:
+                return PATCH_SEGMENT;
+            case VersionValidator.PRE_RELEASE_START:
+            case VersionValidator.PRE_RELEASE_ZERO:
+            case VersionValidator.PRE_RELEASE_LEADING_ZERO:
+            case VersionValidator.PRE_RELEASE_NUMERIC:
+            case VersionValidator.PRE_RELEASE_ALPHANUMERIC:
+                return PRE_RELEASE_SEGMENT;
+            case VersionValidator.BUILD_METADATA_START:
+            case VersionValidator.BUILD_METADATA:
+            case VersionValidator.BUILD_METADATA_DOT:
+                return BUILD_METADATA_SEGMENT;
+            default:
+                return NO_SEGMENT;
+        }
+    }
+
+    private static void on(int state, int type, int next) {
+        TRANSITIONS[state * CLASS_COUNT + type] = (byte) next;
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file VersionRangeParser.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -30,16 +30,18 @@ package ca.solostudios.strata.parser;
 
 
 import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.metrics.StrataEvents;
 import ca.solostudios.strata.parser.tokenizer.Char;
-import ca.solostudios.strata.parser.tokenizer.LookaheadReader;
+import ca.solostudios.strata.parser.tokenizer.CharClass;
+import ca.solostudios.strata.parser.tokenizer.LookaheadCharSequence;
 import ca.solostudios.strata.parser.tokenizer.ParseException;
 import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionCache;
 import ca.solostudios.strata.version.VersionRange;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.StringReader;
 import java.math.BigInteger;
 
 
@@ -47,6 +49,9 @@ import java.math.BigInteger;
  * A parser for strings representing a valid version range.
  * Constructed with the string to parse, {@link VersionRangeParser#parse()} must be invoked to parse the version range.
  * This method returns the parsed version range.
+ * <p>
+ * A parser may be reused for any number of strings through {@link #reset(CharSequence)}, which avoids reallocating its input reader,
+ * scratch buffer, and the {@link VersionParser} used for the bounds. Parsers are not thread safe.
  *
  * <p><br>
  * Version ranges must match the following specification:
@@ -214,22 +219,37 @@ import java.math.BigInteger;
  * @see VersionParser
  */
 public class VersionRangeParser {
-    private static final char OPEN_PAREN = '(';
     private static final char CLOSE_PAREN = ')';
     private static final char OPEN_BRACKET = '[';
     private static final char CLOSE_BRACKET = ']';
     private static final char COMMA = ',';
     private static final char PLUS = '+';
     private static final char DOT = '.';
-    private static final char STAR = '*';
     private static final char CARET = '^';
     private static final char GREATER_THAN = '>';
-    private static final char LESS_THAN = '<';
     private static final char EQUALS = '=';
 
-    private final LookaheadReader input;
+    @NotNull
+    private final LookaheadCharSequence input;
 
-    private final String versionRangeString;
+    @NotNull
+    private final StringBuilder scratch = new StringBuilder();
+
+    @NotNull
+    private final VersionParser versionParser = new VersionParser();
+
+    @NotNull
+    private String versionRangeString;
+
+    /**
+     * Constructs a new version range parser with no string to parse.
+     * <p>
+     * {@link #reset(CharSequence)} must be invoked before the parser is used.
+     */
+    @Contract(pure = true)
+    public VersionRangeParser() {
+        this("");
+    }
 
     /**
      * Constructs a new version range parser with the provided string to parse.
@@ -237,11 +257,25 @@ public class VersionRangeParser {
      * @param versionRangeString The version range string to parse
      */
     @Contract(pure = true)
-    public VersionRangeParser(String versionRangeString) {
-        this.input = new LookaheadReader(new StringReader(versionRangeString));
+    public VersionRangeParser(@NotNull String versionRangeString) {
+        this.input = new LookaheadCharSequence(versionRangeString);
         this.versionRangeString = versionRangeString;
     }
 
+    /**
+     * Resets this parser to parse a new version range string.
+     *
+     * @param versionRangeString The version range string to parse.
+     * @return This parser.
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public VersionRangeParser reset(@NotNull CharSequence versionRangeString) {
+        this.versionRangeString = versionRangeString.toString();
+        this.input.reset(this.versionRangeString);
+        return this;
+    }
+
     /**
      * Parses the provided version range string to a {@link VersionRange}.
      *
@@ -252,9 +286,25 @@ public class VersionRangeParser {
     @NotNull
     @Contract(value = "-> new", pure = true)
     public VersionRange parse() throws ParseException {
-        if (this.input.current().is(OPEN_BRACKET, OPEN_PAREN))
+        Object event = StrataEvents.beginVersionRangeParse();
+        if (event == null)
+            return parseRange();
+
+        try {
+            VersionRange range = parseRange();
+            StrataEvents.endVersionRangeParse(event, this.versionRangeString.length(), true);
+            return range;
+        } catch (ParseException e) {
+            StrataEvents.endVersionRangeParse(event, this.versionRangeString.length(), false);
+            throw e;
+        }
+    }
+
+    @NotNull
+    private VersionRange parseRange() throws ParseException {
+        if (this.input.current().hasClass(CharClass.RANGE_START))
             return parseVersionRange();
-        else if (this.input.current().is(GREATER_THAN, LESS_THAN))
+        else if (this.input.current().hasClass(CharClass.COMPARISON))
             return parseVersionComparison();
         else if (this.input.current().is(CARET))
             return parseVersionCaret();
@@ -271,14 +321,14 @@ public class VersionRangeParser {
         Version endVersion = null;
 
         if (!this.input.current().is(COMMA)) {
-            startVersion = consumeVersionUntil(COMMA);
+            startVersion = consumeVersionUntil(CharClass.RANGE_SEPARATOR);
         }
         consumeCharacter(COMMA);
 
-        if (this.input.current().is(CLOSE_BRACKET, CLOSE_PAREN)) {
+        if (this.input.current().hasClass(CharClass.RANGE_END)) {
             endInclusive = this.input.consume().is(CLOSE_BRACKET);
         } else {
-            endVersion = consumeVersionUntil(CLOSE_BRACKET, CLOSE_PAREN);
+            endVersion = consumeVersionUntil(CharClass.RANGE_END);
 
             Char next = this.input.consume();
 
@@ -293,7 +343,8 @@ public class VersionRangeParser {
                     throw new ParseException(
                             String.format("Was looking for '%s' or '%s' but couldn't find one", CLOSE_BRACKET, CLOSE_PAREN),
                             this.versionRangeString,
-                            next
+                            next,
+                            ParseException.Kind.ILLEGAL_CHARACTER
                     );
             }
         }
@@ -336,11 +387,11 @@ public class VersionRangeParser {
     @NotNull
     private Version highVersionForCaret(Version lowVersion) {
         if (!lowVersion.getMajor().equals(BigInteger.ZERO))
-            return Versions.getVersion(lowVersion.getMajor().add(BigInteger.ONE), BigInteger.ZERO, BigInteger.ZERO);
+            return Versions.getVersion(VersionCache.next(lowVersion.getMajor()), BigInteger.ZERO, BigInteger.ZERO);
         else if (!lowVersion.getMinor().equals(BigInteger.ZERO))
-            return Versions.getVersion(BigInteger.ZERO, lowVersion.getMinor().add(BigInteger.ONE), BigInteger.ZERO);
+            return Versions.getVersion(BigInteger.ZERO, VersionCache.next(lowVersion.getMinor()), BigInteger.ZERO);
         else
-            return Versions.getVersion(BigInteger.ZERO, BigInteger.ZERO, lowVersion.getPatch().add(BigInteger.ONE));
+            return Versions.getVersion(BigInteger.ZERO, BigInteger.ZERO, VersionCache.next(lowVersion.getPatch()));
     }
 
     @NotNull
@@ -350,31 +401,31 @@ public class VersionRangeParser {
         @Nullable
         Version highestVersion;
 
-        if (this.input.current().is(PLUS) || this.input.current().is(STAR)) {
+        if (this.input.current().hasClass(CharClass.PLUS | CharClass.STAR)) {
             this.input.consume();
             highestVersion = null;
             lowestVersion = null;
         } else {
-            BigInteger major = new BigInteger(consumeNumber());
+            BigInteger major = consumeComponent();
 
             consumeCharacter(DOT);
             if (this.input.current().is(PLUS)) {
                 this.input.consume();
                 lowestVersion = Versions.getVersion(major, BigInteger.ZERO, BigInteger.ZERO);
-                highestVersion = Versions.getVersion(major.add(BigInteger.ONE), BigInteger.ZERO, BigInteger.ZERO);
+                highestVersion = Versions.getVersion(VersionCache.next(major), BigInteger.ZERO, BigInteger.ZERO);
             } else {
-                BigInteger minor = new BigInteger(consumeNumber());
+                BigInteger minor = consumeComponent();
 
                 consumeCharacter(DOT);
                 if (this.input.current().is(PLUS)) {
                     this.input.consume();
                     lowestVersion = Versions.getVersion(major, minor, BigInteger.ZERO);
-                    highestVersion = Versions.getVersion(major, minor.add(BigInteger.ONE), BigInteger.ZERO);
+                    highestVersion = Versions.getVersion(major, VersionCache.next(minor), BigInteger.ZERO);
                 } else {
-                    BigInteger patch = new BigInteger(consumeNumber());
+                    BigInteger patch = consumeComponent();
 
                     lowestVersion = Versions.getVersion(major, minor, patch);
-                    highestVersion = Versions.getVersion(major, minor, patch.add(BigInteger.ONE));
+                    highestVersion = Versions.getVersion(major, minor, VersionCache.next(patch));
                 }
             }
         }
@@ -384,35 +435,51 @@ public class VersionRangeParser {
     }
 
     @NotNull
-    private Version consumeVersionUntil(char... test) {
-        StringBuilder sb = new StringBuilder();
+    private Version consumeVersionUntil() {
+        return consumeVersionUntil(0);
+    }
+
+    /**
+     * Consumes a version up to the first character in one of the provided classes, or up to the end of input if there are none.
+     */
+    @NotNull
+    private Version consumeVersionUntil(int terminators) {
+        StringBuilder sb = scratch();
 
         Char positionBefore = this.input.current();
         do {
             sb.append(consumeNotEndOfInput().getValue());
-        } while (test.length != 0 ? !this.input.current().is(test) : !this.input.current().isEndOfInput());
+        } while (terminators != 0 ? !this.input.current().hasClass(terminators) : !this.input.current().isEndOfInput());
 
         try {
-            return Versions.parseVersion(sb.toString());
+            return this.versionParser.reset(sb).parse();
         } catch (ParseException e) {
             throw new ParseException(e, this.versionRangeString, e.getPosition().increment(positionBefore.getPos()));
         }
     }
 
     @NotNull
-    private String consumeNumber() throws ParseException {
-        StringBuilder sb = new StringBuilder();
+    private BigInteger consumeComponent() throws ParseException {
+        StringBuilder sb = scratch();
         if (!this.input.current().isDigit())
-            throw new ParseException("Numeric identifier expected.", this.versionRangeString, this.input.current());
+            throw new ParseException("Numeric identifier expected.", this.versionRangeString, this.input.current(),
+                                     ParseException.Kind.MISSING_IDENTIFIER);
 
         if (this.input.current().is('0') && this.input.next().isDigit())
-            throw new ParseException("Numeric identifier must not contain leading zeros.", this.versionRangeString, this.input.current());
+            throw new ParseException("Numeric identifier must not contain leading zeros.", this.versionRangeString, this.input.current(),
+                                     ParseException.Kind.LEADING_ZERO);
 
         do {
             sb.append(consumeNotEndOfInput().getValue());
         } while (this.input.current().isDigit());
 
-        return sb.toString();
+        return VersionCache.component(sb, 0, sb.length());
+    }
+
+    @NotNull
+    private StringBuilder scratch() {
+        this.scratch.setLength(0);
+        return this.scratch;
     }
 
     private void consumeCharacter(char expected) throws ParseException {
@@ -422,7 +489,8 @@ public class VersionRangeParser {
             throw new ParseException(
                     String.format("Illegal character. Character '%s' expected.", expected),
                     this.versionRangeString,
-                    this.input.current()
+                    this.input.current(),
+                    ParseException.Kind.ILLEGAL_CHARACTER
             );
     }
 
@@ -432,7 +500,8 @@ public class VersionRangeParser {
             throw new ParseException(
                     "Found end of input while parsing version range string.",
                     this.versionRangeString,
-                    this.input.current()
+                    this.input.current(),
+                    ParseException.Kind.UNEXPECTED_END_OF_INPUT
             );
         else
             return this.input.consume();
@@ -442,6 +511,7 @@ public class VersionRangeParser {
         if (this.input.current().isEndOfInput())
             this.input.consume();
         else
-            throw new ParseException("Illegal character. End of input expected.", this.versionRangeString, this.input.current());
+            throw new ParseException("Illegal character. End of input expected.", this.versionRangeString, this.input.current(),
+                                     ParseException.Kind.ILLEGAL_CHARACTER);
     }
 }
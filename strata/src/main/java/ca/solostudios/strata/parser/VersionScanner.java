@@ -0,0 +1,374 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionScanner.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.parser.tokenizer.Char;
+import ca.solostudios.strata.parser.tokenizer.CharClass;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.Version;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+
+/**
+ * A scanner which finds all the versions occurring in free text, such as build logs or changelogs.
+ * <p>
+ * The input is walked once. Similarly to a {@link java.util.regex.Matcher}, each call to {@link #find()} advances to the next version,
+ * whose offsets are then available through {@link #start()} and {@link #end()}. The text of the version, through {@link #group()}, and the
+ * {@link Version} itself, through {@link #version()}, are only created when requested.
+ * <p>
+ * A version is only reported if it is a valid version according to {@link VersionParser}, and if it is delimited from the surrounding
+ * text. It must not directly follow a letter, digit, or period (with the exception of a single {@code v} or {@code V} prefix, as in
+ * {@code v1.2.3}). It must also not directly precede a letter or digit, a {@code -} or {@code +} followed by a letter or digit, or a
+ * {@code .} followed by a digit. Because of this, {@code 1.2.3} is found in {@code "released 1.2.3."} and {@code "strata-1.2.3.jar"}, but nothing is found
+ * in {@code "1.2.3.4"} or {@code "1.2.3-01"}.
+ * <p>
+ * Versions can be scanned from a {@link CharSequence}, a {@link Reader}, or a {@link ByteBuffer} of ASCII or UTF-8 encoded text. When
+ * scanning a {@link Reader}, offsets are counted in characters from the start of the stream, and only the text of the current version is
+ * retained.
+ *
+ * @author solonovamax
+ * @see VersionParser
+ */
+public final class VersionScanner {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Characters to retain before the current position when refilling from a reader, for checking what precedes a version.
+     */
+    private static final int RETAINED_CHARACTERS = 2;
+
+    @Nullable
+    private final Reader reader;
+
+    private char @Nullable [] buffer;
+
+    @NotNull
+    private CharSequence input;
+
+    /**
+     * The offset of the start of {@link #input} in the whole stream.
+     */
+    private long inputOffset = 0;
+
+    private int limit;
+
+    private boolean complete;
+
+    private int position = 0;
+
+    private long matchStart = -1;
+
+    private long matchEnd = -1;
+
+    @Nullable
+    private String group;
+
+    @Nullable
+    private Version version;
+
+    /**
+     * Constructs a new version scanner over the provided text.
+     *
+     * @param input The text to scan.
+     */
+    public VersionScanner(@NotNull CharSequence input) {
+        this.reader = null;
+        this.input = input;
+        this.limit = input.length();
+        this.complete = true;
+    }
+
+    /**
+     * Constructs a new version scanner over the remaining bytes of the provided buffer, which are interpreted as ASCII. Any non-ASCII
+     * byte, such as those in multibyte UTF-8 sequences, is treated as a delimiter.
+     * <p>
+     * The position of the buffer is not modified, and offsets are relative to its position.
+     *
+     * @param input The buffer to scan.
+     */
+    public VersionScanner(@NotNull ByteBuffer input) {
+        this(new AsciiSequence(input, input.position(), input.remaining()));
+    }
+
+    /**
+     * Constructs a new version scanner over the characters of the provided reader.
+     * <p>
+     * The reader is read from as needed by {@link #find()}, and is not closed by this class.
+     *
+     * @param reader The reader to scan.
+     */
+    public VersionScanner(@NotNull Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[DEFAULT_BUFFER_SIZE];
+        this.input = CharBuffer.wrap(this.buffer, 0, 0);
+        this.limit = 0;
+        this.complete = false;
+    }
+
+    /**
+     * Advances to the next version in the input.
+     *
+     * @return {@code true} if a version was found, {@code false} if the end of the input was reached.
+     * @throws ParseException If an exception occurred while reading from the underlying reader.
+     */
+    public boolean find() throws ParseException {
+        this.group = null;
+        this.version = null;
+
+        while (true) {
+            int start = this.position;
+            while (start < this.limit && !(isDigit(this.input.charAt(start)) && canStartAt(start)))
+                start++;
+
+            if (start >= this.limit) {
+                this.position = start;
+                if (this.complete || !fill(start))
+                    return noMatch();
+                continue;
+            }
+
+            int end = VersionValidator.matchVersion(this.input, start, this.limit, this.complete);
+            if (end == VersionValidator.INCOMPLETE || (end != VersionValidator.NO_MATCH && !this.complete && end + 2 > this.limit)) {
+                // need more input to find the end of the version, or to check what follows it
+                this.position = start;
+                if (!fill(start))
+                    this.complete = true;
+                continue;
+            }
+
+            if (end != VersionValidator.NO_MATCH && canEndAt(end)) {
+                this.position = end;
+                this.matchStart = this.inputOffset + start;
+                this.matchEnd = this.inputOffset + end;
+                return true;
+            }
+
+            this.position = start + 1;
+        }
+    }
+
+    /**
+     * The offset of the start of the current version.
+     *
+     * @return The offset of the first character of the current version.
+     * @throws IllegalStateException If no version has been found.
+     */
+    @Contract(pure = true)
+    public long start() {
+        checkMatch();
+        return this.matchStart;
+    }
+
+    /**
+     * The offset after the end of the current version.
+     *
+     * @return The offset after the last character of the current version.
+     * @throws IllegalStateException If no version has been found.
+     */
+    @Contract(pure = true)
+    public long end() {
+        checkMatch();
+        return this.matchEnd;
+    }
+
+    /**
+     * The length of the current version.
+     *
+     * @return The number of characters in the current version.
+     * @throws IllegalStateException If no version has been found.
+     */
+    @Contract(pure = true)
+    public int length() {
+        checkMatch();
+        return (int) (this.matchEnd - this.matchStart);
+    }
+
+    /**
+     * The text of the current version.
+     * <p>
+     * The text is only created the first time this is invoked for a version.
+     *
+     * @return The current version, as a string.
+     * @throws IllegalStateException If no version has been found.
+     */
+    @NotNull
+    public String group() {
+        checkMatch();
+        if (this.group == null) {
+            int start = (int) (this.matchStart - this.inputOffset);
+            this.group = this.input.subSequence(start, start + length()).toString();
+        }
+        return this.group;
+    }
+
+    /**
+     * The current version.
+     * <p>
+     * The version is only parsed the first time this is invoked for a version.
+     *
+     * @return The current version.
+     * @throws IllegalStateException If no version has been found.
+     */
+    @NotNull
+    public Version version() {
+        if (this.version == null)
+            this.version = Versions.parseVersion(group());
+        return this.version;
+    }
+
+    private boolean canStartAt(int start) {
+        char previous = charAt(start - 1);
+        if (previous == 'v' || previous == 'V')
+            previous = charAt(start - 2);
+        return !isAlphaNumeric(previous) && previous != '.';
+    }
+
+    private boolean canEndAt(int end) {
+        char next = charAt(end);
+        if (next == '.')
+            return !isDigit(charAt(end + 1));
+        if (next == '-' || next == '+')
+            next = charAt(end + 1);
+        return !isAlphaNumeric(next);
+    }
+
+    /**
+     * Reads more characters from the reader, discarding everything before the provided position.
+     *
+     * @return {@code true} if more characters were read, {@code false} if the end of the reader was reached.
+     */
+    private boolean fill(int keepFrom) throws ParseException {
+        if (this.reader == null || this.buffer == null)
+            return false;
+
+        int keep = Math.max(0, keepFrom - RETAINED_CHARACTERS);
+        int retained = this.limit - keep;
+        if (keep > 0)
+            System.arraycopy(this.buffer, keep, this.buffer, 0, retained);
+        else if (retained == this.buffer.length)
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+
+        this.inputOffset += keep;
+        this.position -= keep;
+        this.limit = retained;
+
+        try {
+            int read = this.reader.read(this.buffer, retained, this.buffer.length - retained);
+            if (read > 0)
+                this.limit += read;
+            else if (read < 0)
+                this.complete = true;
+        } catch (IOException e) {
+            throw new ParseException(e, new Char('\0', (int) Math.min(Integer.MAX_VALUE, this.inputOffset + this.limit)));
+        }
+
+        this.input = CharBuffer.wrap(this.buffer, 0, this.limit);
+        return !this.complete || this.limit > retained;
+    }
+
+    private boolean noMatch() {
+        this.matchStart = -1;
+        this.matchEnd = -1;
+        return false;
+    }
+
+    private void checkMatch() {
+        if (this.matchStart < 0)
+            throw new IllegalStateException("No version found.");
+    }
+
+    @Contract(pure = true)
+    private char charAt(int index) {
+        return index >= 0 && index < this.limit ? this.input.charAt(index) : '\0';
+    }
+
+    @Contract(pure = true)
+    private static boolean isDigit(char value) {
+        return CharClass.isDigit(value);
+    }
+
+    @Contract(pure = true)
+    private static boolean isAlphaNumeric(char value) {
+        return CharClass.is(value, CharClass.DIGIT | CharClass.LETTER);
+    }
+
+    /**
+     * A view of a region of a byte buffer as a sequence of ASCII characters.
+     */
+    private static final class AsciiSequence implements CharSequence {
+        @NotNull
+        private final ByteBuffer buffer;
+
+        private final int offset;
+
+        private final int length;
+
+        private AsciiSequence(@NotNull ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return this.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            byte value = this.buffer.get(this.offset + index);
+            return value >= 0 ? (char) value : '\0';
+        }
+
+        @NotNull
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new AsciiSequence(this.buffer, this.offset + start, end - start);
+        }
+
+        @NotNull
+        @Override
+        public String toString() {
+            char[] chars = new char[this.length];
+            for (int i = 0; i < this.length; i++)
+                chars[i] = charAt(i);
+            return new String(chars);
+        }
+    }
+}
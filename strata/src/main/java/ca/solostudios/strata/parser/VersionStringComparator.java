@@ -0,0 +1,254 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionStringComparator.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import ca.solostudios.strata.parser.tokenizer.Char;
+import ca.solostudios.strata.parser.tokenizer.CharClass;
+import ca.solostudios.strata.parser.tokenizer.Identifiers;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.PreReleaseIdentifier;
+import ca.solostudios.strata.version.Version;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+
+/**
+ * A comparator for version strings, which compares them by precedence without parsing them into {@link Version}s.
+ * <p>
+ * Both strings are scanned simultaneously, a single time, and no objects are allocated unless one of them is invalid. Major, minor, patch,
+ * and numeric pre-release identifiers are compared by their length, then by their digits, and all other pre-release identifiers follow the
+ * rules of {@link PreReleaseIdentifier#compareTo(PreReleaseIdentifier)}. This is therefore consistent with
+ * {@link Version#compareTo(Version)}.
+ * <p>
+ * Each string is validated as it is scanned, using the same grammar as {@link VersionParser}. Once the precedence of the two versions has
+ * been decided, the rest of each string is only validated, and not compared. If either string is not a valid version, a
+ * {@link ParseException} with the same message and position as {@link VersionParser#parse()} is thrown.
+ *
+ * @author solonovamax
+ * @see VersionParser
+ */
+public final class VersionStringComparator implements Comparator<CharSequence> {
+    /**
+     * The version string comparator instance.
+     */
+    public static final VersionStringComparator INSTANCE = new VersionStringComparator();
+
+    private static final char PLUS = '+';
+
+    private static final char DOT = '.';
+
+    private static final char DASH = '-';
+
+    private static final char END_OF_INPUT = '\0';
+
+    private VersionStringComparator() {
+    }
+
+    /**
+     * Compares two version strings by precedence.
+     *
+     * @param first  The first version string.
+     * @param second The second version string.
+     * @return A negative integer, zero, or a positive integer as the first version is less than, equal to, or greater than the second
+     * version.
+     * @throws ParseException If either of the strings is not a valid version. If taking user input, the message from this exception is
+     *                        highly useful and should be returned to the user.
+     */
+    @Override
+    @Contract(pure = true)
+    public int compare(@NotNull CharSequence first, @NotNull CharSequence second) throws ParseException {
+        int a = 0;
+        int b = 0;
+        int result = 0;
+
+        // core version
+        for (int component = 0; component < 3; component++) {
+            if (component != 0) {
+                a = consumeCharacter(first, a, DOT);
+                b = consumeCharacter(second, b, DOT);
+            }
+
+            int endA = scanNumber(first, a);
+            int endB = scanNumber(second, b);
+            if (result == 0)
+                result = Identifiers.compareNumeric(first, a, endA, second, b, endB);
+
+            a = endA;
+            b = endB;
+        }
+
+        // pre-release
+        boolean preReleaseA = charAt(first, a) == DASH;
+        boolean preReleaseB = charAt(second, b) == DASH;
+        if (result == 0 && preReleaseA != preReleaseB)
+            result = preReleaseA ? -1 : 1; // a pre-release has a lower precedence than a normal version
+
+        if (preReleaseA)
+            a++;
+        if (preReleaseB)
+            b++;
+
+        while (preReleaseA || preReleaseB) {
+            int scanA = preReleaseA ? scanIdentifier(first, a) : 0;
+            int scanB = preReleaseB ? scanIdentifier(second, b) : 0;
+            int endA = scanA >>> 1;
+            int endB = scanB >>> 1;
+
+            if (result == 0) {
+                if (preReleaseA && preReleaseB)
+                    result = compareIdentifiers(first, a, endA, (scanA & 1) != 0, second, b, endB, (scanB & 1) != 0);
+                else
+                    result = preReleaseA ? 1 : -1; // a larger set of identifiers has a higher precedence
+            }
+
+            if (preReleaseA) {
+                preReleaseA = charAt(first, endA) == DOT;
+                a = preReleaseA ? endA + 1 : endA;
+            }
+            if (preReleaseB) {
+                preReleaseB = charAt(second, endB) == DOT;
+                b = preReleaseB ? endB + 1 : endB;
+            }
+        }
+
+        // build metadata is ignored for precedence, but must still be valid
+        scanBuildMetadataAndEnd(first, a);
+        scanBuildMetadataAndEnd(second, b);
+
+        return result;
+    }
+
+    @Contract(pure = true)
+    private static int compareIdentifiers(@NotNull CharSequence first, int startA, int endA, boolean numericA,
+                                          @NotNull CharSequence second, int startB, int endB, boolean numericB) {
+        if (numericA)
+            return numericB ? Identifiers.compareNumeric(first, startA, endA, second, startB, endB) : -1;
+        else if (numericB)
+            return 1;
+        else
+            return Identifiers.compareLexically(first, startA, endA, second, startB, endB);
+    }
+
+    /**
+     * Scans a number, which must not have leading zeros.
+     *
+     * @return The end of the number.
+     */
+    private static int scanNumber(@NotNull CharSequence input, int start) throws ParseException {
+        if (!isDigit(charAt(input, start)))
+            throw error("Numeric identifier expected.", input, start, ParseException.Kind.MISSING_IDENTIFIER);
+        if (charAt(input, start) == '0' && isDigit(charAt(input, start + 1)))
+            throw error("Numeric identifier must not contain leading zeros.", input, start, ParseException.Kind.LEADING_ZERO);
+
+        int end = start + 1;
+        while (isDigit(charAt(input, end)))
+            end++;
+        return end;
+    }
+
+    /**
+     * Scans a pre-release identifier.
+     *
+     * @return The end of the identifier shifted left by one, with the lowest bit set if the identifier is numeric.
+     */
+    private static int scanIdentifier(@NotNull CharSequence input, int start) throws ParseException {
+        boolean numeric = true;
+        int end = start;
+        char current;
+        while (isAlphaNumeric(current = charAt(input, end))) {
+            numeric &= isDigit(current);
+            end++;
+        }
+
+        if (end == start)
+            throw error("Numeric identifier expected.", input, start, ParseException.Kind.MISSING_IDENTIFIER);
+        if (numeric && end - start > 1 && charAt(input, start) == '0')
+            throw error("Numeric identifier must not contain leading zeros.", input, start, ParseException.Kind.LEADING_ZERO);
+
+        return end << 1 | (numeric ? 1 : 0);
+    }
+
+    private static void scanBuildMetadataAndEnd(@NotNull CharSequence input, int start) throws ParseException {
+        int position = start;
+        if (charAt(input, position) == PLUS) {
+            position++;
+            if (!isAlphaNumeric(charAt(input, position)))
+                throw error("Alpha-Numeric identifier expected.", input, position, ParseException.Kind.MISSING_IDENTIFIER);
+
+            char current;
+            do {
+                if (charAt(input, position) == DOT) {
+                    if (charAt(input, position + 1) == DOT)
+                        throw error("Alpha-Numeric identifier expected, but found period.", input, position + 1,
+                                    ParseException.Kind.MISSING_IDENTIFIER);
+                    if (charAt(input, position + 1) == END_OF_INPUT)
+                        throw error("Alpha-Numeric identifier expected, but found end of input.", input, position + 1,
+                                    ParseException.Kind.MISSING_IDENTIFIER);
+                }
+                position++;
+                current = charAt(input, position);
+            } while (isAlphaNumeric(current) || current == DOT);
+        }
+
+        if (charAt(input, position) != END_OF_INPUT)
+            throw error("Expected end of version. Illegal character found.", input, position, ParseException.Kind.ILLEGAL_CHARACTER);
+    }
+
+    private static int consumeCharacter(@NotNull CharSequence input, int position, char expected) throws ParseException {
+        if (charAt(input, position) != expected)
+            throw error(String.format("Illegal character. Character '%s' expected.", expected), input, position,
+                        ParseException.Kind.ILLEGAL_CHARACTER);
+        return position + 1;
+    }
+
+    @Contract(pure = true)
+    private static char charAt(@NotNull CharSequence input, int position) {
+        return position < input.length() ? input.charAt(position) : END_OF_INPUT;
+    }
+
+    @Contract(pure = true)
+    private static boolean isDigit(char value) {
+        return CharClass.isDigit(value);
+    }
+
+    @Contract(pure = true)
+    private static boolean isAlphaNumeric(char value) {
+        return CharClass.isAlphaNumeric(value);
+    }
+
+    @NotNull
+    @Contract(value = "_, _, _, _ -> new", pure = true)
+    private static ParseException error(@NotNull String message, @NotNull CharSequence input, int position,
+                                        @NotNull ParseException.Kind kind) {
+        return new ParseException(message, input.toString(), new Char(charAt(input, position), Math.min(position, input.length())), kind);
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionValidator.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import ca.solostudios.strata.parser.tokenizer.Char;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionRange;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+
+/**
+ * A validator for version and version range strings, which never allocates.
+ * <p>
+ * Versions are validated by a table-driven DFA, which accepts exactly the same strings as {@link VersionParser}. The table also holds the
+ * states of glob version ranges, and {@link VersionRangeAutomaton} embeds it in a DFA for the whole grammar of {@link VersionRangeParser},
+ * which version ranges are validated with. The range grammar is therefore only encoded once, in that table.
+ * <p>
+ * When a string is invalid, the offset of the first error is returned. This is the same as the {@link ParseException#getPosition()
+ * position} of the exception thrown when parsing the string.
+ * <p>
+ * Validation is exposed through {@link ca.solostudios.strata.Versions#isValidVersion(CharSequence)} and
+ * {@link ca.solostudios.strata.Versions#isValidVersionRange(CharSequence)}, this class itself is internal.
+ *
+ * @author solonovamax
+ * @see VersionParser
+ * @see VersionRangeParser
+ */
+@ApiStatus.Internal
+public final class VersionValidator {
+    /**
+     * The value returned when a string is valid.
+     */
+    public static final int VALID = -1;
+
+    /**
+     * Returned by {@link #matchVersion(CharSequence, int, int, boolean)} when there is no valid version.
+     */
+    static final int NO_MATCH = -1;
+
+    /**
+     * Returned by {@link #matchVersion(CharSequence, int, int, boolean)} when more input is needed.
+     */
+    static final int INCOMPLETE = -2;
+
+    private static final char END_OF_INPUT = '\0';
+
+    // character classes
+    static final int END = 0;
+    static final int ZERO = 1;
+    static final int DIGIT = 2;
+    static final int LETTER = 3;
+    static final int DASH = 4;
+    static final int DOT = 5;
+    static final int PLUS = 6;
+    static final int STAR = 7;
+    static final int OTHER = 8;
+    static final int CLASS_COUNT = 9;
+
+    // version states
+    static final int MAJOR_START = 0;
+    static final int MAJOR_ZERO = 1;
+    static final int MAJOR = 2;
+    static final int MINOR_START = 3;
+    static final int MINOR_ZERO = 4;
+    static final int MINOR = 5;
+    static final int PATCH_START = 6;
+    static final int PATCH_ZERO = 7;
+    static final int PATCH = 8;
+    static final int PRE_RELEASE_START = 9;
+    static final int PRE_RELEASE_ZERO = 10;
+    /**
+     * A numeric identifier with leading zeros, which is only valid if a letter or dash follows.
+     */
+    static final int PRE_RELEASE_LEADING_ZERO = 11;
+    static final int PRE_RELEASE_NUMERIC = 12;
+    static final int PRE_RELEASE_ALPHANUMERIC = 13;
+    static final int BUILD_METADATA_START = 14;
+    static final int BUILD_METADATA = 15;
+    static final int BUILD_METADATA_DOT = 16;
+
+    // glob range states
+    static final int GLOB_MAJOR_START = 17;
+    static final int GLOB_MAJOR_ZERO = 18;
+    static final int GLOB_MAJOR = 19;
+    static final int GLOB_MINOR_START = 20;
+    static final int GLOB_MINOR_ZERO = 21;
+    static final int GLOB_MINOR = 22;
+    static final int GLOB_PATCH_START = 23;
+    static final int GLOB_PATCH_ZERO = 24;
+    static final int GLOB_PATCH = 25;
+    static final int GLOB_END = 26;
+    static final int STATE_COUNT = 27;
+
+    // errors, as reported by the parsers
+    static final int ERROR_NUMERIC_EXPECTED = 0;
+    static final int ERROR_LEADING_ZERO = 1;
+    static final int ERROR_DOT_EXPECTED = 2;
+    static final int ERROR_END_OF_VERSION_EXPECTED = 3;
+    static final int ERROR_END_OF_INPUT_EXPECTED = 4;
+    static final int ERROR_ALPHANUMERIC_EXPECTED = 5;
+    static final int ERROR_ALPHANUMERIC_EXPECTED_PERIOD = 6;
+    static final int ERROR_ALPHANUMERIC_EXPECTED_END = 7;
+
+    private static final String @NotNull [] ERROR_MESSAGES = {
+            "Numeric identifier expected.",
+            "Numeric identifier must not contain leading zeros.",
+            "Illegal character. Character '.' expected.",
+            "Expected end of version. Illegal character found.",
+            "Illegal character. End of input expected.",
+            "Alpha-Numeric identifier expected.",
+            "Alpha-Numeric identifier expected, but found period.",
+            "Alpha-Numeric identifier expected, but found end of input.",
+    };
+
+    private static final ParseException.Kind @NotNull [] ERROR_KINDS = {
+            ParseException.Kind.MISSING_IDENTIFIER,
+            ParseException.Kind.LEADING_ZERO,
+            ParseException.Kind.ILLEGAL_CHARACTER,
+            ParseException.Kind.ILLEGAL_CHARACTER,
+            ParseException.Kind.ILLEGAL_CHARACTER,
+            ParseException.Kind.MISSING_IDENTIFIER,
+            ParseException.Kind.MISSING_IDENTIFIER,
+            ParseException.Kind.MISSING_IDENTIFIER,
+    };
+
+    // actions, for transitions which do not lead to another state
+    static final byte ACCEPT = -1;
+    /**
+     * The error is at the current character.
+     */
+    static final byte ERROR = -2;
+    /**
+     * The error is at the previous character. Used for leading zeros.
+     */
+    static final byte ERROR_PREVIOUS = -3;
+    /**
+     * The error is at the start of the current pre-release identifier. Used for leading zeros.
+     */
+    static final byte ERROR_IDENTIFIER = -4;
+
+    static final byte @NotNull [] CHARACTER_CLASSES = new byte[128];
+
+    static final byte @NotNull [] TRANSITIONS = new byte[STATE_COUNT * CLASS_COUNT];
+
+    static {
+        for (int c = 0; c < CHARACTER_CLASSES.length; c++) {
+            if (c == '\0')
+                CHARACTER_CLASSES[c] = END; // the parsers treat a null character as the end of input
+            else if (c == '0')
+                CHARACTER_CLASSES[c] = ZERO;
+            else if (c >= '1' && c <= '9')
+                CHARACTER_CLASSES[c] = DIGIT;
+            else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))
+                CHARACTER_CLASSES[c] = LETTER;
+            else if (c == '-')
+                CHARACTER_CLASSES[c] = DASH;
+            else if (c == '.')
+                CHARACTER_CLASSES[c] = DOT;
+            else if (c == '+')
+                CHARACTER_CLASSES[c] = PLUS;
+            else if (c == '*')
+                CHARACTER_CLASSES[c] = STAR;
+            else
+                CHARACTER_CLASSES[c] = OTHER;
+        }
+
+        Arrays.fill(TRANSITIONS, ERROR);
+
+        // core version
+        number(MAJOR_START, MAJOR_ZERO, MAJOR);
+        on(MAJOR_ZERO, DOT, MINOR_START);
+        on(MAJOR, DOT, MINOR_START);
+        number(MINOR_START, MINOR_ZERO, MINOR);
+        on(MINOR_ZERO, DOT, PATCH_START);
+        on(MINOR, DOT, PATCH_START);
+        number(PATCH_START, PATCH_ZERO, PATCH);
+        for (int state : new int[]{ PATCH_ZERO, PATCH }) {
+            on(state, DASH, PRE_RELEASE_START);
+            on(state, PLUS, BUILD_METADATA_START);
+            on(state, END, ACCEPT);
+        }
+
+        // pre-release
+        on(PRE_RELEASE_START, ZERO, PRE_RELEASE_ZERO);
+        on(PRE_RELEASE_START, DIGIT, PRE_RELEASE_NUMERIC);
+        on(PRE_RELEASE_START, LETTER, PRE_RELEASE_ALPHANUMERIC);
+        on(PRE_RELEASE_START, DASH, PRE_RELEASE_ALPHANUMERIC);
+
+        on(PRE_RELEASE_ZERO, ZERO, PRE_RELEASE_LEADING_ZERO);
+        on(PRE_RELEASE_ZERO, DIGIT, PRE_RELEASE_LEADING_ZERO);
+        on(PRE_RELEASE_LEADING_ZERO, ZERO, PRE_RELEASE_LEADING_ZERO);
+        on(PRE_RELEASE_LEADING_ZERO, DIGIT, PRE_RELEASE_LEADING_ZERO);
+        for (int type : new int[]{ END, DOT, PLUS, STAR, OTHER })
+            on(PRE_RELEASE_LEADING_ZERO, type, ERROR_IDENTIFIER);
+        on(PRE_RELEASE_NUMERIC, ZERO, PRE_RELEASE_NUMERIC);
+        on(PRE_RELEASE_NUMERIC, DIGIT, PRE_RELEASE_NUMERIC);
+
+        for (int state : new int[]{ PRE_RELEASE_ZERO, PRE_RELEASE_LEADING_ZERO, PRE_RELEASE_NUMERIC, PRE_RELEASE_ALPHANUMERIC }) {
+            on(state, LETTER, PRE_RELEASE_ALPHANUMERIC);
+            on(state, DASH, PRE_RELEASE_ALPHANUMERIC);
+        }
+        on(PRE_RELEASE_ALPHANUMERIC, ZERO, PRE_RELEASE_ALPHANUMERIC);
+        on(PRE_RELEASE_ALPHANUMERIC, DIGIT, PRE_RELEASE_ALPHANUMERIC);
+
+        for (int state : new int[]{ PRE_RELEASE_ZERO, PRE_RELEASE_NUMERIC, PRE_RELEASE_ALPHANUMERIC }) {
+            on(state, DOT, PRE_RELEASE_START);
+            on(state, PLUS, BUILD_METADATA_START);
+            on(state, END, ACCEPT);
+        }
+
+        // build metadata
+        for (int state : new int[]{ BUILD_METADATA_START, BUILD_METADATA, BUILD_METADATA_DOT })
+            for (int type : new int[]{ ZERO, DIGIT, LETTER, DASH })
+                on(state, type, BUILD_METADATA);
+        on(BUILD_METADATA, DOT, BUILD_METADATA_DOT);
+        on(BUILD_METADATA, END, ACCEPT);
+
+        // glob ranges
+        on(GLOB_MAJOR_START, PLUS, GLOB_END);
+        on(GLOB_MAJOR_START, STAR, GLOB_END);
+        number(GLOB_MAJOR_START, GLOB_MAJOR_ZERO, GLOB_MAJOR);
+        on(GLOB_MAJOR_ZERO, DOT, GLOB_MINOR_START);
+        on(GLOB_MAJOR, DOT, GLOB_MINOR_START);
+        on(GLOB_MINOR_START, PLUS, GLOB_END);
+        number(GLOB_MINOR_START, GLOB_MINOR_ZERO, GLOB_MINOR);
+        on(GLOB_MINOR_ZERO, DOT, GLOB_PATCH_START);
+        on(GLOB_MINOR, DOT, GLOB_PATCH_START);
+        on(GLOB_PATCH_START, PLUS, GLOB_END);
+        number(GLOB_PATCH_START, GLOB_PATCH_ZERO, GLOB_PATCH);
+        on(GLOB_PATCH_ZERO, END, ACCEPT);
+        on(GLOB_PATCH, END, ACCEPT);
+        on(GLOB_END, END, ACCEPT);
+    }
+
+    private VersionValidator() {
+    }
+
+    /**
+     * Validates a version string, according to the semver spec as listed in {@link VersionParser}.
+     *
+     * @param version The version string to validate.
+     * @return {@link #VALID} if the string is a valid {@link Version}, otherwise the offset of the first error.
+     */
+    @Contract(pure = true)
+    public static int validateVersion(@NotNull CharSequence version) {
+        return run(MAJOR_START, version, 0, version.length());
+    }
+
+    /**
+     * Validates a version range string, according to the specification described in {@link VersionRangeParser}.
+     *
+     * @param versionRange The version range string to validate.
+     * @return {@link #VALID} if the string is a valid {@link VersionRange}, otherwise the offset of the first error.
+     */
+    @Contract(pure = true)
+    public static int validateVersionRange(@NotNull CharSequence versionRange) {
+        return VersionRangeAutomaton.validate(versionRange);
+    }
+
+    /**
+     * Finds the longest valid version starting at the provided offset.
+     *
+     * @param input    The input to match against.
+     * @param from     The offset to start matching at.
+     * @param to       The end of the available input.
+     * @param complete {@code true} if no further input will follow {@code to}, {@code false} otherwise.
+     * @return The end of the longest valid version, {@link #NO_MATCH} if there is no valid version at the offset, or {@link #INCOMPLETE}
+     * if more input is needed to know where the longest valid version ends.
+     */
+    @Contract(pure = true)
+    static int matchVersion(@NotNull CharSequence input, int from, int to, boolean complete) {
+        int state = MAJOR_START;
+        int longestMatch = NO_MATCH;
+        for (int i = from; ; i++) {
+            if (TRANSITIONS[state * CLASS_COUNT + END] == ACCEPT)
+                longestMatch = i;
+
+            if (i >= to)
+                return complete ? longestMatch : INCOMPLETE;
+
+            char c = input.charAt(i);
+            int next = TRANSITIONS[state * CLASS_COUNT + (c < CHARACTER_CLASSES.length ? CHARACTER_CLASSES[c] : OTHER)];
+            if (next < 0)
+                return longestMatch;
+            state = next;
+        }
+    }
+
+    /**
+     * Finds the error that the parsers report when the DFA fails in the provided state.
+     *
+     * @param state The state the DFA was in.
+     * @param type  The class of the character that could not be accepted.
+     * @return The error the parsers would report, to be passed to {@link #exception(int, String, int)}.
+     */
+    @Contract(pure = true)
+    static int error(int state, int type) {
+        switch (state) {
+            case MAJOR_ZERO:
+            case MAJOR:
+            case MINOR_ZERO:
+            case MINOR:
+            case GLOB_MAJOR_ZERO:
+            case GLOB_MAJOR:
+            case GLOB_MINOR_ZERO:
+            case GLOB_MINOR:
+                return type == ZERO || type == DIGIT ? ERROR_LEADING_ZERO : ERROR_DOT_EXPECTED;
+            case PATCH_ZERO:
+            case PATCH:
+                return type == ZERO || type == DIGIT ? ERROR_LEADING_ZERO : ERROR_END_OF_VERSION_EXPECTED;
+            case GLOB_PATCH_ZERO:
+            case GLOB_PATCH:
+                return type == ZERO || type == DIGIT ? ERROR_LEADING_ZERO : ERROR_END_OF_INPUT_EXPECTED;
+            case GLOB_END:
+                return ERROR_END_OF_INPUT_EXPECTED;
+            case PRE_RELEASE_LEADING_ZERO:
+                return ERROR_LEADING_ZERO;
+            case PRE_RELEASE_ZERO:
+            case PRE_RELEASE_NUMERIC:
+            case PRE_RELEASE_ALPHANUMERIC:
+            case BUILD_METADATA:
+                return ERROR_END_OF_VERSION_EXPECTED;
+            case BUILD_METADATA_START:
+                return ERROR_ALPHANUMERIC_EXPECTED;
+            case BUILD_METADATA_DOT:
+                if (type == DOT)
+                    return ERROR_ALPHANUMERIC_EXPECTED_PERIOD;
+                else if (type == END)
+                    return ERROR_ALPHANUMERIC_EXPECTED_END;
+                else
+                    return ERROR_END_OF_VERSION_EXPECTED;
+            default:
+                return ERROR_NUMERIC_EXPECTED;
+        }
+    }
+
+    /**
+     * Creates the exception that the parsers throw for an error.
+     *
+     * @param error       The error, as returned by {@link #error(int, int)}.
+     * @param parseString The string that was being parsed.
+     * @param position    The offset of the error.
+     * @return The exception the parsers would throw.
+     */
+    @NotNull
+    @Contract(value = "_, _, _ -> new", pure = true)
+    static ParseException exception(int error, @NotNull String parseString, int position) {
+        char c = position < parseString.length() ? parseString.charAt(position) : END_OF_INPUT;
+        return new ParseException(ERROR_MESSAGES[error], parseString, new Char(c, position), ERROR_KINDS[error]);
+    }
+
+    /**
+     * Runs the DFA from the provided state over a part of the input.
+     * <p>
+     * The end of the part is treated as the end of input.
+     */
+    @Contract(pure = true)
+    private static int run(int state, @NotNull CharSequence input, int from, int to) {
+        int identifierStart = from;
+        for (int i = from; ; i++) {
+            char c = i < to ? input.charAt(i) : END_OF_INPUT;
+            if (state == PRE_RELEASE_START)
+                identifierStart = i;
+
+            int next = TRANSITIONS[state * CLASS_COUNT + (c < CHARACTER_CLASSES.length ? CHARACTER_CLASSES[c] : OTHER)];
+            if (next >= 0) {
+                state = next;
+                continue;
+            }
+
+            switch (next) {
+                case ACCEPT:
+                    return VALID;
+                case ERROR_PREVIOUS:
+                    return i - 1;
+                case ERROR_IDENTIFIER:
+                    return identifierStart;
+                default:
+                    return Math.min(i, to);
+            }
+        }
+    }
+
+    private static void number(int start, int zero, int number) {
+        on(start, ZERO, zero);
+        on(start, DIGIT, number);
+        on(zero, ZERO, ERROR_PREVIOUS);
+        on(zero, DIGIT, ERROR_PREVIOUS);
+        on(number, ZERO, number);
+        on(number, DIGIT, number);
+    }
+
+    private static void on(int state, int type, int next) {
+        TRANSITIONS[state * CLASS_COUNT + type] = (byte) next;
+    }
+}
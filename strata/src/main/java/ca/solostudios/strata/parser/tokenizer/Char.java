@@ -85,6 +85,19 @@ public class Char implements Position {
         return false;
     }
 
+    /**
+     * Checks if the internal value belongs to any of the given character classes.
+     * <p>
+     * Unlike {@link #is(char...)}, this does not allocate, and costs a single table lookup regardless of how many characters are tested.
+     *
+     * @param classes the bit set of {@link CharClass} classes to check against
+     * @return {@code true} if the value belongs to one of the given classes, {@code false} otherwise
+     */
+    @Contract(pure = true)
+    public boolean hasClass(int classes) {
+        return CharClass.is(this.value, classes);
+    }
+
     /**
      * Returns the value of this char.
      *
@@ -102,7 +115,7 @@ public class Char implements Position {
      */
     @Contract(pure = true)
     public boolean isAlphaNumeric() {
-        return isLetter() || isDigit() || is('-');
+        return CharClass.isAlphaNumeric(this.value);
     }
 
     /**
@@ -112,7 +125,7 @@ public class Char implements Position {
      */
     @Contract(pure = true)
     public boolean isDigit() {
-        return this.value >= '0' && this.value <= '9';
+        return CharClass.isDigit(this.value);
     }
 
     /**
@@ -122,7 +135,7 @@ public class Char implements Position {
      */
     @Contract(pure = true)
     public boolean isLetter() {
-        return (this.value >= 'a' && this.value <= 'z') || (this.value >= 'A' && this.value <= 'Z');
+        return CharClass.is(this.value, CharClass.LETTER);
     }
 
     /**
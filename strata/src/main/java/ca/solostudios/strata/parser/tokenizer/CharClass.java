@@ -0,0 +1,185 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file CharClass.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser.tokenizer;
+
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+
+
+/**
+ * Table-driven classification of the characters used in versions and version ranges.
+ * <p>
+ * Each ASCII character is mapped to a bit set of the classes it belongs to, so classifying a character is a bounds check and a single
+ * array load, no matter how many classes are tested at once. Characters outside of ASCII never belong to any class.
+ * <p>
+ * The table is shared by the parsers and the version classes of this library, and is not meant to be used by other code.
+ *
+ * @author solonovamax
+ */
+@ApiStatus.Internal
+public final class CharClass {
+    /**
+     * The digits, {@code 0..9}.
+     */
+    public static final int DIGIT = 1;
+
+    /**
+     * The ASCII letters, {@code a..z} and {@code A..Z}.
+     */
+    public static final int LETTER = 1 << 1;
+
+    /**
+     * The hyphen, {@code -}.
+     */
+    public static final int HYPHEN = 1 << 2;
+
+    /**
+     * The dot, {@code .}.
+     */
+    public static final int DOT = 1 << 3;
+
+    /**
+     * The plus sign, {@code +}.
+     */
+    public static final int PLUS = 1 << 4;
+
+    /**
+     * The star, {@code *}.
+     */
+    public static final int STAR = 1 << 5;
+
+    /**
+     * The opening bracket and parenthesis of a version range, {@code [} and {@code (}.
+     */
+    public static final int RANGE_START = 1 << 6;
+
+    /**
+     * The closing bracket and parenthesis of a version range, {@code ]} and {@code )}.
+     */
+    public static final int RANGE_END = 1 << 7;
+
+    /**
+     * The comma separating the bounds of a version range, {@code ,}.
+     */
+    public static final int RANGE_SEPARATOR = 1 << 8;
+
+    /**
+     * The comparison operators, {@code <} and {@code >}.
+     */
+    public static final int COMPARISON = 1 << 9;
+
+    /**
+     * The equals sign following a comparison operator, {@code =}.
+     */
+    public static final int EQUALS = 1 << 10;
+
+    /**
+     * The caret, {@code ^}.
+     */
+    public static final int CARET = 1 << 11;
+
+    /**
+     * The characters allowed in pre-release and build metadata identifiers: digits, letters, and hyphens.
+     */
+    public static final int ALPHANUMERIC = DIGIT | LETTER | HYPHEN;
+
+    private static final short[] CLASSES = new short[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++)
+            CLASSES[c] = DIGIT;
+        for (char c = 'a'; c <= 'z'; c++)
+            CLASSES[c] = LETTER;
+        for (char c = 'A'; c <= 'Z'; c++)
+            CLASSES[c] = LETTER;
+
+        CLASSES['-'] = HYPHEN;
+        CLASSES['.'] = DOT;
+        CLASSES['+'] = PLUS;
+        CLASSES['*'] = STAR;
+        CLASSES['['] = RANGE_START;
+        CLASSES['('] = RANGE_START;
+        CLASSES[']'] = RANGE_END;
+        CLASSES[')'] = RANGE_END;
+        CLASSES[','] = RANGE_SEPARATOR;
+        CLASSES['<'] = COMPARISON;
+        CLASSES['>'] = COMPARISON;
+        CLASSES['='] = EQUALS;
+        CLASSES['^'] = CARET;
+    }
+
+    private CharClass() {
+    }
+
+    /**
+     * The classes a character belongs to.
+     *
+     * @param value The character to classify.
+     * @return The bit set of classes the character belongs to, or {@code 0} if it belongs to none.
+     */
+    @Contract(pure = true)
+    public static int of(char value) {
+        return value < CLASSES.length ? CLASSES[value] : 0;
+    }
+
+    /**
+     * Checks if a character belongs to any of the provided classes.
+     *
+     * @param value   The character to classify.
+     * @param classes The bit set of classes to check against.
+     * @return {@code true} if the character belongs to at least one of the classes, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public static boolean is(char value, int classes) {
+        return (of(value) & classes) != 0;
+    }
+
+    /**
+     * Checks if a character is a digit ({@code 0..9}).
+     *
+     * @param value The character to classify.
+     * @return {@code true} if the character is a digit, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public static boolean isDigit(char value) {
+        return is(value, DIGIT);
+    }
+
+    /**
+     * Checks if a character is allowed in an identifier ({@code 0..9}, {@code a..z}, {@code A..Z}, {@code -}).
+     *
+     * @param value The character to classify.
+     * @return {@code true} if the character is alphanumeric, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public static boolean isAlphaNumeric(char value) {
+        return is(value, ALPHANUMERIC);
+    }
+}
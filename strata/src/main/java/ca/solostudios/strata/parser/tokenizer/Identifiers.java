@@ -0,0 +1,107 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file Identifiers.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser.tokenizer;
+
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Comparison of the numeric and alphanumeric identifiers of versions, directly on the text they were parsed from.
+ * <p>
+ * This is an internal utility shared by the parsers and the version implementations, and is not part of the public API.
+ *
+ * @author solonovamax
+ */
+@ApiStatus.Internal
+public final class Identifiers {
+    private Identifiers() {
+    }
+
+    /**
+     * Compares two numbers written in decimal, without leading zeros.
+     *
+     * @param first  The text containing the first number.
+     * @param startA The index of the first digit of the first number.
+     * @param endA   The index after the last digit of the first number.
+     * @param second The text containing the second number.
+     * @param startB The index of the first digit of the second number.
+     * @param endB   The index after the last digit of the second number.
+     * @return A negative integer, zero, or a positive integer as the first number is less than, equal to, or greater than the second.
+     */
+    @Contract(pure = true)
+    public static int compareNumeric(@NotNull CharSequence first, int startA, int endA,
+                                     @NotNull CharSequence second, int startB, int endB) {
+        int comparison = compareLengths(endA - startA, endB - startB);
+        return comparison != 0 ? comparison : compareLexically(first, startA, endA, second, startB, endB);
+    }
+
+    /**
+     * Compares two numbers written in decimal, without leading zeros, by their number of digits.
+     * <p>
+     * Numbers never have leading zeros, so the longer one is always greater. Numbers of the same length must then be compared lexically.
+     *
+     * @param lengthA The number of digits of the first number.
+     * @param lengthB The number of digits of the second number.
+     * @return A negative integer, zero, or a positive integer as the first number has fewer, as many, or more digits than the second.
+     */
+    @Contract(pure = true)
+    public static int compareLengths(long lengthA, long lengthB) {
+        return Long.compare(lengthA, lengthB);
+    }
+
+    /**
+     * Compares two identifiers lexically, in ASCII sort order.
+     *
+     * @param first  The text containing the first identifier.
+     * @param startA The index of the first character of the first identifier.
+     * @param endA   The index after the last character of the first identifier.
+     * @param second The text containing the second identifier.
+     * @param startB The index of the first character of the second identifier.
+     * @param endB   The index after the last character of the second identifier.
+     * @return A negative integer, zero, or a positive integer as the first identifier is less than, equal to, or greater than the
+     * second.
+     */
+    @Contract(pure = true)
+    public static int compareLexically(@NotNull CharSequence first, int startA, int endA,
+                                       @NotNull CharSequence second, int startB, int endB) {
+        int lengthA = endA - startA;
+        int lengthB = endB - startB;
+        int length = Math.min(lengthA, lengthB);
+        for (int i = 0; i < length; i++) {
+            char charA = first.charAt(startA + i);
+            char charB = second.charAt(startB + i);
+            if (charA != charB)
+                return charA - charB;
+        }
+        return lengthA - lengthB;
+    }
+}
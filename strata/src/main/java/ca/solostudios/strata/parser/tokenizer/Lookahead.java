@@ -172,6 +172,17 @@ public abstract class Lookahead<T> {
         }
     }
 
+    /**
+     * Resets this lookahead to its initial state, discarding all buffered items.
+     * <p>
+     * Subclasses which support being reused should invoke this when they are pointed at a new underlying data source.
+     */
+    protected void reset() {
+        this.itemBuffer.clear();
+        this.endReached = false;
+        this.endOfInputIndicator = null;
+    }
+
     /**
      * Creates the end of input indicator item.
      * <p>
@@ -0,0 +1,105 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file LookaheadCharSequence.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser.tokenizer;
+
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * A reader of character sequences, reading character by character and supporting lookaheads.
+ * <p>
+ * Unlike {@link LookaheadReader}, characters are read directly from the sequence, without any intermediate buffering. Instances can be
+ * reused for several sequences through {@link #reset(CharSequence)}.
+ * <p>
+ * This reader backs the parsers of this library, and is not part of its public API.
+ */
+@ApiStatus.Internal
+public class LookaheadCharSequence extends Lookahead<Char> {
+    @NotNull
+    private CharSequence input;
+
+    private int pos = 0;
+
+    /**
+     * Creates a new LookaheadCharSequence for the given sequence.
+     *
+     * @param input the sequence to draw the input from
+     */
+    @Contract(pure = true)
+    public LookaheadCharSequence(@NotNull CharSequence input) {
+        super();
+        this.input = input;
+    }
+
+    /**
+     * Resets this reader to the start of a new sequence.
+     *
+     * @param input the sequence to draw the input from
+     */
+    public void reset(@NotNull CharSequence input) {
+        reset();
+        this.input = input;
+        this.pos = 0;
+    }
+
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    protected Char endOfInput() {
+        return new Char('\0', this.pos);
+    }
+
+    @Nullable
+    @Override
+    protected Char fetch() {
+        if (this.pos >= this.input.length())
+            return null;
+
+        Char next = new Char(this.input.charAt(this.pos), this.pos);
+        this.pos++;
+        return next;
+    }
+
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    public String toString() {
+        if (this.itemBuffer.isEmpty()) {
+            return String.format("%1d: Buffer empty", this.pos);
+        }
+        if (this.itemBuffer.size() < 2) {
+            return String.format("%1d: %s", this.pos, current());
+        }
+        return String.format("%1d: %s, %s", this.pos, current(), next());
+    }
+}
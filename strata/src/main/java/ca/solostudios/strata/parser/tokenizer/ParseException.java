@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file ParseException.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -31,6 +31,7 @@ package ca.solostudios.strata.parser.tokenizer;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 
 /**
@@ -42,6 +43,9 @@ public final class ParseException extends RuntimeException {
     @NotNull
     private final Position position;
 
+    @NotNull
+    private final Kind kind;
+
     /**
      * Constructs a new parse exception with the provided message, parse string, and position.
      *
@@ -51,10 +55,22 @@ public final class ParseException extends RuntimeException {
      */
     @Contract(pure = true)
     public ParseException(@NotNull String message, @NotNull String parseString, @NotNull Position position) {
-        // mmmmm, doubly nested String#format, my *favourite*
-        super(String.format(String.format("%%s\n%%s\n%%%ss", position.getPos() == 0 ? "" : position.getPos()), message, parseString, '^'),
-                null, false, false);
+        this(message, parseString, position, Kind.OTHER);
+    }
+
+    /**
+     * Constructs a new parse exception with the provided message, parse string, position, and kind.
+     *
+     * @param message     The message explaining why the parsing exception occurred.
+     * @param parseString The string that was being parsed.
+     * @param position    The position at which the error occurred.
+     * @param kind        The kind of error. It is replaced with {@link Kind#UNEXPECTED_END_OF_INPUT} if the position is the end of input.
+     */
+    @Contract(pure = true)
+    public ParseException(@NotNull String message, @NotNull String parseString, @NotNull Position position, @NotNull Kind kind) {
+        super(format(message, parseString, position), null, false, false);
         this.position = position;
+        this.kind = kindAt(position, kind);
     }
 
     /**
@@ -65,12 +81,27 @@ public final class ParseException extends RuntimeException {
      */
     @Contract(pure = true)
     public ParseException(@NotNull String message, @NotNull Position position) {
+        this(message, position, Kind.OTHER);
+    }
+
+    /**
+     * Constructs a new parse exception with the provided message, position, and kind.
+     *
+     * @param message  The message explaining why the parsing exception occurred.
+     * @param position The position at which the error occurred.
+     * @param kind     The kind of error. It is replaced with {@link Kind#UNEXPECTED_END_OF_INPUT} if the position is the end of input.
+     */
+    @Contract(pure = true)
+    public ParseException(@NotNull String message, @NotNull Position position, @NotNull Kind kind) {
         super(message, null, true, false);
         this.position = position;
+        this.kind = kindAt(position, kind);
     }
 
     /**
      * Constructs a new parse exception with the provided exception as a cause, parse string, and position.
+     * <p>
+     * If the cause is a parse exception, its kind is kept.
      *
      * @param exception   The exception, which caused this.
      * @param parseString The string that was being parsed.
@@ -78,19 +109,25 @@ public final class ParseException extends RuntimeException {
      */
     @Contract(pure = true)
     public ParseException(@NotNull Exception exception, @NotNull String parseString, @NotNull Position position) {
-        this(exception.getMessage(), parseString, position);
+        super(format(exception.getMessage(), parseString, position), null, false, false);
+        this.position = position;
+        this.kind = kindOf(exception);
         addSuppressed(exception);
     }
 
     /**
      * Constructs a new parse exception with the provided exception as a cause and position.
+     * <p>
+     * If the cause is a parse exception, its kind is kept.
      *
      * @param exception The exception, which caused this.
      * @param position  The position at which the error occurred.
      */
     @Contract(pure = true)
     public ParseException(@NotNull Exception exception, @NotNull Position position) {
-        this(exception.getMessage(), position);
+        super(exception.getMessage(), null, true, false);
+        this.position = position;
+        this.kind = kindOf(exception);
         addSuppressed(exception);
     }
 
@@ -105,6 +142,17 @@ public final class ParseException extends RuntimeException {
         return this.position;
     }
 
+    /**
+     * The kind of error this exception describes.
+     *
+     * @return The kind of this error.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Kind getKind() {
+        return this.kind;
+    }
+
     /**
      * Formats this parse exception as a string.
      *
@@ -116,4 +164,49 @@ public final class ParseException extends RuntimeException {
     public String toString() {
         return String.format("%s", getMessage());
     }
+
+    @NotNull
+    @Contract(pure = true)
+    private static String format(@Nullable String message, @NotNull String parseString, @NotNull Position position) {
+        // mmmmm, doubly nested String#format, my *favourite*
+        return String.format(String.format("%%s\n%%s\n%%%ss", position.getPos() == 0 ? "" : position.getPos()), message, parseString, '^');
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static Kind kindAt(@NotNull Position position, @NotNull Kind kind) {
+        return position instanceof Char && ((Char) position).isEndOfInput() ? Kind.UNEXPECTED_END_OF_INPUT : kind;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static Kind kindOf(@NotNull Exception exception) {
+        return exception instanceof ParseException ? ((ParseException) exception).kind : Kind.OTHER;
+    }
+
+    /**
+     * The kinds of parse errors.
+     */
+    public enum Kind {
+        /**
+         * A numeric identifier started with a zero.
+         */
+        LEADING_ZERO,
+        /**
+         * A numeric or alphanumeric identifier was expected, but another character was found.
+         */
+        MISSING_IDENTIFIER,
+        /**
+         * A character that is not allowed at its position was found.
+         */
+        ILLEGAL_CHARACTER,
+        /**
+         * The input ended before the version or version range was complete.
+         */
+        UNEXPECTED_END_OF_INPUT,
+        /**
+         * Any other error.
+         */
+        OTHER,
+    }
 }
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file BuildMetadata.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -29,12 +29,17 @@
 package ca.solostudios.strata.version;
 
 
+import ca.solostudios.strata.parser.tokenizer.CharClass;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 
 /**
  * A class representing the build metadata of a {@link Version}
+ * <p>
+ * The identifiers of the build metadata can be accessed by index through {@link #identifierAt(int)}, which returns a view into the build
+ * metadata string instead of a copy. The identifier boundaries are found once, either by the parser or on the first indexed access.
  *
  * @author solonovamax
  */
@@ -47,6 +52,12 @@ public final class BuildMetadata implements Formattable {
     @NotNull
     private final String buildMetadata;
 
+    /**
+     * The end offset of each identifier in {@link #buildMetadata}, or {@code null} if they have not been found yet. This is volatile so
+     * that the contents of the array are safely published to other threads.
+     */
+    private volatile int @Nullable [] ends;
+
     /**
      * Constructs a new build metadata
      *
@@ -57,6 +68,52 @@ public final class BuildMetadata implements Formattable {
         this.buildMetadata = buildMetadata;
     }
 
+    @Contract(pure = true)
+    private BuildMetadata(@NotNull String buildMetadata, int @NotNull [] ends) {
+        this.buildMetadata = buildMetadata;
+        this.ends = ends;
+    }
+
+    /**
+     * Creates build metadata from a region of a character sequence, finding the identifier boundaries in the same pass that validates
+     * it.
+     *
+     * @param buildMetadata The character sequence containing the build metadata, without the leading plus.
+     * @param start         The index of the first character of the build metadata.
+     * @param end           The index after the last character of the build metadata.
+     * @return The build metadata.
+     * @throws IllegalArgumentException If the region does not contain valid build metadata identifiers.
+     */
+    @NotNull
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static BuildMetadata of(@NotNull CharSequence buildMetadata, int start, int end) {
+        int count = 1;
+        for (int i = start; i < end; i++) {
+            if (buildMetadata.charAt(i) == '.')
+                count++;
+        }
+
+        int[] ends = new int[count];
+        int index = 0;
+        int identifierStart = start;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? buildMetadata.charAt(i) : '.';
+            if (c == '.') {
+                if (i == identifierStart)
+                    throw new IllegalArgumentException(String.format("Build metadata identifier expected at index %d of '%s'.",
+                                                                     i - start, buildMetadata.subSequence(start, end)));
+
+                ends[index++] = i - start;
+                identifierStart = i + 1;
+            } else if (!CharClass.isAlphaNumeric(c)) {
+                throw new IllegalArgumentException(String.format("Illegal character '%s' at index %d of '%s'.",
+                                                                 c, i - start, buildMetadata.subSequence(start, end)));
+            }
+        }
+
+        return new BuildMetadata(buildMetadata.subSequence(start, end).toString(), ends);
+    }
+
     /**
      * The build metadata as a string.
      *
@@ -68,6 +125,76 @@ public final class BuildMetadata implements Formattable {
         return this.buildMetadata;
     }
 
+    /**
+     * The number of identifiers in this build metadata.
+     *
+     * @return The number of identifiers, or {@code 0} if there is no build metadata.
+     */
+    @Contract(pure = true)
+    public int getIdentifierCount() {
+        return ends().length;
+    }
+
+    /**
+     * The identifier at the provided index, as a view into the build metadata string.
+     * <p>
+     * No characters are copied; calling {@link CharSequence#toString()} on the view creates the string.
+     *
+     * @param index The index of the identifier.
+     * @return The identifier.
+     * @throws IndexOutOfBoundsException If the index is not smaller than {@link #getIdentifierCount()}.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public CharSequence identifierAt(int index) {
+        return new IdentifierView(this.buildMetadata, start(index), end(index));
+    }
+
+    /**
+     * Whether the identifier at the provided index only contains digits.
+     *
+     * @param index The index of the identifier.
+     * @return {@code true} if the identifier only contains digits, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException If the index is not smaller than {@link #getIdentifierCount()}.
+     */
+    @Contract(pure = true)
+    public boolean isNumericIdentifier(int index) {
+        int end = end(index);
+        for (int i = start(index); i < end; i++) {
+            if (!CharClass.isDigit(this.buildMetadata.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * The numeric value of the identifier at the provided index.
+     * <p>
+     * Unlike pre-release identifiers, numeric build metadata identifiers may contain leading zeros, which are ignored.
+     *
+     * @param index The index of the identifier.
+     * @return The value of the identifier.
+     * @throws NumberFormatException     If the identifier is not numeric, or does not fit in a {@code long}.
+     * @throws IndexOutOfBoundsException If the index is not smaller than {@link #getIdentifierCount()}.
+     */
+    @Contract(pure = true)
+    public long numericIdentifierAt(int index) {
+        int start = start(index);
+        int end = end(index);
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = this.buildMetadata.charAt(i);
+            if (!CharClass.isDigit(c))
+                throw new NumberFormatException(String.format("Build metadata identifier '%s' is not numeric.",
+                                                              this.buildMetadata.substring(start, end)));
+            if (value > (Long.MAX_VALUE - (c - '0')) / 10)
+                throw new NumberFormatException(String.format("Build metadata identifier '%s' does not fit in a long.",
+                                                              this.buildMetadata.substring(start, end)));
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
     @Override
     @Contract(pure = true)
     public int hashCode() {
@@ -96,8 +223,95 @@ public final class BuildMetadata implements Formattable {
     @Contract(pure = true)
     public String getFormatted() {
         if (!this.buildMetadata.isEmpty())
-            return String.format("+%s", this.buildMetadata);
+            return '+' + this.buildMetadata;
         else
             return "";
     }
+
+    @Contract(pure = true)
+    private int start(int index) {
+        return index == 0 ? 0 : ends()[index - 1] + 1;
+    }
+
+    @Contract(pure = true)
+    private int end(int index) {
+        int[] ends = ends();
+        if (index < 0 || index >= ends.length)
+            throw new IndexOutOfBoundsException(String.format("Identifier index %d out of bounds for %d identifiers.", index, ends.length));
+        return ends[index];
+    }
+
+    private int @NotNull [] ends() {
+        int[] ends = this.ends;
+        if (ends == null) {
+            if (this.buildMetadata.isEmpty()) {
+                ends = new int[0];
+            } else {
+                int count = 1;
+                for (int i = 0; i < this.buildMetadata.length(); i++) {
+                    if (this.buildMetadata.charAt(i) == '.')
+                        count++;
+                }
+
+                ends = new int[count];
+                int index = 0;
+                for (int i = 0; i < this.buildMetadata.length(); i++) {
+                    if (this.buildMetadata.charAt(i) == '.')
+                        ends[index++] = i;
+                }
+                ends[index] = this.buildMetadata.length();
+            }
+            this.ends = ends;
+        }
+        return ends;
+    }
+
+    /**
+     * A read-only view of a region of the build metadata string.
+     */
+    private static final class IdentifierView implements CharSequence {
+        @NotNull
+        private final String source;
+
+        private final int start;
+
+        private final int end;
+
+        @Contract(pure = true)
+        private IdentifierView(@NotNull String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        @Contract(pure = true)
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        @Contract(pure = true)
+        public char charAt(int index) {
+            if (index < 0 || index >= length())
+                throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for length %d.", index, length()));
+            return this.source.charAt(this.start + index);
+        }
+
+        @NotNull
+        @Override
+        @Contract(value = "_, _ -> new", pure = true)
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end)
+                throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d.", start, end, length()));
+            return new IdentifierView(this.source, this.start + start, this.start + end);
+        }
+
+        @NotNull
+        @Override
+        @Contract(pure = true)
+        public String toString() {
+            return this.source.substring(this.start, this.end);
+        }
+    }
 }
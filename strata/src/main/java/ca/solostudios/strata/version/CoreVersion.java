@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file CoreVersion.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 18-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -142,6 +142,29 @@ public final class CoreVersion implements Comparable<CoreVersion>, Formattable {
     @Override
     @Contract(pure = true)
     public String getFormatted() {
-        return String.format("%s.%s.%s", this.major, this.minor, this.patch);
+        return appendTo(new StringBuilder(16)).toString();
+    }
+
+    /**
+     * Appends this core version, formatted as {@code major.minor.patch}, to a builder.
+     *
+     * @param builder The builder to append to.
+     * @return The builder.
+     */
+    @NotNull
+    @Contract("_ -> param1")
+    StringBuilder appendTo(@NotNull StringBuilder builder) {
+        appendComponent(builder, this.major).append('.');
+        appendComponent(builder, this.minor).append('.');
+        return appendComponent(builder, this.patch);
+    }
+
+    @NotNull
+    private static StringBuilder appendComponent(@NotNull StringBuilder builder, @NotNull BigInteger component) {
+        // appending a long does not create an intermediate string
+        if (component.bitLength() < Long.SIZE)
+            return builder.append(component.longValue());
+        else
+            return builder.append(component);
     }
 }
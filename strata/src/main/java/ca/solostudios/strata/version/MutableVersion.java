@@ -0,0 +1,649 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file MutableVersion.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.version;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.parser.VersionParser;
+import ca.solostudios.strata.parser.tokenizer.CharClass;
+import ca.solostudios.strata.parser.tokenizer.Identifiers;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+
+/**
+ * A mutable holder for a version, which is parsed in place without allocating.
+ * <p>
+ * Instead of building {@link BigInteger}s and identifier objects, {@link #set(CharSequence)} validates the version string and records the
+ * major, minor, and patch versions as {@code long}s, alongside the offsets of each pre-release identifier and of the build metadata in the
+ * source sequence. The holder can then be compared to other holders or to {@link Version}s, or checked against a {@link VersionRange},
+ * without any further parsing. {@link #toImmutable()} materializes the {@link Version} for those that need to be kept.
+ * <p>
+ * The holder keeps a reference to the source sequence, which must not be modified while the holder is in use. A new holder represents
+ * the version {@code 0.0.0}.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author solonovamax
+ * @see Versions#parseVersion(CharSequence, MutableVersion)
+ */
+public final class MutableVersion implements Comparable<MutableVersion>, Formattable {
+    private static final char PLUS = '+';
+
+    private static final char DOT = '.';
+
+    private static final char DASH = '-';
+
+    private static final char END_OF_INPUT = '\0';
+
+    /**
+     * Marks a component which is too large to fit in a {@code long}.
+     */
+    private static final long OVERFLOW = -1;
+
+    @NotNull
+    private CharSequence source = "0.0.0";
+
+    private int start = 0;
+
+    private int end = 5;
+
+    private long major = 0;
+
+    private long minor = 0;
+
+    private long patch = 0;
+
+    private int majorEnd = 1;
+
+    private int minorEnd = 3;
+
+    private int patchEnd = 5;
+
+    /**
+     * The end of each pre-release identifier shifted left by one, with the lowest bit set if the identifier is numeric.
+     */
+    private int @NotNull [] identifiers = new int[4];
+
+    private int identifierCount = 0;
+
+    /**
+     * The start of the build metadata, after the {@code +}, or {@code -1} if there is none.
+     */
+    private int buildMetadataStart = -1;
+
+    /**
+     * Constructs a new holder, representing the version {@code 0.0.0}.
+     */
+    @Contract(pure = true)
+    public MutableVersion() {
+    }
+
+    /**
+     * Parses the provided version string into this holder.
+     *
+     * @param versionString The version string to parse.
+     * @return This holder.
+     * @throws ParseException If the string is not a valid version. The exception is identical to the one thrown by
+     *                        {@link VersionParser#parse()}.
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public MutableVersion set(@NotNull CharSequence versionString) throws ParseException {
+        return set(versionString, 0, versionString.length());
+    }
+
+    /**
+     * Parses a region of the provided sequence into this holder.
+     * <p>
+     * All offsets returned by this holder are relative to the start of the sequence, not to the start of the region.
+     * <p>
+     * Like {@link VersionParser}, a nul character ends the version, and everything after it is ignored. {@link #getEnd()} then returns
+     * the offset of the nul character.
+     *
+     * @param source The sequence containing the version.
+     * @param from   The start of the version, inclusive.
+     * @param to     The end of the version, exclusive.
+     * @return This holder.
+     * @throws ParseException            If the region is not a valid version. The exception is identical to the one thrown by
+     *                                   {@link VersionParser#parse()} for the region, and so positions are relative to {@code from}.
+     * @throws IndexOutOfBoundsException If the region is not inside the sequence.
+     */
+    @NotNull
+    @Contract("_, _, _ -> this")
+    public MutableVersion set(@NotNull CharSequence source, int from, int to) throws ParseException {
+        if (from < 0 || to > source.length() || from > to)
+            throw new IndexOutOfBoundsException(String.format("Region [%d, %d) is out of bounds for length %d", from, to, source.length()));
+
+        this.source = source;
+        this.start = from;
+        this.end = to;
+        this.identifierCount = 0;
+        this.buildMetadataStart = -1;
+
+        this.majorEnd = scanNumber(from);
+        this.major = numberValue(from, this.majorEnd);
+        this.minorEnd = scanNumber(consumeCharacter(this.majorEnd, DOT));
+        this.minor = numberValue(this.majorEnd + 1, this.minorEnd);
+        this.patchEnd = scanNumber(consumeCharacter(this.minorEnd, DOT));
+        this.patch = numberValue(this.minorEnd + 1, this.patchEnd);
+
+        int position = this.patchEnd;
+        if (charAt(position) == DASH) {
+            do {
+                int identifier = scanIdentifier(position + 1);
+                if (this.identifierCount == this.identifiers.length)
+                    this.identifiers = Arrays.copyOf(this.identifiers, this.identifierCount * 2);
+                this.identifiers[this.identifierCount++] = identifier;
+                position = identifier >>> 1;
+            } while (charAt(position) == DOT);
+        }
+
+        if (charAt(position) == PLUS) {
+            position++;
+            this.buildMetadataStart = position;
+            if (!isAlphaNumeric(charAt(position)))
+                throw invalid();
+
+            char current;
+            do {
+                if (charAt(position) == DOT && !isAlphaNumeric(charAt(position + 1)))
+                    throw invalid();
+                position++;
+                current = charAt(position);
+            } while (isAlphaNumeric(current) || current == DOT);
+        }
+
+        if (position != to) {
+            // the parser treats a nul character as the end of input, and ignores everything after it
+            if (charAt(position) != END_OF_INPUT)
+                throw invalid();
+            this.end = position;
+        }
+
+        return this;
+    }
+
+    /**
+     * The sequence this version was parsed from.
+     *
+     * @return The source sequence.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public CharSequence getSource() {
+        return this.source;
+    }
+
+    /**
+     * The offset of the start of this version in the source sequence.
+     *
+     * @return The start of this version, inclusive.
+     */
+    @Contract(pure = true)
+    public int getStart() {
+        return this.start;
+    }
+
+    /**
+     * The offset of the end of this version in the source sequence.
+     *
+     * @return The end of this version, exclusive.
+     */
+    @Contract(pure = true)
+    public int getEnd() {
+        return this.end;
+    }
+
+    /**
+     * The major version.
+     *
+     * @return The major version.
+     * @throws ArithmeticException If the major version does not fit in a {@code long}.
+     */
+    @Contract(pure = true)
+    public long getMajor() throws ArithmeticException {
+        return exact(this.major, "Major");
+    }
+
+    /**
+     * The minor version.
+     *
+     * @return The minor version.
+     * @throws ArithmeticException If the minor version does not fit in a {@code long}.
+     */
+    @Contract(pure = true)
+    public long getMinor() throws ArithmeticException {
+        return exact(this.minor, "Minor");
+    }
+
+    /**
+     * The patch version.
+     *
+     * @return The patch version.
+     * @throws ArithmeticException If the patch version does not fit in a {@code long}.
+     */
+    @Contract(pure = true)
+    public long getPatch() throws ArithmeticException {
+        return exact(this.patch, "Patch");
+    }
+
+    /**
+     * Whether or not this version is a pre-release.
+     *
+     * @return {@code true} if this version has at least one pre-release identifier, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public boolean isPreRelease() {
+        return this.identifierCount != 0;
+    }
+
+    /**
+     * The number of pre-release identifiers.
+     *
+     * @return The number of pre-release identifiers.
+     */
+    @Contract(pure = true)
+    public int getPreReleaseIdentifierCount() {
+        return this.identifierCount;
+    }
+
+    /**
+     * The offset of a pre-release identifier in the source sequence.
+     *
+     * @param index The index of the identifier.
+     * @return The start of the identifier, inclusive.
+     * @throws IndexOutOfBoundsException If there is no identifier with this index.
+     */
+    @Contract(pure = true)
+    public int getPreReleaseIdentifierStart(int index) {
+        checkIdentifierIndex(index);
+        return identifierStart(index);
+    }
+
+    /**
+     * The offset of the end of a pre-release identifier in the source sequence.
+     *
+     * @param index The index of the identifier.
+     * @return The end of the identifier, exclusive.
+     * @throws IndexOutOfBoundsException If there is no identifier with this index.
+     */
+    @Contract(pure = true)
+    public int getPreReleaseIdentifierEnd(int index) {
+        checkIdentifierIndex(index);
+        return this.identifiers[index] >>> 1;
+    }
+
+    /**
+     * Whether or not a pre-release identifier is numeric.
+     *
+     * @param index The index of the identifier.
+     * @return {@code true} if the identifier consists only of digits, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException If there is no identifier with this index.
+     */
+    @Contract(pure = true)
+    public boolean isPreReleaseIdentifierNumeric(int index) {
+        checkIdentifierIndex(index);
+        return (this.identifiers[index] & 1) != 0;
+    }
+
+    /**
+     * Whether or not this version has build metadata.
+     *
+     * @return {@code true} if this version has build metadata, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public boolean hasBuildMetadata() {
+        return this.buildMetadataStart >= 0;
+    }
+
+    /**
+     * The offset of the build metadata in the source sequence, after the {@code +}.
+     *
+     * @return The start of the build metadata, or {@code -1} if there is none. The build metadata always extends to {@link #getEnd()}.
+     */
+    @Contract(pure = true)
+    public int getBuildMetadataStart() {
+        return this.buildMetadataStart;
+    }
+
+    /**
+     * Compares this version to another by precedence.
+     * <p>
+     * This is consistent with {@link Version#compareTo(Version)}, and does not allocate.
+     *
+     * @param o The version to compare to.
+     * @return A negative integer, zero, or a positive integer as this version is less than, equal to, or greater than the other version.
+     */
+    @Override
+    @Contract(pure = true)
+    public int compareTo(@NotNull MutableVersion o) {
+        int result = compareCoreTo(o);
+        if (result != 0)
+            return result;
+
+        if (this.identifierCount == 0 || o.identifierCount == 0)
+            return Boolean.compare(this.identifierCount == 0, o.identifierCount == 0);
+
+        int count = Math.min(this.identifierCount, o.identifierCount);
+        for (int i = 0; i < count; i++) {
+            boolean numeric = (this.identifiers[i] & 1) != 0;
+            if (numeric != ((o.identifiers[i] & 1) != 0))
+                return numeric ? -1 : 1;
+
+            int startA = identifierStart(i);
+            int endA = this.identifiers[i] >>> 1;
+            int startB = o.identifierStart(i);
+            int endB = o.identifiers[i] >>> 1;
+            result = numeric ? Identifiers.compareNumeric(this.source, startA, endA, o.source, startB, endB)
+                             : Identifiers.compareLexically(this.source, startA, endA, o.source, startB, endB);
+            if (result != 0)
+                return result;
+        }
+        return Integer.compare(this.identifierCount, o.identifierCount);
+    }
+
+    /**
+     * Compares this version to a {@link Version} by precedence.
+     * <p>
+     * This is consistent with {@link Version#compareTo(Version)}.
+     *
+     * @param o The version to compare to.
+     * @return A negative integer, zero, or a positive integer as this version is less than, equal to, or greater than the other version.
+     */
+    @Contract(pure = true)
+    public int compareTo(@NotNull Version o) {
+        int result = compareCoreTo(o.getCoreVersion());
+        if (result != 0)
+            return result;
+
+        PreRelease other = o.getPreRelease();
+        if (this.identifierCount == 0 || other.isEmpty())
+            return Boolean.compare(this.identifierCount == 0, other.isEmpty());
+
+        String otherIdentifiers = other.identifierString();
+        int count = Math.min(this.identifierCount, other.size());
+        for (int i = 0; i < count; i++) {
+            boolean numeric = (this.identifiers[i] & 1) != 0;
+            if (numeric != other.isNumeric(i))
+                return numeric ? -1 : 1;
+
+            int start = identifierStart(i);
+            int end = this.identifiers[i] >>> 1;
+            if (numeric)
+                result = Identifiers.compareNumeric(this.source, start, end, otherIdentifiers, other.start(i), other.end(i));
+            else
+                result = Identifiers.compareLexically(this.source, start, end, otherIdentifiers, other.start(i), other.end(i));
+            if (result != 0)
+                return result;
+        }
+        return Integer.compare(this.identifierCount, other.size());
+    }
+
+    /**
+     * Compares the core version of this version to the core version of another.
+     *
+     * @param o The version to compare to.
+     * @return A negative integer, zero, or a positive integer as this core version is less than, equal to, or greater than the other core
+     * version.
+     */
+    @Contract(pure = true)
+    public int compareCoreTo(@NotNull MutableVersion o) {
+        int result = compareComponent(this.start, this.majorEnd, this.major, o, o.start, o.majorEnd, o.major);
+        if (result == 0)
+            result = compareComponent(this.majorEnd + 1, this.minorEnd, this.minor, o, o.majorEnd + 1, o.minorEnd, o.minor);
+        if (result == 0)
+            result = compareComponent(this.minorEnd + 1, this.patchEnd, this.patch, o, o.minorEnd + 1, o.patchEnd, o.patch);
+        return result;
+    }
+
+    /**
+     * Compares the core version of this version to a {@link CoreVersion}.
+     *
+     * @param o The core version to compare to.
+     * @return A negative integer, zero, or a positive integer as this core version is less than, equal to, or greater than the other core
+     * version.
+     */
+    @Contract(pure = true)
+    public int compareCoreTo(@NotNull CoreVersion o) {
+        int result = compareComponent(this.start, this.majorEnd, this.major, o.getMajor());
+        if (result == 0)
+            result = compareComponent(this.majorEnd + 1, this.minorEnd, this.minor, o.getMinor());
+        if (result == 0)
+            result = compareComponent(this.minorEnd + 1, this.patchEnd, this.patch, o.getPatch());
+        return result;
+    }
+
+    /**
+     * Creates an immutable {@link Version} equal to this version.
+     *
+     * @return The immutable version.
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public Version toImmutable() {
+        CoreVersion coreVersion = VersionCache.coreVersion(bigInteger(this.start, this.majorEnd, this.major),
+                                                           bigInteger(this.majorEnd + 1, this.minorEnd, this.minor),
+                                                           bigInteger(this.minorEnd + 1, this.patchEnd, this.patch));
+
+        PreRelease preRelease = PreRelease.NULL;
+        if (this.identifierCount != 0) {
+            preRelease = PreRelease.of(this.source, this.patchEnd + 1, this.identifiers[this.identifierCount - 1] >>> 1);
+        }
+
+        BuildMetadata buildMetadata = BuildMetadata.NULL;
+        if (this.buildMetadataStart >= 0)
+            buildMetadata = BuildMetadata.of(this.source, this.buildMetadataStart, this.end);
+
+        return new Version(coreVersion, preRelease, buildMetadata);
+    }
+
+    /**
+     * Creates an immutable {@link Version} equal to this version, which is decoded lazily.
+     * <p>
+     * Only the version string and the boundaries already found by this holder are kept. The components are decoded the first time they
+     * are requested from the returned version, so this is cheaper than {@link #toImmutable()} when the version is mostly compared,
+     * checked for equality, or formatted.
+     *
+     * @return The lazily decoded version.
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public Version toLazyVersion() {
+        int preReleaseEnd = this.identifierCount == 0 ? this.patchEnd : this.identifiers[this.identifierCount - 1] >>> 1;
+        return new Version(substring(this.start, this.end),
+                           this.majorEnd - this.start,
+                           this.minorEnd - this.start,
+                           this.patchEnd - this.start,
+                           preReleaseEnd - this.start);
+    }
+
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    public String getFormatted() {
+        return substring(this.start, this.end);
+    }
+
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    public String toString() {
+        return String.format("MutableVersion{version=%s}", getFormatted());
+    }
+
+    @Contract(pure = true)
+    private int identifierStart(int index) {
+        return (index == 0 ? this.patchEnd : this.identifiers[index - 1] >>> 1) + 1;
+    }
+
+    private void checkIdentifierIndex(int index) {
+        if (index < 0 || index >= this.identifierCount)
+            throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for %d pre-release identifiers", index,
+                                                              this.identifierCount));
+    }
+
+    @Contract(pure = true)
+    private int compareComponent(int startA, int endA, long valueA, @NotNull MutableVersion o, int startB, int endB, long valueB) {
+        if (valueA != OVERFLOW && valueB != OVERFLOW)
+            return Long.compare(valueA, valueB);
+        return Identifiers.compareNumeric(this.source, startA, endA, o.source, startB, endB);
+    }
+
+    @Contract(pure = true)
+    private int compareComponent(int start, int end, long value, @NotNull BigInteger other) {
+        boolean otherFits = other.bitLength() < Long.SIZE;
+        if (value != OVERFLOW)
+            return otherFits ? Long.compare(value, other.longValue()) : -1;
+        else if (otherFits)
+            return 1;
+
+        String digits = other.toString();
+        return Identifiers.compareNumeric(this.source, start, end, digits, 0, digits.length());
+    }
+
+    @Contract(pure = true)
+    private long numberValue(int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = this.source.charAt(i) - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10)
+                return OVERFLOW;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private BigInteger bigInteger(int start, int end, long value) {
+        return value != OVERFLOW ? VersionCache.component(value) : new BigInteger(substring(start, end));
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private String substring(int start, int end) {
+        return this.source.subSequence(start, end).toString();
+    }
+
+    @Contract(pure = true)
+    private static long exact(long value, @NotNull String component) {
+        if (value == OVERFLOW)
+            throw new ArithmeticException(String.format("%s version does not fit in a long", component));
+        return value;
+    }
+
+    /**
+     * Scans a number, which must not have leading zeros.
+     *
+     * @return The end of the number.
+     */
+    private int scanNumber(int position) throws ParseException {
+        if (!isDigit(charAt(position)) || (charAt(position) == '0' && isDigit(charAt(position + 1))))
+            throw invalid();
+
+        int end = position + 1;
+        while (isDigit(charAt(end)))
+            end++;
+        return end;
+    }
+
+    /**
+     * Scans a pre-release identifier.
+     *
+     * @return The end of the identifier shifted left by one, with the lowest bit set if the identifier is numeric.
+     */
+    private int scanIdentifier(int position) throws ParseException {
+        boolean numeric = true;
+        int end = position;
+        char current;
+        while (isAlphaNumeric(current = charAt(end))) {
+            numeric &= isDigit(current);
+            end++;
+        }
+
+        if (end == position || (numeric && end - position > 1 && charAt(position) == '0'))
+            throw invalid();
+
+        return end << 1 | (numeric ? 1 : 0);
+    }
+
+    private int consumeCharacter(int position, char expected) throws ParseException {
+        if (charAt(position) != expected)
+            throw invalid();
+        return position + 1;
+    }
+
+    @Contract(pure = true)
+    private char charAt(int position) {
+        return position < this.end ? this.source.charAt(position) : END_OF_INPUT;
+    }
+
+    @Contract(pure = true)
+    private static boolean isDigit(char value) {
+        return CharClass.isDigit(value);
+    }
+
+    @Contract(pure = true)
+    private static boolean isAlphaNumeric(char value) {
+        return CharClass.isAlphaNumeric(value);
+    }
+
+    /**
+     * Builds the exception for an invalid version, by running the region through {@link VersionParser} so that the message and position
+     * are identical to it. The holder is reset to {@code 0.0.0}, so that it is never left half-parsed.
+     */
+    @NotNull
+    private ParseException invalid() {
+        String versionString = substring(this.start, this.end);
+        reset();
+        try {
+            new VersionParser(versionString).parse();
+        } catch (ParseException e) {
+            return e;
+        }
+        throw new IllegalStateException(String.format("'%s' was rejected, but is accepted by the version parser.", versionString));
+    }
+
+    private void reset() {
+        this.source = "0.0.0";
+        this.start = 0;
+        this.end = 5;
+        this.major = this.minor = this.patch = 0;
+        this.majorEnd = 1;
+        this.minorEnd = 3;
+        this.patchEnd = 5;
+        this.identifierCount = 0;
+        this.buildMetadataStart = -1;
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file PreRelease.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -29,17 +29,29 @@
 package ca.solostudios.strata.version;
 
 
+import ca.solostudios.strata.parser.tokenizer.CharClass;
+import ca.solostudios.strata.parser.tokenizer.Identifiers;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 
 /**
  * A class representing the pre-release data for a {@link Version}.
+ * <p>
+ * The identifiers are stored compactly, as a single string holding all of them separated by periods, the end offset of each identifier,
+ * and a bitmap flagging the numeric ones. Comparisons are done directly on this string, and numeric identifiers that fit in a
+ * {@code long} are compared as one. The {@link PreReleaseIdentifier} objects are only created if {@link #getIdentifiers()} is called.
+ * <p>
+ * The most common pre-releases, such as {@code alpha}, {@code beta}, {@code rc} and {@code SNAPSHOT}, are shared between all versions
+ * when created through {@link #of(CharSequence)}.
  *
  * @author solonovamax
  * @see PreReleaseIdentifier
@@ -48,10 +60,43 @@ public final class PreRelease implements Comparable<PreRelease>, Formattable {
     /**
      * An empty pre-release instance used it no pre-release is provided.
      */
-    public static final PreRelease NULL = new PreRelease(Collections.emptyList());
+    public static final PreRelease NULL = new PreRelease("", new int[0], new long[0]);
 
     @NotNull
-    private final List<PreReleaseIdentifier> identifiers;
+    private static final PreRelease @NotNull [] COMMON = {
+            common("alpha"),
+            common("beta"),
+            common("rc"),
+            common("SNAPSHOT"),
+    };
+
+    /**
+     * The largest number of digits that always fits in a {@code long}.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * All the identifiers, separated by periods, without the leading hyphen.
+     */
+    @NotNull
+    private final String identifierString;
+
+    /**
+     * The end offset of each identifier in {@link #identifierString}. Each identifier starts right after the period ending the previous one.
+     */
+    private final int @NotNull [] ends;
+
+    /**
+     * A bitmap with the bit of every numeric identifier set.
+     */
+    private final long @NotNull [] numeric;
+
+    /**
+     * The identifiers as objects, or {@code null} if they have not been created yet. This is volatile so that the list is safely published
+     * to other threads.
+     */
+    @Nullable
+    private volatile List<PreReleaseIdentifier> identifiers;
 
     /**
      * Constructs a new pre-release with the provided identifiers.
@@ -60,40 +105,145 @@ public final class PreRelease implements Comparable<PreRelease>, Formattable {
      */
     @Contract(pure = true)
     public PreRelease(@NotNull List<PreReleaseIdentifier> identifiers) {
-        this.identifiers = identifiers;
+        StringBuilder builder = new StringBuilder();
+        int[] ends = new int[identifiers.size()];
+        long[] numeric = new long[bitmapLength(ends.length)];
+        for (int i = 0; i < ends.length; i++) {
+            PreReleaseIdentifier identifier = identifiers.get(i);
+            if (i != 0)
+                builder.append('.');
+            builder.append(identifier.getFormatted());
+            ends[i] = builder.length();
+
+            if (identifier.isNumeric())
+                numeric[i >>> 6] |= 1L << i;
+        }
+
+        this.identifierString = builder.toString();
+        this.ends = ends;
+        this.numeric = numeric;
+        this.identifiers = Collections.unmodifiableList(new ArrayList<>(identifiers));
+    }
+
+    @Contract(pure = true)
+    private PreRelease(@NotNull String identifierString, int @NotNull [] ends, long @NotNull [] numeric) {
+        this.identifierString = identifierString;
+        this.ends = ends;
+        this.numeric = numeric;
+    }
+
+    /**
+     * Creates a pre-release from its identifiers, separated by periods and without the leading hyphen.
+     *
+     * @param identifiers The identifiers for this pre-release, for example {@code alpha.1}.
+     * @return The pre-release, or {@link #NULL} if there are no identifiers.
+     * @throws IllegalArgumentException If the identifiers are not valid pre-release identifiers.
+     * @see #of(CharSequence, int, int)
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static PreRelease of(@NotNull CharSequence identifiers) {
+        return of(identifiers, 0, identifiers.length());
+    }
+
+    /**
+     * Creates a pre-release from its identifiers, separated by periods and without the leading hyphen.
+     * <p>
+     * Only the region between {@code start} and {@code end} is used. If it is one of the common pre-releases, the shared instance is
+     * returned without copying the region. An empty region is the empty pre-release, {@link #NULL}.
+     *
+     * @param identifiers The character sequence containing the identifiers.
+     * @param start       The index of the first character of the identifiers.
+     * @param end         The index after the last character of the identifiers.
+     * @return The pre-release, or {@link #NULL} if the region is empty.
+     * @throws IllegalArgumentException If the identifiers are not valid pre-release identifiers.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static PreRelease of(@NotNull CharSequence identifiers, int start, int end) {
+        if (start == end)
+            return NULL;
+
+        for (PreRelease common : COMMON) {
+            String commonString = common.identifierString;
+            if (Identifiers.compareLexically(identifiers, start, end, commonString, 0, commonString.length()) == 0)
+                return common;
+        }
+
+        int count = 1;
+        for (int i = start; i < end; i++) {
+            if (identifiers.charAt(i) == '.')
+                count++;
+        }
+
+        int[] ends = new int[count];
+        long[] numeric = new long[bitmapLength(count)];
+        int index = 0;
+        int identifierStart = start;
+        boolean digits = true;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? identifiers.charAt(i) : '.';
+            if (c == '.') {
+                if (i == identifierStart)
+                    throw new IllegalArgumentException(String.format("Pre-release identifier expected at index %d of '%s'.",
+                                                                     i - start, identifiers.subSequence(start, end)));
+
+                if (digits) {
+                    if (identifiers.charAt(identifierStart) == '0' && i - identifierStart > 1)
+                        throw new IllegalArgumentException(String.format("Numeric identifier at index %d of '%s' must not contain leading zeros.",
+                                                                         identifierStart - start, identifiers.subSequence(start, end)));
+                    numeric[index >>> 6] |= 1L << index;
+                }
+
+                ends[index++] = i - start;
+                identifierStart = i + 1;
+                digits = true;
+            } else if (CharClass.isAlphaNumeric(c)) {
+                digits &= CharClass.isDigit(c);
+            } else {
+                throw new IllegalArgumentException(String.format("Illegal character '%s' at index %d of '%s'.",
+                                                                 c, i - start, identifiers.subSequence(start, end)));
+            }
+        }
+
+        return new PreRelease(identifiers.subSequence(start, end).toString(), ends, numeric);
     }
 
     @Override
     @Contract(pure = true)
     public int compareTo(@NotNull PreRelease o) {
-        if (this.identifiers.isEmpty()) {
-            if (o.identifiers.isEmpty())
+        if (this.ends.length == 0) {
+            if (o.ends.length == 0)
                 return 0;
             else
                 return 1;
-        } else if (o.identifiers.isEmpty()) {
+        } else if (o.ends.length == 0) {
             return -1;
         }
 
-        int i = 0;
-        int comparison;
-        do {
-            if (this.identifiers.size() <= i)
-                if (o.identifiers.size() <= i)
-                    return 0;
-                else
-                    return -1;
-            else if (o.identifiers.size() <= i)
-                return 1;
+        int count = Math.min(this.ends.length, o.ends.length);
+        for (int i = 0; i < count; i++) {
+            boolean numeric = isNumeric(i);
+            if (numeric != o.isNumeric(i))
+                return numeric ? -1 : 1;
 
-            comparison = this.identifiers.get(i).compareTo(o.identifiers.get(i));
-            i++;
-        } while (comparison == 0);
-        return comparison;
+            int comparison;
+            if (numeric)
+                comparison = compareNumeric(this.identifierString, start(i), end(i), o.identifierString, o.start(i), o.end(i));
+            else
+                comparison = Identifiers.compareLexically(this.identifierString, start(i), end(i),
+                                                          o.identifierString, o.start(i), o.end(i));
+
+            if (comparison != 0)
+                return comparison;
+        }
+        return Integer.compare(this.ends.length, o.ends.length);
     }
 
     /**
      * The internal identifiers
+     * <p>
+     * The identifiers are created the first time this is called, and the same list is returned afterwards.
      *
      * @return The internal identifies of this pre-release
      */
@@ -101,35 +251,73 @@ public final class PreRelease implements Comparable<PreRelease>, Formattable {
     @UnmodifiableView
     @Contract(pure = true)
     public List<PreReleaseIdentifier> getIdentifiers() {
-        return Collections.unmodifiableList(this.identifiers);
+        List<PreReleaseIdentifier> identifiers = this.identifiers;
+        if (identifiers == null) {
+            PreReleaseIdentifier[] array = new PreReleaseIdentifier[this.ends.length];
+            for (int i = 0; i < array.length; i++)
+                array[i] = createIdentifier(i);
+            identifiers = Collections.unmodifiableList(Arrays.asList(array));
+            this.identifiers = identifiers;
+        }
+        return identifiers;
+    }
+
+    /**
+     * Whether this pre-release has no identifiers, meaning that the version is not a pre-release.
+     *
+     * @return {@code true} if this pre-release has no identifiers, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return this.ends.length == 0;
     }
 
     @NotNull
     @Override
     @Contract(pure = true)
     public String getFormatted() {
-        if (this.identifiers.isEmpty()) {
+        if (this.ends.length == 0)
             return "";
-        } else {
-            Iterator<PreReleaseIdentifier> iterator = this.identifiers.listIterator();
-            StringBuilder builder = new StringBuilder();
+        else
+            return '-' + this.identifierString;
+    }
 
-            if (iterator.hasNext()) {
-                builder.append('-').append(iterator.next().getFormatted());
-            }
+    /**
+     * The number of identifiers in this pre-release.
+     */
+    @Contract(pure = true)
+    int size() {
+        return this.ends.length;
+    }
 
-            while (iterator.hasNext()) {
-                builder.append('.').append(iterator.next().getFormatted());
-            }
+    /**
+     * The string holding all identifiers, which {@link #start(int)} and {@link #end(int)} index into.
+     */
+    @NotNull
+    @Contract(pure = true)
+    String identifierString() {
+        return this.identifierString;
+    }
 
-            return builder.toString();
-        }
+    @Contract(pure = true)
+    int start(int index) {
+        return index == 0 ? 0 : this.ends[index - 1] + 1;
+    }
+
+    @Contract(pure = true)
+    int end(int index) {
+        return this.ends[index];
+    }
+
+    @Contract(pure = true)
+    boolean isNumeric(int index) {
+        return (this.numeric[index >>> 6] & (1L << index)) != 0;
     }
 
     @Override
     @Contract(pure = true)
     public int hashCode() {
-        return this.identifiers.hashCode();
+        return this.identifierString.hashCode();
     }
 
     @Override
@@ -140,13 +328,66 @@ public final class PreRelease implements Comparable<PreRelease>, Formattable {
 
         PreRelease that = (PreRelease) o;
 
-        return this.identifiers.equals(that.identifiers);
+        return this.identifierString.equals(that.identifierString) && Arrays.equals(this.numeric, that.numeric);
     }
 
     @NotNull
     @Override
     @Contract(pure = true)
     public String toString() {
-        return String.format("PreRelease{identifiers=%s}", this.identifiers);
+        return String.format("PreRelease{identifiers=%s}", getIdentifiers());
+    }
+
+    /**
+     * Compares two numeric identifiers. Identifiers short enough to always fit in a {@code long} are compared as one, the others by their
+     * digits.
+     */
+    @Contract(pure = true)
+    private static int compareNumeric(@NotNull String first, int startA, int endA, @NotNull String second, int startB, int endB) {
+        if (endA - startA <= MAX_LONG_DIGITS && endB - startB <= MAX_LONG_DIGITS)
+            return Long.compare(parseLong(first, startA, endA), parseLong(second, startB, endB));
+        else
+            return Identifiers.compareNumeric(first, startA, endA, second, startB, endB);
+    }
+
+    @Contract(pure = true)
+    private static long parseLong(@NotNull CharSequence digits, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++)
+            value = value * 10 + (digits.charAt(i) - '0');
+        return value;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private PreReleaseIdentifier createIdentifier(int index) {
+        int start = start(index);
+        int end = end(index);
+        if (isNumeric(index)) {
+            if (end - start <= MAX_LONG_DIGITS)
+                return new PreReleaseIdentifier.NumericalPreReleaseIdentifier(parseLong(this.identifierString, start, end));
+            else
+                return new PreReleaseIdentifier.NumericalPreReleaseIdentifier(new BigInteger(this.identifierString.substring(start, end)));
+        }
+
+        for (PreRelease common : COMMON) {
+            String commonString = common.identifierString;
+            if (Identifiers.compareLexically(this.identifierString, start, end, commonString, 0, commonString.length()) == 0)
+                return common.getIdentifiers().get(0);
+        }
+        return new PreReleaseIdentifier.AlphaNumericalPreReleaseIdentifier(this.identifierString.substring(start, end));
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static PreRelease common(@NotNull String identifier) {
+        PreRelease preRelease = new PreRelease(identifier, new int[]{ identifier.length() }, new long[1]);
+        preRelease.identifiers = Collections.singletonList(new PreReleaseIdentifier.AlphaNumericalPreReleaseIdentifier(identifier));
+        return preRelease;
+    }
+
+    @Contract(pure = true)
+    private static int bitmapLength(int count) {
+        return (count + Long.SIZE - 1) >>> 6;
     }
 }
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file PreReleaseIdentifier.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -31,6 +31,7 @@ package ca.solostudios.strata.version;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigInteger;
 import java.util.Objects;
@@ -50,6 +51,12 @@ public abstract /* sealed */ class PreReleaseIdentifier implements Comparable<Pr
 
     @Override
     public int compareTo(@NotNull PreReleaseIdentifier o) {
+        // the implementations of this library are compared on their values, without going through the virtual methods
+        if (this instanceof NumericalPreReleaseIdentifier && o instanceof NumericalPreReleaseIdentifier)
+            return ((NumericalPreReleaseIdentifier) this).compareValue((NumericalPreReleaseIdentifier) o);
+        if (this instanceof AlphaNumericalPreReleaseIdentifier && o instanceof AlphaNumericalPreReleaseIdentifier)
+            return ((AlphaNumericalPreReleaseIdentifier) this).value.compareTo(((AlphaNumericalPreReleaseIdentifier) o).value);
+
         if (isNumeric())
             if (o.isNumeric())
                 return asInteger().compareTo(o.asInteger());
@@ -99,31 +106,63 @@ public abstract /* sealed */ class PreReleaseIdentifier implements Comparable<Pr
 
     /**
      * A numerical identifier. This identifier can only contain a positive number.
+     * <p>
+     * Values that fit in a {@code long} are stored as one, and are compared without going through {@link BigInteger}.
      */
     public static final class NumericalPreReleaseIdentifier extends PreReleaseIdentifier {
-        private final BigInteger value;
+        private final long value;
+
+        /**
+         * The value of this identifier, if it does not fit in a {@code long}.
+         */
+        @Nullable
+        private final BigInteger bigValue;
+
+        /**
+         * Constructs a new numerical identifier with the provided value.
+         *
+         * @param value The value of this identifier.
+         * @throws IllegalArgumentException If the value is negative.
+         */
+        public NumericalPreReleaseIdentifier(@NotNull BigInteger value) {
+            if (value.signum() < 0)
+                throw new IllegalArgumentException(String.format("Numeric identifier must not be negative, was %s.", value));
+
+            if (value.bitLength() < Long.SIZE) {
+                this.value = value.longValue();
+                this.bigValue = null;
+            } else {
+                this.value = 0;
+                this.bigValue = value;
+            }
+        }
 
         /**
          * Constructs a new numerical identifier with the provided value.
          *
          * @param value The value of this identifier.
+         * @throws IllegalArgumentException If the value is negative.
          */
-        public NumericalPreReleaseIdentifier(BigInteger value) {
+        public NumericalPreReleaseIdentifier(long value) {
+            if (value < 0)
+                throw new IllegalArgumentException(String.format("Numeric identifier must not be negative, was %d.", value));
+
             this.value = value;
+            this.bigValue = null;
         }
 
         @NotNull
         @Override
         @Contract(pure = true)
         protected BigInteger asInteger() {
-            return this.value;
+            return this.bigValue != null ? this.bigValue : BigInteger.valueOf(this.value);
         }
 
         @NotNull
         @Override
         @Contract(pure = true)
         protected String asString() {
-            return this.value.toString();
+            return this.bigValue != null ? this.bigValue.toString() : Long.toString(this.value);
         }
 
         @Override
@@ -132,10 +171,24 @@ public abstract /* sealed */ class PreReleaseIdentifier implements Comparable<Pr
             return true;
         }
 
+        /**
+         * Compares the value of this identifier to the value of another numerical identifier.
+         *
+         * @param o The identifier to compare against.
+         * @return The comparison of the two values.
+         */
+        @Contract(pure = true)
+        int compareValue(@NotNull NumericalPreReleaseIdentifier o) {
+            if (this.bigValue == null && o.bigValue == null)
+                return Long.compare(this.value, o.value);
+            else
+                return asInteger().compareTo(o.asInteger());
+        }
+
         @Override
         @Contract(pure = true)
         public int hashCode() {
-            return this.value.hashCode();
+            return this.bigValue != null ? this.bigValue.hashCode() : Long.hashCode(this.value);
         }
 
         @Override
@@ -146,14 +199,14 @@ public abstract /* sealed */ class PreReleaseIdentifier implements Comparable<Pr
 
             NumericalPreReleaseIdentifier that = (NumericalPreReleaseIdentifier) o;
 
-            return Objects.equals(this.value, that.value);
+            return this.value == that.value && Objects.equals(this.bigValue, that.bigValue);
         }
 
         @NotNull
         @Override
         @Contract(pure = true)
         public String toString() {
-            return String.format("NumericalPreReleaseIdentifier{value=%d}", this.value);
+            return String.format("NumericalPreReleaseIdentifier{value=%s}", asString());
         }
     }
 
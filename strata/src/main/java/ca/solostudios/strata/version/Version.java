@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file Version.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -39,21 +39,40 @@ import java.math.BigInteger;
 
 /**
  * Class representing a version.
+ * <p>
+ * Versions created through {@link Versions#parseVersionLazily(String)} only keep the validated string and the boundaries of its
+ * components. The core version, pre-release, and build metadata are each decoded the first time they are requested, and
+ * {@link #getFormatted()} returns the original string. All other versions hold their decoded parts in final fields.
  *
  * @author solonovamax
  * @see Versions#getVersion
  * @see Versions#parseVersion
  */
 public final class Version implements Comparable<Version>, Formattable {
-    @NotNull
+    /**
+     * The core version, or {@code null} if this version is lazily decoded.
+     */
+    @Nullable
     private final CoreVersion coreVersion;
 
-    @NotNull
+    /**
+     * The pre-release, or {@code null} if this version is lazily decoded.
+     */
+    @Nullable
     private final PreRelease preRelease;
 
-    @NotNull
+    /**
+     * The build metadata, or {@code null} if this version is lazily decoded.
+     */
+    @Nullable
     private final BuildMetadata buildMetadata;
 
+    /**
+     * The undecoded parts of a lazily decoded version, or {@code null} if this version was constructed from its parts.
+     */
+    @Nullable
+    private final LazyParts lazyParts;
+
     /**
      * Constructs a new version with the provided core, pre-release, and build data, values.
      *
@@ -66,6 +85,24 @@ public final class Version implements Comparable<Version>, Formattable {
         this.coreVersion = coreVersion;
         this.preRelease = preRelease;
         this.buildMetadata = buildMetadata;
+        this.lazyParts = null;
+    }
+
+    /**
+     * Constructs a new lazily decoded version from an already validated version string.
+     *
+     * @param source        The version string, which must be a valid version.
+     * @param majorEnd      The end of the major version.
+     * @param minorEnd      The end of the minor version.
+     * @param patchEnd      The end of the patch version.
+     * @param preReleaseEnd The end of the pre-release, which is {@code patchEnd} if there is none.
+     */
+    @Contract(pure = true)
+    Version(@NotNull String source, int majorEnd, int minorEnd, int patchEnd, int preReleaseEnd) {
+        this.coreVersion = null;
+        this.preRelease = null;
+        this.buildMetadata = null;
+        this.lazyParts = new LazyParts(source, majorEnd, minorEnd, patchEnd, preReleaseEnd);
     }
 
     /**
@@ -76,7 +113,7 @@ public final class Version implements Comparable<Version>, Formattable {
     @NotNull
     @Contract(pure = true)
     public BigInteger getMajor() {
-        return this.coreVersion.getMajor();
+        return getCoreVersion().getMajor();
     }
 
     /**
@@ -87,7 +124,7 @@ public final class Version implements Comparable<Version>, Formattable {
     @NotNull
     @Contract(pure = true)
     public BigInteger getMinor() {
-        return this.coreVersion.getMinor();
+        return getCoreVersion().getMinor();
     }
 
     /**
@@ -98,7 +135,7 @@ public final class Version implements Comparable<Version>, Formattable {
     @NotNull
     @Contract(pure = true)
     public BigInteger getPatch() {
-        return this.coreVersion.getPatch();
+        return getCoreVersion().getPatch();
     }
 
     /**
@@ -109,7 +146,7 @@ public final class Version implements Comparable<Version>, Formattable {
     @NotNull
     @Contract(pure = true)
     public CoreVersion getCoreVersion() {
-        return this.coreVersion;
+        return this.lazyParts == null ? this.coreVersion : this.lazyParts.coreVersion();
     }
 
     /**
@@ -120,7 +157,7 @@ public final class Version implements Comparable<Version>, Formattable {
     @NotNull
     @Contract(pure = true)
     public PreRelease getPreRelease() {
-        return this.preRelease;
+        return this.lazyParts == null ? this.preRelease : this.lazyParts.preRelease();
     }
 
     /**
@@ -131,15 +168,15 @@ public final class Version implements Comparable<Version>, Formattable {
     @NotNull
     @Contract(pure = true)
     public BuildMetadata getBuildMetadata() {
-        return this.buildMetadata;
+        return this.lazyParts == null ? this.buildMetadata : this.lazyParts.buildMetadata();
     }
 
     @Override
     @Contract(pure = true)
     public int hashCode() {
-        int result = this.coreVersion.hashCode();
-        result = 31 * result + this.preRelease.hashCode();
-        result = 31 * result + this.buildMetadata.hashCode();
+        int result = getCoreVersion().hashCode();
+        result = 31 * result + getPreRelease().hashCode();
+        result = 31 * result + getBuildMetadata().hashCode();
         return result;
     }
 
@@ -153,29 +190,119 @@ public final class Version implements Comparable<Version>, Formattable {
 
         Version version = (Version) o;
 
+        // a valid version string has exactly one spelling, so two lazy versions are equal iff their strings are
+        if (this.lazyParts != null && version.lazyParts != null)
+            return this.lazyParts.source.equals(version.lazyParts.source);
 
-        return this.coreVersion.equals(version.coreVersion) &&
-               this.preRelease.equals(version.preRelease) &&
-               this.buildMetadata.equals(version.buildMetadata);
+        return getCoreVersion().equals(version.getCoreVersion()) &&
+               getPreRelease().equals(version.getPreRelease()) &&
+               getBuildMetadata().equals(version.getBuildMetadata());
     }
 
     @NotNull
     @Override
     @Contract(pure = true)
     public String toString() {
-        return String.format("Version{normalVersion=%s, preRelease=%s, buildMetadata=%s}", this.coreVersion, this.preRelease, this.buildMetadata);
+        return String.format("Version{normalVersion=%s, preRelease=%s, buildMetadata=%s}", getCoreVersion(), getPreRelease(), getBuildMetadata());
     }
 
     @Override
     @Contract(pure = true)
     public int compareTo(@NotNull Version o) {
-        int coreVersionComparison = this.coreVersion.compareTo(o.coreVersion);
-        return coreVersionComparison != 0 ? coreVersionComparison : this.preRelease.compareTo(o.preRelease);
+        if (this.lazyParts != null && o.lazyParts != null)
+            return Versions.compare(this.lazyParts.source, o.lazyParts.source);
+
+        int coreVersionComparison = getCoreVersion().compareTo(o.getCoreVersion());
+        return coreVersionComparison != 0 ? coreVersionComparison : getPreRelease().compareTo(o.getPreRelease());
     }
 
     @NotNull
     @Override
     public String getFormatted() {
-        return String.format("%s%s%s", this.coreVersion.getFormatted(), this.preRelease.getFormatted(), this.buildMetadata.getFormatted());
+        if (this.lazyParts != null)
+            return this.lazyParts.source;
+
+        StringBuilder builder = getCoreVersion().appendTo(new StringBuilder(32));
+        PreRelease preRelease = getPreRelease();
+        if (!preRelease.isEmpty())
+            builder.append('-').append(preRelease.identifierString());
+        BuildMetadata buildMetadata = getBuildMetadata();
+        if (!buildMetadata.getBuildMetadata().isEmpty())
+            builder.append('+').append(buildMetadata.getBuildMetadata());
+        return builder.toString();
+    }
+
+    /**
+     * The validated string of a lazily decoded version, and its parts once they have been decoded.
+     * <p>
+     * Each part is decoded the first time it is requested. Decoding is idempotent and the decoded parts are safe to publish through a data
+     * race, so a thread which does not yet see a part decoded by another thread simply decodes it again.
+     */
+    private static final class LazyParts {
+        @NotNull
+        private final String source;
+
+        private final int majorEnd;
+
+        private final int minorEnd;
+
+        private final int patchEnd;
+
+        private final int preReleaseEnd;
+
+        @Nullable
+        private CoreVersion coreVersion;
+
+        @Nullable
+        private PreRelease preRelease;
+
+        @Nullable
+        private BuildMetadata buildMetadata;
+
+        private LazyParts(@NotNull String source, int majorEnd, int minorEnd, int patchEnd, int preReleaseEnd) {
+            this.source = source;
+            this.majorEnd = majorEnd;
+            this.minorEnd = minorEnd;
+            this.patchEnd = patchEnd;
+            this.preReleaseEnd = preReleaseEnd;
+        }
+
+        @NotNull
+        private CoreVersion coreVersion() {
+            CoreVersion coreVersion = this.coreVersion;
+            if (coreVersion == null) {
+                coreVersion = VersionCache.coreVersion(VersionCache.component(this.source, 0, this.majorEnd),
+                                                       VersionCache.component(this.source, this.majorEnd + 1, this.minorEnd),
+                                                       VersionCache.component(this.source, this.minorEnd + 1, this.patchEnd));
+                this.coreVersion = coreVersion;
+            }
+            return coreVersion;
+        }
+
+        @NotNull
+        private PreRelease preRelease() {
+            PreRelease preRelease = this.preRelease;
+            if (preRelease == null) {
+                if (this.patchEnd == this.preReleaseEnd)
+                    preRelease = PreRelease.NULL;
+                else
+                    preRelease = PreRelease.of(this.source, this.patchEnd + 1, this.preReleaseEnd);
+                this.preRelease = preRelease;
+            }
+            return preRelease;
+        }
+
+        @NotNull
+        private BuildMetadata buildMetadata() {
+            BuildMetadata buildMetadata = this.buildMetadata;
+            if (buildMetadata == null) {
+                if (this.preReleaseEnd == this.source.length())
+                    buildMetadata = BuildMetadata.NULL;
+                else
+                    buildMetadata = BuildMetadata.of(this.source, this.preReleaseEnd + 1, this.source.length());
+                this.buildMetadata = buildMetadata;
+            }
+            return buildMetadata;
+        }
     }
 }
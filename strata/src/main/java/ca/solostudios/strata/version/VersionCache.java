@@ -0,0 +1,243 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionCache.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.version;
+
+
+import ca.solostudios.strata.metrics.MetricsRegistry;
+import ca.solostudios.strata.metrics.StrataEvents;
+import ca.solostudios.strata.metrics.StrataMetrics;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Shared instances of small version components and release versions.
+ * <p>
+ * Components from {@code 0} to {@link #MAX_CACHED_COMPONENT} are handed out as shared {@link BigInteger}s. Release versions (without a
+ * pre-release or build metadata) whose components are all in that range are kept in a bounded, direct-mapped cache: each version maps
+ * to a single slot, and replaces whatever version was there before. The cache therefore never grows beyond {@link #CACHE_SIZE} entries,
+ * while the handful of versions used repeatedly by an application stay resident. Only release lookups go through this cache, core
+ * versions built while parsing other versions just share their components.
+ * <p>
+ * This class is used by the parsers and collections of this library, and is not part of its public API.
+ *
+ * @author solonovamax
+ */
+@ApiStatus.Internal
+public final class VersionCache {
+    /**
+     * The largest component value that is shared.
+     */
+    public static final int MAX_CACHED_COMPONENT = 255;
+
+    /**
+     * The number of slots in the release version cache. Must be a power of two.
+     */
+    private static final int CACHE_SIZE = 4096;
+
+    /**
+     * The largest number of digits that always fits in a {@code long}.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    @NotNull
+    private static final BigInteger @NotNull [] COMPONENTS = new BigInteger[MAX_CACHED_COMPONENT + 1];
+
+    /**
+     * The cached release versions. The slots are accessed atomically so that versions are safely published between threads.
+     */
+    @NotNull
+    private static final AtomicReferenceArray<Version> RELEASES = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    static {
+        for (int i = 0; i < COMPONENTS.length; i++)
+            COMPONENTS[i] = BigInteger.valueOf(i);
+    }
+
+    private VersionCache() {
+    }
+
+    /**
+     * A version component with the provided value.
+     *
+     * @param value The value of the component.
+     * @return The component, which is shared if it is small enough.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static BigInteger component(long value) {
+        if (value >= 0 && value <= MAX_CACHED_COMPONENT)
+            return COMPONENTS[(int) value];
+        else
+            return BigInteger.valueOf(value);
+    }
+
+    /**
+     * The shared instance of a version component, if it is small enough.
+     *
+     * @param value The value of the component.
+     * @return The shared component equal to {@code value}, or {@code value} itself.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static BigInteger component(@NotNull BigInteger value) {
+        if (isCached(value))
+            return COMPONENTS[value.intValue()];
+        else
+            return value;
+    }
+
+    /**
+     * A version component read from its decimal digits, without creating a string for the common case.
+     *
+     * @param digits The character sequence containing the digits.
+     * @param start  The index of the first digit.
+     * @param end    The index after the last digit.
+     * @return The component, which is shared if it is small enough.
+     * @throws NumberFormatException If the region does not only contain digits.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static BigInteger component(@NotNull CharSequence digits, int start, int end) {
+        if (end - start > MAX_LONG_DIGITS || end == start)
+            return component(new BigInteger(digits.subSequence(start, end).toString()));
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                throw new NumberFormatException(String.format("Illegal digit in '%s'.", digits.subSequence(start, end)));
+            value = value * 10 + digit;
+        }
+        return component(value);
+    }
+
+    /**
+     * The component following the provided one.
+     *
+     * @param value The value of the component.
+     * @return The component equal to {@code value + 1}, which is shared if it is small enough.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static BigInteger next(@NotNull BigInteger value) {
+        if (isCached(value) && value.intValue() < MAX_CACHED_COMPONENT)
+            return COMPONENTS[value.intValue() + 1];
+        else
+            return value.add(BigInteger.ONE);
+    }
+
+    /**
+     * A core version with the provided components.
+     *
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param patch The patch version.
+     * @return A new core version, whose components are shared if they are small enough.
+     */
+    @NotNull
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static CoreVersion coreVersion(@NotNull BigInteger major, @NotNull BigInteger minor, @NotNull BigInteger patch) {
+        return new CoreVersion(component(major), component(minor), component(patch));
+    }
+
+    /**
+     * A release version, without a pre-release or build metadata, with the provided components.
+     *
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param patch The patch version.
+     * @return The version, which is shared if all components are small enough.
+     */
+    @NotNull
+    public static Version release(@NotNull BigInteger major, @NotNull BigInteger minor, @NotNull BigInteger patch) {
+        if (isCached(major) && isCached(minor) && isCached(patch))
+            return release(major.intValue(), minor.intValue(), patch.intValue());
+        else
+            return new Version(new CoreVersion(major, minor, patch), PreRelease.NULL, BuildMetadata.NULL);
+    }
+
+    /**
+     * A release version, without a pre-release or build metadata, with the provided components.
+     *
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param patch The patch version.
+     * @return The version, which is shared if all components are small enough.
+     */
+    @NotNull
+    public static Version release(long major, long minor, long patch) {
+        if (!isCached(major) || !isCached(minor) || !isCached(patch))
+            return new Version(new CoreVersion(BigInteger.valueOf(major), BigInteger.valueOf(minor), BigInteger.valueOf(patch)),
+                               PreRelease.NULL, BuildMetadata.NULL);
+
+        BigInteger majorComponent = COMPONENTS[(int) major];
+        BigInteger minorComponent = COMPONENTS[(int) minor];
+        BigInteger patchComponent = COMPONENTS[(int) patch];
+
+        int key = (int) (major << 16 | minor << 8 | patch);
+        int slot = (key * 0x9E3779B9) >>> (Integer.SIZE - Integer.numberOfTrailingZeros(CACHE_SIZE));
+        Object event = StrataEvents.beginCacheAccess();
+        Version cached = RELEASES.get(slot);
+        StrataMetrics metrics = MetricsRegistry.active();
+        if (cached != null) {
+            // cached components are always the shared instances, so identity is enough
+            CoreVersion coreVersion = cached.getCoreVersion();
+            if (coreVersion.getMajor() == majorComponent && coreVersion.getMinor() == minorComponent && coreVersion.getPatch() == patchComponent) {
+                if (metrics != null)
+                    metrics.onCacheAccess(StrataMetrics.Cache.RELEASE_VERSIONS, true);
+                if (event != null)
+                    StrataEvents.endCacheAccess(event, StrataMetrics.Cache.RELEASE_VERSIONS, true);
+                return cached;
+            }
+        }
+
+        if (metrics != null)
+            metrics.onCacheAccess(StrataMetrics.Cache.RELEASE_VERSIONS, false);
+        Version version = new Version(new CoreVersion(majorComponent, minorComponent, patchComponent), PreRelease.NULL, BuildMetadata.NULL);
+        RELEASES.set(slot, version);
+        if (event != null)
+            StrataEvents.endCacheAccess(event, StrataMetrics.Cache.RELEASE_VERSIONS, false);
+        return version;
+    }
+
+    @Contract(pure = true)
+    private static boolean isCached(long value) {
+        return value >= 0 && value <= MAX_CACHED_COMPONENT;
+    }
+
+    @Contract(pure = true)
+    private static boolean isCached(@NotNull BigInteger value) {
+        return value.signum() >= 0 && value.bitLength() <= 8;
+    }
+}
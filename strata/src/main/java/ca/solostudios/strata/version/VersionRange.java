@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file VersionRange.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 18-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -30,6 +30,8 @@ package ca.solostudios.strata.version;
 
 
 import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.metrics.MetricsRegistry;
+import ca.solostudios.strata.metrics.StrataMetrics;
 import ca.solostudios.strata.parser.tokenizer.ParseException;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -143,6 +145,38 @@ public final class VersionRange implements Formattable {
      */
     @Contract(pure = true)
     public boolean isSatisfiedBy(Version version) {
+        StrataMetrics metrics = MetricsRegistry.active();
+        if (metrics == null)
+            return satisfies(version);
+
+        long start = System.nanoTime();
+        boolean satisfied = satisfies(version);
+        metrics.onSuccess(StrataMetrics.Operation.IS_SATISFIED_BY, System.nanoTime() - start);
+        return satisfied;
+    }
+
+    /**
+     * Whether or not this range is satisfied by the provided version.
+     * <p>
+     * This does not allocate, and gives the same result as {@link #isSatisfiedBy(Version)} for {@link MutableVersion#toImmutable()}.
+     *
+     * @param version The version to check against.
+     * @return {@code true} if this range is satisfied by the provided version, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public boolean isSatisfiedBy(@NotNull MutableVersion version) {
+        StrataMetrics metrics = MetricsRegistry.active();
+        if (metrics == null)
+            return satisfies(version);
+
+        long start = System.nanoTime();
+        boolean satisfied = satisfies(version);
+        metrics.onSuccess(StrataMetrics.Operation.IS_SATISFIED_BY, System.nanoTime() - start);
+        return satisfied;
+    }
+
+    @Contract(pure = true)
+    private boolean satisfies(@NotNull Version version) {
         if (this.startVersion != null) {
             if (this.startInclusive) {
                 if (0 < this.startVersion.getCoreVersion().compareTo(version.getCoreVersion()))
@@ -163,6 +197,21 @@ public final class VersionRange implements Formattable {
         return true;
     }
 
+    @Contract(pure = true)
+    private boolean satisfies(@NotNull MutableVersion version) {
+        if (this.startVersion != null) {
+            int comparison = version.compareCoreTo(this.startVersion.getCoreVersion());
+            if (this.startInclusive ? comparison < 0 : comparison <= 0)
+                return false;
+        }
+        if (this.endVersion != null) {
+            int comparison = version.compareCoreTo(this.endVersion.getCoreVersion());
+            return this.endInclusive ? comparison <= 0 : comparison < 0;
+        }
+
+        return true;
+    }
+
     @Override
     @Contract(pure = true)
     public int hashCode() {
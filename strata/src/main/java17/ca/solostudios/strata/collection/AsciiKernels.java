@@ -0,0 +1,121 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file AsciiKernels.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Bulk classification and conversion of ASCII version strings, used when ingesting many versions at once.
+ * <p>
+ * This implementation uses {@link VectorAsciiKernels} when the {@code jdk.incubator.vector} module is part of the boot layer (for example,
+ * when the application is started with {@code --add-modules jdk.incubator.vector}) and the platform has vectors of at least 128 bits.
+ * Otherwise, or if the {@code ca.solostudios.strata.disableVectorization} system property is {@code true}, it falls back to
+ * {@link ScalarAsciiKernels}.
+ *
+ * @author solonovamax
+ */
+final class AsciiKernels {
+    private static final boolean VECTORIZED = vectorSupported();
+
+    private AsciiKernels() {
+    }
+
+    /**
+     * Whether or not these kernels are vectorized.
+     *
+     * @return {@code true} if the Vector API is used, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Finds the first byte which cannot be part of a version string, meaning any byte other than ASCII letters, digits, {@code -},
+     * {@code .}, and {@code +}.
+     *
+     * @param input The bytes to search.
+     * @param from  The index to start searching at, inclusive.
+     * @param to    The index to stop searching at, exclusive.
+     * @return The index of the first such byte, or {@code to} if there is none.
+     */
+    @Contract(pure = true)
+    static int indexOfNonVersionCharacter(byte @NotNull [] input, int from, int to) {
+        if (VECTORIZED)
+            return VectorAsciiKernels.indexOfNonVersionCharacter(input, from, to);
+        return ScalarAsciiKernels.indexOfNonVersionCharacter(input, from, to);
+    }
+
+    /**
+     * Finds the first byte which is not an ASCII digit.
+     *
+     * @param input The bytes to search.
+     * @param from  The index to start searching at, inclusive.
+     * @param to    The index to stop searching at, exclusive.
+     * @return The index of the first such byte, or {@code to} if there is none.
+     */
+    @Contract(pure = true)
+    static int indexOfNonDigit(byte @NotNull [] input, int from, int to) {
+        if (VECTORIZED)
+            return VectorAsciiKernels.indexOfNonDigit(input, from, to);
+        return ScalarAsciiKernels.indexOfNonDigit(input, from, to);
+    }
+
+    /**
+     * Converts a run of ASCII digits to a number.
+     *
+     * @param input The bytes to convert, which must all be digits.
+     * @param from  The start of the digits, inclusive.
+     * @param to    The end of the digits, exclusive.
+     * @return The number, or {@code -1} if it does not fit in a {@code long}.
+     */
+    @Contract(pure = true)
+    static long parseDigits(byte @NotNull [] input, int from, int to) {
+        if (VECTORIZED)
+            return VectorAsciiKernels.parseDigits(input, from, to);
+        return ScalarAsciiKernels.parseDigits(input, from, to);
+    }
+
+    private static boolean vectorSupported() {
+        if (Boolean.getBoolean("ca.solostudios.strata.disableVectorization"))
+            return false;
+        // the incubator module is only resolved when requested, so VectorAsciiKernels must not be loaded unless it is present
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return false;
+
+        try {
+            return VectorAsciiKernels.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
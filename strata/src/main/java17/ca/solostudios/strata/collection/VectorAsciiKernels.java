@@ -0,0 +1,144 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VectorAsciiKernels.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Implementations of the {@link AsciiKernels} using the incubating Vector API.
+ * <p>
+ * Classification compares a whole vector of bytes against the allowed ranges at once, and reports the first lane which is outside of
+ * them. Runs of 8 to 16 digits are converted by widening the digits to ints, multiplying them by their place values, and summing the
+ * lanes; shorter runs, which are the common case for major, minor, and patch versions, are left to the scalar loop. The conversion needs
+ * 256-bit int vectors, so it is also left to the scalar loop on platforms whose vectors are narrower, where the Vector API would emulate
+ * them far more slowly than the scalar loop.
+ *
+ * @author solonovamax
+ */
+final class VectorAsciiKernels {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Byte> DIGIT_SPECIES = ByteVector.SPECIES_128;
+
+    private static final VectorSpecies<Integer> PLACE_SPECIES = IntVector.SPECIES_256;
+
+    /**
+     * Whether or not the platform has int vectors as wide as {@link #PLACE_SPECIES}, which is needed for them to be intrinsified.
+     */
+    private static final boolean VECTOR_PARSE_DIGITS = IntVector.SPECIES_PREFERRED.vectorBitSize() >= PLACE_SPECIES.vectorBitSize();
+
+    /**
+     * The place values of the 8 digits in one half of a 16 digit number.
+     */
+    private static final int[] PLACE_VALUES = { 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1 };
+
+    private static final int MIN_VECTOR_DIGITS = 8;
+
+    private static final int MAX_VECTOR_DIGITS = 16;
+
+    private VectorAsciiKernels() {
+    }
+
+    /**
+     * Whether or not the platform has vectors wide enough for these kernels to be worthwhile.
+     *
+     * @return {@code true} if the preferred vector size is at least 128 bits, {@code false} otherwise.
+     */
+    static boolean isSupported() {
+        return SPECIES.vectorBitSize() >= 128;
+    }
+
+    @Contract(pure = true)
+    static int indexOfNonVersionCharacter(byte @NotNull [] input, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            ByteVector bytes = ByteVector.fromArray(SPECIES, input, i);
+            // setting bit 5 maps upper case letters onto lower case letters, and leaves non-ascii (negative) bytes negative
+            ByteVector folded = bytes.or((byte) 0x20);
+
+            VectorMask<Byte> valid = digits(bytes)
+                    .or(folded.compare(VectorOperators.GE, (byte) 'a').and(folded.compare(VectorOperators.LE, (byte) 'z')))
+                    .or(bytes.eq((byte) '-'))
+                    .or(bytes.eq((byte) '.'))
+                    .or(bytes.eq((byte) '+'));
+
+            VectorMask<Byte> invalid = valid.not();
+            if (invalid.anyTrue())
+                return i + invalid.firstTrue();
+        }
+        return ScalarAsciiKernels.indexOfNonVersionCharacter(input, i, to);
+    }
+
+    @Contract(pure = true)
+    static int indexOfNonDigit(byte @NotNull [] input, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Byte> invalid = digits(ByteVector.fromArray(SPECIES, input, i)).not();
+            if (invalid.anyTrue())
+                return i + invalid.firstTrue();
+        }
+        return ScalarAsciiKernels.indexOfNonDigit(input, i, to);
+    }
+
+    @Contract(pure = true)
+    static long parseDigits(byte @NotNull [] input, int from, int to) {
+        int length = to - from;
+        if (!VECTOR_PARSE_DIGITS || length < MIN_VECTOR_DIGITS || length > MAX_VECTOR_DIGITS)
+            return ScalarAsciiKernels.parseDigits(input, from, to);
+
+        // right-align the digits in a 16 lane vector, so that the place value of each lane is fixed
+        int offset = to - MAX_VECTOR_DIGITS;
+        VectorMask<Byte> present = VectorMask.fromLong(DIGIT_SPECIES, -1L << (MAX_VECTOR_DIGITS - length));
+        ByteVector digits = ByteVector.fromArray(DIGIT_SPECIES, input, offset, present)
+                                      .sub((byte) '0', present);
+
+        IntVector placeValues = IntVector.fromArray(PLACE_SPECIES, PLACE_VALUES, 0);
+        long high = ((IntVector) digits.convertShape(VectorOperators.B2I, PLACE_SPECIES, 0)).mul(placeValues)
+                                                                                         .reduceLanes(VectorOperators.ADD);
+        long low = ((IntVector) digits.convertShape(VectorOperators.B2I, PLACE_SPECIES, 1)).mul(placeValues)
+                                                                                        .reduceLanes(VectorOperators.ADD);
+        return high * 100_000_000L + low;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static VectorMask<Byte> digits(@NotNull ByteVector bytes) {
+        return bytes.compare(VectorOperators.GE, (byte) '0').and(bytes.compare(VectorOperators.LE, (byte) '9'));
+    }
+}
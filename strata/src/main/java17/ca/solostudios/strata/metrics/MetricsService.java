@@ -0,0 +1,73 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file MetricsService.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.metrics;
+
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+
+/**
+ * Loads the {@link StrataMetrics} implementation registered as a {@link ServiceLoader service}.
+ * <p>
+ * When this library is a named module, providers may be declared in the {@code provides} clause of a {@code module-info}, which leaves no
+ * file to look for, so the service loader always runs. Otherwise, it only runs if a {@code META-INF/services} registration exists, as it
+ * loads over a hundred classes.
+ *
+ * @author solonovamax
+ */
+final class MetricsService {
+    private MetricsService() {
+    }
+
+    /**
+     * Loads the first registered metrics implementation.
+     *
+     * @return The metrics implementation, or {@code null} if there is none, or if it could not be loaded.
+     */
+    @Nullable
+    static StrataMetrics load() {
+        ClassLoader classLoader = MetricsService.class.getClassLoader();
+        if (!MetricsService.class.getModule().isNamed()) {
+            String registration = "META-INF/services/" + StrataMetrics.class.getName();
+            if ((classLoader == null ? ClassLoader.getSystemResource(registration) : classLoader.getResource(registration)) == null)
+                return null;
+        }
+
+        try {
+            Iterator<StrataMetrics> services = ServiceLoader.load(StrataMetrics.class, classLoader).iterator();
+            return services.hasNext() ? services.next() : null;
+        } catch (ServiceConfigurationError e) {
+            return null; // a broken provider must never break parsing
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file StrataEvents.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.metrics;
+
+
+import jdk.jfr.FlightRecorder;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Hooks emitting JDK Flight Recorder events from the parsers and collections.
+ * <p>
+ * Each hook comes in pairs: a {@code begin} method returning an opaque event handle, and an {@code end} method completing the event with
+ * its outcome. The handle is {@code null} when the event is disabled, in which case callers skip the {@code end} method entirely.
+ * <p>
+ * This is the implementation used on Java 17 and newer. The events are in the {@code Strata} category, and are all disabled by default.
+ * While an event is disabled, its {@code begin} method constructs no event that escapes, so the JIT reduces it to a check of the event
+ * state. If the {@code jdk.jfr} module is not part of the runtime, no events are ever emitted, and no event is constructed before the
+ * flight recorder is initialized.
+ *
+ * @author solonovamax
+ */
+public final class StrataEvents {
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private StrataEvents() {
+    }
+
+    /**
+     * Checks if events could be recorded. Until the flight recorder is initialized, no recording can have enabled an event, and checking
+     * this avoids loading the event infrastructure, which is several hundred classes, on the first parse of every process.
+     */
+    @Contract(pure = true)
+    private static boolean isRecording() {
+        return AVAILABLE && FlightRecorder.isInitialized();
+    }
+
+    /**
+     * Begins a version parse event.
+     *
+     * @return The event handle, or {@code null} if the event is disabled.
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Object beginVersionParse() {
+        if (!isRecording())
+            return null;
+
+        VersionParseEvent event = new VersionParseEvent();
+        if (!event.isEnabled())
+            return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a version parse event.
+     *
+     * @param event       The event handle returned by {@link #beginVersionParse()}.
+     * @param inputLength The length of the parsed string.
+     * @param success     {@code true} if the string was parsed, {@code false} if it was rejected.
+     */
+    public static void endVersionParse(@NotNull Object event, int inputLength, boolean success) {
+        VersionParseEvent parseEvent = (VersionParseEvent) event;
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.inputLength = inputLength;
+            parseEvent.success = success;
+            parseEvent.commit();
+        }
+    }
+
+    /**
+     * Begins a version range parse event.
+     *
+     * @return The event handle, or {@code null} if the event is disabled.
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Object beginVersionRangeParse() {
+        if (!isRecording())
+            return null;
+
+        VersionRangeParseEvent event = new VersionRangeParseEvent();
+        if (!event.isEnabled())
+            return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a version range parse event.
+     *
+     * @param event       The event handle returned by {@link #beginVersionRangeParse()}.
+     * @param inputLength The length of the parsed string.
+     * @param success     {@code true} if the string was parsed, {@code false} if it was rejected.
+     */
+    public static void endVersionRangeParse(@NotNull Object event, int inputLength, boolean success) {
+        VersionRangeParseEvent parseEvent = (VersionRangeParseEvent) event;
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.inputLength = inputLength;
+            parseEvent.success = success;
+            parseEvent.commit();
+        }
+    }
+
+    /**
+     * Begins an event for matching a batch of versions against a range.
+     *
+     * @return The event handle, or {@code null} if the event is disabled.
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Object beginRangeMatch() {
+        if (!isRecording())
+            return null;
+
+        RangeMatchEvent event = new RangeMatchEvent();
+        if (!event.isEnabled())
+            return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends an event for matching a batch of versions against a range.
+     *
+     * @param event      The event handle returned by {@link #beginRangeMatch()}.
+     * @param batchSize  The number of versions matched against the range.
+     * @param matchCount The number of versions which satisfied the range.
+     */
+    public static void endRangeMatch(@NotNull Object event, int batchSize, int matchCount) {
+        RangeMatchEvent matchEvent = (RangeMatchEvent) event;
+        matchEvent.end();
+        if (matchEvent.shouldCommit()) {
+            matchEvent.batchSize = batchSize;
+            matchEvent.matchCount = matchCount;
+            matchEvent.commit();
+        }
+    }
+
+    /**
+     * Begins a cache access event.
+     *
+     * @return The event handle, or {@code null} if the event is disabled.
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Object beginCacheAccess() {
+        if (!isRecording())
+            return null;
+
+        CacheAccessEvent event = new CacheAccessEvent();
+        if (!event.isEnabled())
+            return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a cache access event.
+     *
+     * @param event The event handle returned by {@link #beginCacheAccess()}.
+     * @param cache The cache which was accessed.
+     * @param hit   {@code true} if the cache held the requested value, {@code false} otherwise.
+     */
+    public static void endCacheAccess(@NotNull Object event, @NotNull StrataMetrics.Cache cache, boolean hit) {
+        CacheAccessEvent accessEvent = (CacheAccessEvent) event;
+        accessEvent.end();
+        if (accessEvent.shouldCommit()) {
+            accessEvent.cache = cache.name();
+            accessEvent.hit = hit;
+            accessEvent.commit();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file MemoryPages.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+
+/**
+ * A paged, append-only region of off-heap memory.
+ * <p>
+ * This implementation is backed by {@link MemorySegment}s allocated from a shared {@link Arena}, which are freed as soon as
+ * {@link #close()} is invoked.
+ *
+ * @author solonovamax
+ */
+final class MemoryPages extends AbstractMemoryPages<MemorySegment> {
+    @NotNull
+    private final Arena arena = Arena.ofShared();
+
+    /**
+     * Constructs a new empty set of memory pages.
+     *
+     * @param pageSize The size of a single page, in bytes.
+     */
+    @Contract(pure = true)
+    MemoryPages(int pageSize) {
+        super(pageSize);
+    }
+
+    @Contract(pure = true)
+    byte getByte(long address) {
+        return page(address).get(ValueLayout.JAVA_BYTE, offset(address));
+    }
+
+    void putByte(long address, byte value) {
+        page(address).set(ValueLayout.JAVA_BYTE, offset(address), value);
+    }
+
+    @Contract(pure = true)
+    int getInt(long address) {
+        return page(address).get(ValueLayout.JAVA_INT_UNALIGNED, offset(address));
+    }
+
+    void putInt(long address, int value) {
+        page(address).set(ValueLayout.JAVA_INT_UNALIGNED, offset(address), value);
+    }
+
+    @Contract(pure = true)
+    long getLong(long address) {
+        return page(address).get(ValueLayout.JAVA_LONG_UNALIGNED, offset(address));
+    }
+
+    void putLong(long address, long value) {
+        page(address).set(ValueLayout.JAVA_LONG_UNALIGNED, offset(address), value);
+    }
+
+    /**
+     * Copies bytes out of this memory into a heap array.
+     *
+     * @param address     The address to start copying from.
+     * @param destination The array to copy into.
+     * @param offset      The offset into the destination array.
+     * @param length      The number of bytes to copy.
+     */
+    void getBytes(long address, byte @NotNull [] destination, int offset, int length) {
+        MemorySegment.copy(page(address), ValueLayout.JAVA_BYTE, offset(address), destination, offset, length);
+    }
+
+    /**
+     * Releases all pages, freeing their memory immediately.
+     */
+    @Override
+    public void close() {
+        super.close();
+        this.arena.close();
+    }
+
+    @NotNull
+    @Override
+    MemorySegment newPage(int size) {
+        return this.arena.allocate(size, Long.BYTES);
+    }
+}
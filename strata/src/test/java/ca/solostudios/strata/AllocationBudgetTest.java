@@ -0,0 +1,130 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file AllocationBudgetTest.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionRange;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+
+/**
+ * Asserts how many bytes the hot paths allocate per call, using the allocation counter of the current thread.
+ * <p>
+ * Each operation is first run enough times for the JIT to compile it, then measured over many calls. The budgets are upper bounds
+ * with some headroom over what the current implementation allocates, so that a change which raises them fails here with the measured
+ * value instead of only showing up in a profiler.
+ */
+class AllocationBudgetTest {
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    private static final String[] VERSIONS = {
+            "1.2.3",
+            "10.20.30-rc.1",
+            "1.0.0-alpha.beta.1+build.5114f85",
+            "2.0.0+exp.sha.0042",
+    };
+
+    private static int sink;
+
+    @Test
+    void testParseVersion() {
+        int[] index = { 0 };
+        assertBudget("Versions.parseVersion(String)", 700, () -> Versions.parseVersion(VERSIONS[index[0]++ & 3]).hashCode());
+    }
+
+    @Test
+    void testCompareTo() {
+        Version[] versions = parse(VERSIONS);
+        int[] index = { 0 };
+        assertBudget("Version.compareTo(Version)", 0, () -> {
+            int i = index[0]++;
+            return versions[i & 3].compareTo(versions[(i >>> 2) & 3]);
+        });
+    }
+
+    @Test
+    void testHashCode() {
+        Version[] versions = parse(VERSIONS);
+        int[] index = { 0 };
+        assertBudget("Version.hashCode()", 0, () -> versions[index[0]++ & 3].hashCode());
+    }
+
+    @Test
+    void testIsSatisfiedBy() {
+        Version[] versions = parse(VERSIONS);
+        VersionRange range = Versions.parseVersionRange("[1.0.0,3.0.0)");
+        int[] index = { 0 };
+        assertBudget("VersionRange.isSatisfiedBy(Version)", 0, () -> range.isSatisfiedBy(versions[index[0]++ & 3]) ? 1 : 0);
+    }
+
+    @Test
+    void testGetFormatted() {
+        Version[] versions = parse(VERSIONS);
+        int[] index = { 0 };
+        assertBudget("Version.getFormatted()", 160, () -> versions[index[0]++ & 3].getFormatted().length());
+    }
+
+    private static void assertBudget(String operation, long budget, IntSupplier call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported by this JVM");
+        if (!threads.isThreadAllocatedMemoryEnabled())
+            threads.setThreadAllocatedMemoryEnabled(true);
+
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+            sink += call.getAsInt();
+
+        // reading the counter allocates a little itself, so it is read once around the whole loop
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++)
+            sink += call.getAsInt();
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        double perCall = (double) allocated / MEASURED_ITERATIONS;
+        assertTrue(perCall <= budget + 0.5,
+                   String.format("%s allocated %.1f bytes per call over %d calls, which is over its budget of %d bytes per call.",
+                                 operation, perCall, MEASURED_ITERATIONS, budget));
+    }
+
+    private static Version[] parse(String[] versions) {
+        Version[] parsed = new Version[versions.length];
+        for (int i = 0; i < versions.length; i++)
+            parsed[i] = Versions.parseVersion(versions[i]);
+        return parsed;
+    }
+}
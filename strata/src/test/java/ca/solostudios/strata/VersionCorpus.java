@@ -0,0 +1,372 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionCorpus.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * A deterministic generator of version and version range strings, for tests and benchmarks.
+ * <p>
+ * The strings follow the distribution of a public repository index: mostly plain {@code x.y.z} versions with small components, then short
+ * pre-releases, build metadata, long dotted pre-releases, and the occasional component too large for a {@code long}. A configurable
+ * fraction of the strings is corrupted so that it fails to parse.
+ * <p>
+ * The same seed always produces the same strings, on every JVM. Running {@link #main(String[])} writes a corpus to disk, so that large
+ * benchmarks can be reproduced without regenerating it.
+ *
+ * @author solonovamax
+ */
+public final class VersionCorpus {
+    private static final String[] TAGS = { "alpha", "beta", "rc", "SNAPSHOT", "M", "dev", "pre", "nightly" };
+
+    private static final String[] WORDS = { "build", "sha", "exp", "linux", "x86-64", "jdk17", "final", "GA" };
+
+    @NotNull
+    private final Random random;
+
+    private final double invalidFraction;
+
+    /**
+     * Constructs a new generator which only produces valid strings.
+     *
+     * @param seed The seed of the generator.
+     */
+    public VersionCorpus(long seed) {
+        this(seed, 0);
+    }
+
+    /**
+     * Constructs a new generator.
+     *
+     * @param seed            The seed of the generator.
+     * @param invalidFraction The fraction of strings which fail to parse, between 0 and 1.
+     * @throws IllegalArgumentException If the invalid fraction is not between 0 and 1.
+     */
+    public VersionCorpus(long seed, double invalidFraction) {
+        if (!(invalidFraction >= 0 && invalidFraction <= 1))
+            throw new IllegalArgumentException(String.format("Invalid fraction must be between 0 and 1, was %s.", invalidFraction));
+
+        this.random = new Random(seed);
+        this.invalidFraction = invalidFraction;
+    }
+
+    /**
+     * Writes a corpus of versions and version ranges to a directory.
+     * <p>
+     * The arguments are the directory, followed by the number of strings, the seed, and the invalid fraction. The versions are written to
+     * {@code versions.txt} and the ranges to {@code ranges.txt}, one per line.
+     *
+     * @param args The arguments.
+     * @throws IOException If the corpus cannot be written.
+     */
+    public static void main(String @NotNull [] args) throws IOException {
+        if (args.length < 1 || args.length > 4) {
+            System.err.println("Usage: VersionCorpus <directory> [count] [seed] [invalid fraction]");
+            System.exit(1);
+        }
+
+        Path directory = Paths.get(args[0]);
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        double invalidFraction = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+
+        Files.createDirectories(directory);
+        write(directory.resolve("versions.txt"), new VersionCorpus(seed, invalidFraction).versions(count));
+        write(directory.resolve("ranges.txt"), new VersionCorpus(seed, invalidFraction).ranges(count));
+    }
+
+    /**
+     * Writes strings to a file, one per line.
+     *
+     * @param file    The file.
+     * @param strings The strings.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(@NotNull Path file, @NotNull List<String> strings) throws IOException {
+        Files.write(file, strings, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads strings written by {@link #write(Path, List)}.
+     *
+     * @param file The file.
+     * @return The strings.
+     * @throws IOException If the file cannot be read.
+     */
+    @NotNull
+    public static List<String> read(@NotNull Path file) throws IOException {
+        return Files.readAllLines(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates version strings.
+     *
+     * @param count The number of strings.
+     * @return The strings.
+     */
+    @NotNull
+    public List<String> versions(int count) {
+        List<String> versions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            versions.add(nextVersion());
+        return versions;
+    }
+
+    /**
+     * Generates version range strings.
+     *
+     * @param count The number of strings.
+     * @return The strings.
+     */
+    @NotNull
+    public List<String> ranges(int count) {
+        List<String> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            ranges.add(nextRange());
+        return ranges;
+    }
+
+    /**
+     * Generates a version string.
+     *
+     * @return The string.
+     */
+    @NotNull
+    public String nextVersion() {
+        StringBuilder version = new StringBuilder();
+        int kind = this.random.nextInt(100);
+        if (kind < 2)
+            appendHugeCore(version);
+        else
+            appendCore(version);
+
+        if (kind >= 70 && kind < 82) {
+            appendShortPreRelease(version);
+        } else if (kind >= 82 && kind < 87) {
+            appendLongPreRelease(version);
+        } else if (kind >= 87 && kind < 95) {
+            appendBuildMetadata(version);
+        } else if (kind >= 95) {
+            appendShortPreRelease(version);
+            appendBuildMetadata(version);
+        }
+
+        if (isInvalid())
+            return corruptVersion(version.toString());
+        return version.toString();
+    }
+
+    /**
+     * Generates a version range string.
+     *
+     * @return The string.
+     */
+    @NotNull
+    public String nextRange() {
+        StringBuilder range = new StringBuilder();
+        int kind = this.random.nextInt(100);
+        if (kind < 35) {
+            // [1.2.3,2.0.0), bounded by the next major version
+            int major = nextComponent();
+            range.append(this.random.nextBoolean() ? '[' : '(');
+            appendCore(range, major);
+            if (this.random.nextInt(10) == 0)
+                appendShortPreRelease(range);
+            range.append(',').append(major + 1).append(".0.0");
+            range.append(this.random.nextBoolean() ? ')' : ']');
+        } else if (kind < 55) {
+            range.append('^');
+            appendCore(range);
+        } else if (kind < 70) {
+            range.append(nextComponent()).append('.');
+            if (this.random.nextBoolean())
+                range.append(this.random.nextInt(30)).append('.');
+            range.append('+');
+        } else if (kind < 85) {
+            String[] operators = { ">=", ">", "<=", "<" };
+            range.append(operators[this.random.nextInt(operators.length)]);
+            appendCore(range);
+        } else if (kind < 95) {
+            if (this.random.nextBoolean()) {
+                range.append('[');
+                appendCore(range);
+                range.append(",)");
+            } else {
+                range.append("(,");
+                appendCore(range);
+                range.append(']');
+            }
+        } else {
+            appendCore(range);
+        }
+
+        if (isInvalid())
+            return corruptRange(range.toString());
+        return range.toString();
+    }
+
+    private boolean isInvalid() {
+        return this.invalidFraction > 0 && this.random.nextDouble() < this.invalidFraction;
+    }
+
+    /**
+     * A major version, where smaller versions are far more common.
+     */
+    private int nextComponent() {
+        int component = 0;
+        while (component < 40 && this.random.nextInt(3) != 0)
+            component++;
+        return component;
+    }
+
+    private void appendCore(@NotNull StringBuilder builder) {
+        appendCore(builder, nextComponent());
+    }
+
+    private void appendCore(@NotNull StringBuilder builder, int major) {
+        builder.append(major).append('.').append(this.random.nextInt(30)).append('.').append(this.random.nextInt(20));
+    }
+
+    /**
+     * A calendar version with a timestamp, or a component larger than {@link Long#MAX_VALUE}.
+     */
+    private void appendHugeCore(@NotNull StringBuilder builder) {
+        if (this.random.nextBoolean()) {
+            builder.append(2000 + this.random.nextInt(30)).append('.').append(1 + this.random.nextInt(12)).append('.');
+            builder.append(20_000_101_000_000L + (this.random.nextLong() & 0xFFFF_FFFFL));
+        } else {
+            builder.append(1 + this.random.nextInt(9));
+            for (int i = 0, length = 19 + this.random.nextInt(20); i < length; i++)
+                builder.append(this.random.nextInt(10));
+            builder.append(".0.").append(this.random.nextInt(20));
+        }
+    }
+
+    private void appendShortPreRelease(@NotNull StringBuilder builder) {
+        String tag = TAGS[this.random.nextInt(TAGS.length)];
+        builder.append('-').append(tag);
+        if (!"SNAPSHOT".equals(tag) && this.random.nextInt(4) != 0)
+            builder.append('.').append(1 + this.random.nextInt(12));
+    }
+
+    private void appendLongPreRelease(@NotNull StringBuilder builder) {
+        builder.append('-').append(TAGS[this.random.nextInt(TAGS.length)]);
+        for (int i = 0, count = 3 + this.random.nextInt(8); i < count; i++) {
+            builder.append('.');
+            switch (this.random.nextInt(3)) {
+                case 0:
+                    builder.append(this.random.nextInt(1000));
+                    break;
+                case 1:
+                    builder.append(WORDS[this.random.nextInt(WORDS.length)]);
+                    break;
+                default:
+                    builder.append(Long.toHexString(this.random.nextLong() | 1L << 60));
+                    break;
+            }
+        }
+    }
+
+    private void appendBuildMetadata(@NotNull StringBuilder builder) {
+        builder.append('+').append(WORDS[this.random.nextInt(WORDS.length)]);
+        if (this.random.nextBoolean())
+            builder.append('.').append(Integer.toHexString(this.random.nextInt()));
+        else
+            builder.append('.').append(this.random.nextInt(10_000));
+    }
+
+    /**
+     * Corrupts a valid version, in one of the ways versions are commonly written wrong.
+     */
+    @NotNull
+    private String corruptVersion(@NotNull String version) {
+        int core = indexOfAny(version, "-+");
+        switch (this.random.nextInt(6)) {
+            case 0: // leading zero
+                return '0' + version;
+            case 1: // missing patch version
+                return version.substring(0, version.lastIndexOf('.', core - 1)) + version.substring(core);
+            case 2: // fourth component
+                return version.substring(0, core) + '.' + this.random.nextInt(10) + version.substring(core);
+            case 3: // empty identifier, a trailing '-' would be part of an existing pre-release identifier
+                if (core < version.length())
+                    return version + '.';
+                return version + (this.random.nextBoolean() ? '-' : '+');
+            case 4: // illegal character, replacing the pre-release
+                return version.substring(0, core) + "-pre_release" + buildMetadata(version);
+            default: // leading zero in a numeric pre-release identifier, replacing the pre-release
+                return version.substring(0, core) + "-rc.0" + (1 + this.random.nextInt(9)) + buildMetadata(version);
+        }
+    }
+
+    /**
+     * Corrupts a valid version range, in one of the ways ranges are commonly written wrong.
+     */
+    @NotNull
+    private String corruptRange(@NotNull String range) {
+        switch (this.random.nextInt(4)) {
+            case 0: // unsupported operator
+                return '~' + range;
+            case 1: // truncated
+                return range.substring(0, 1 + this.random.nextInt(range.length() - 1)) + ",";
+            case 2: // wildcard instead of a glob
+                return range.substring(0, range.indexOf('.') + 1) + "x";
+            default: // trailing garbage
+                return range + " ||";
+        }
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static String buildMetadata(@NotNull String version) {
+        int start = version.indexOf('+');
+        return start < 0 ? "" : version.substring(start);
+    }
+
+    @Contract(pure = true)
+    private static int indexOfAny(@NotNull String string, @NotNull String characters) {
+        for (int i = 0; i < string.length(); i++) {
+            if (characters.indexOf(string.charAt(i)) >= 0)
+                return i;
+        }
+        return string.length();
+    }
+}
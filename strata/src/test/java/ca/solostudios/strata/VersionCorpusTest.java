@@ -0,0 +1,118 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionCorpusTest.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static ca.solostudios.strata.Versions.parseVersionRange;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionCorpusTest {
+    private static final int COUNT = 20_000;
+
+    @Test
+    void testDeterministic() {
+        assertEquals(new VersionCorpus(7, 0.1).versions(COUNT), new VersionCorpus(7, 0.1).versions(COUNT));
+        assertEquals(new VersionCorpus(7, 0.1).ranges(COUNT), new VersionCorpus(7, 0.1).ranges(COUNT));
+        assertNotEquals(new VersionCorpus(7).versions(COUNT), new VersionCorpus(8).versions(COUNT));
+    }
+
+    @Test
+    void testValidVersions() {
+        for (String version : new VersionCorpus(1).versions(COUNT))
+            assertDoesNotThrow(() -> parseVersion(version), version);
+    }
+
+    @Test
+    void testValidRanges() {
+        for (String range : new VersionCorpus(2).ranges(COUNT))
+            assertDoesNotThrow(() -> parseVersionRange(range), range);
+    }
+
+    @Test
+    void testInvalidVersions() {
+        for (String version : new VersionCorpus(3, 1).versions(COUNT))
+            assertThrows(ParseException.class, () -> parseVersion(version), version);
+    }
+
+    @Test
+    void testInvalidRanges() {
+        for (String range : new VersionCorpus(4, 1).ranges(COUNT))
+            assertThrows(ParseException.class, () -> parseVersionRange(range), range);
+    }
+
+    @Test
+    void testInvalidFraction() {
+        int invalid = 0;
+        for (String version : new VersionCorpus(5, 0.2).versions(COUNT)) {
+            try {
+                parseVersion(version);
+            } catch (ParseException e) {
+                invalid++;
+            }
+        }
+        assertEquals(0.2, (double) invalid / COUNT, 0.02);
+
+        assertThrows(IllegalArgumentException.class, () -> new VersionCorpus(0, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new VersionCorpus(0, Double.NaN));
+    }
+
+    @Test
+    void testDistribution() {
+        List<String> versions = new VersionCorpus(6).versions(COUNT);
+        long plain = versions.stream().filter(version -> version.matches("\\d+\\.\\d+\\.\\d+")).count();
+        long huge = versions.stream().filter(version -> version.matches("\\d{19,}\\..*")).count();
+        long metadata = versions.stream().filter(version -> version.indexOf('+') >= 0).count();
+
+        assertEquals(0.7, (double) plain / COUNT, 0.03);
+        assertTrue(huge > 0);
+        assertTrue(metadata > 0);
+    }
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        Path file = Files.createTempFile("versions", ".txt");
+        try {
+            List<String> versions = new VersionCorpus(9, 0.1).versions(1000);
+            VersionCorpus.write(file, versions);
+            assertEquals(versions, VersionCorpus.read(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionSortTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata;
+
+
+import ca.solostudios.strata.version.Version;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionSortTest {
+    private static final String[] PRE_RELEASES = {
+            "",
+            "-alpha",
+            "-alpha.1",
+            "-alpha.beta",
+            "-beta",
+            "-beta.2",
+            "-beta.11",
+            "-rc.1",
+            "-0.3.7",
+    };
+
+    @Test
+    void testSmallSort() {
+        assertSortedLikeArrays(randomVersions(new Random(1), 10));
+    }
+
+    @Test
+    void testSort() {
+        Random random = new Random(2);
+        for (int i = 0; i < 10; i++)
+            assertSortedLikeArrays(randomVersions(random, 1000 + random.nextInt(1000)));
+    }
+
+    @Test
+    void testParallelSort() {
+        assertSortedLikeArrays(randomVersions(new Random(3), 100_000));
+    }
+
+    @Test
+    void testLargeComponents() {
+        Version[] versions = randomVersions(new Random(4), 1000);
+        versions[10] = parseVersion("9223372036854775808.0.0");
+        versions[20] = parseVersion("1.99999999999999999999999.0-beta");
+        versions[30] = parseVersion("1.99999999999999999999999.0");
+        versions[40] = parseVersion("1.99999999999999999999999.0-alpha");
+        versions[50] = parseVersion("9223372036854775807.9223372036854775807.9223372036854775807");
+
+        assertSortedLikeArrays(versions);
+    }
+
+    @Test
+    void testNegativeComponents() {
+        Version[] versions = randomVersions(new Random(5), 1000);
+        versions[10] = Versions.getVersion(-1, 0, 0);
+        versions[20] = Versions.getVersion(1, -1, 0);
+        versions[30] = Versions.getVersion(1, 2, -3);
+        versions[40] = Versions.getVersion(-1, -1, -1);
+
+        assertSortedLikeArrays(versions);
+    }
+
+    @Test
+    void testEmpty() {
+        Version[] versions = new Version[0];
+        Versions.sort(versions);
+        Versions.parallelSort(versions);
+        assertEquals(0, versions.length);
+    }
+
+    private static void assertSortedLikeArrays(Version[] versions) {
+        Version[] expected = versions.clone();
+        Arrays.sort(expected);
+
+        Version[] sorted = versions.clone();
+        Versions.sort(sorted);
+        Version[] parallelSorted = versions.clone();
+        Versions.parallelSort(parallelSorted);
+
+        // same instances in the same order, which also verifies stability
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i], sorted[i]);
+            assertSame(expected[i], parallelSorted[i]);
+        }
+    }
+
+    private static Version[] randomVersions(Random random, int count) {
+        Version[] versions = new Version[count];
+        for (int i = 0; i < count; i++) {
+            String build = random.nextInt(4) == 0 ? "+build." + random.nextInt(5) : "";
+            versions[i] = parseVersion(String.format("%d.%d.%d%s%s", random.nextInt(5), random.nextInt(300), random.nextInt(70000),
+                                                     PRE_RELEASES[random.nextInt(PRE_RELEASES.length)], build));
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file AsciiKernelsTest.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class AsciiKernelsTest {
+    private static final byte[] ALPHABET = "0123456789.-+azAZ \n\r_/@[`{\u00ff".getBytes(java.nio.charset.StandardCharsets.ISO_8859_1);
+
+    @Test
+    void testClassification() {
+        Random random = new Random(0x5157A7A);
+        for (int i = 0; i < 2000; i++) {
+            byte[] input = new byte[random.nextInt(200)];
+            // mostly valid characters, so that the first invalid one is often past the first vector
+            for (int j = 0; j < input.length; j++)
+                input[j] = ALPHABET[random.nextInt(random.nextInt(50) == 0 ? ALPHABET.length : 17)];
+
+            int from = input.length == 0 ? 0 : random.nextInt(input.length);
+            assertEquals(ScalarAsciiKernels.indexOfNonVersionCharacter(input, from, input.length),
+                         AsciiKernels.indexOfNonVersionCharacter(input, from, input.length));
+            assertEquals(ScalarAsciiKernels.indexOfNonDigit(input, from, input.length),
+                         AsciiKernels.indexOfNonDigit(input, from, input.length));
+        }
+
+        for (int value = -128; value < 128; value++) {
+            byte[] input = { (byte) value };
+            char c = (char) (value & 0xFF);
+            boolean valid = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '.' || c == '+';
+            assertEquals(valid ? 1 : 0, AsciiKernels.indexOfNonVersionCharacter(input, 0, 1), String.format("Byte %d", value));
+        }
+    }
+
+    @Test
+    void testParseDigits() {
+        Random random = new Random(0xD161757);
+        for (int length = 1; length <= 20; length++) {
+            for (int i = 0; i < 200; i++) {
+                int padding = random.nextInt(4);
+                byte[] input = new byte[padding + length + random.nextInt(4)];
+                StringBuilder digits = new StringBuilder();
+                for (int j = 0; j < length; j++) {
+                    char digit = (char) ('0' + random.nextInt(10));
+                    digits.append(digit);
+                    input[padding + j] = (byte) digit;
+                }
+
+                long expected = parseOrOverflow(digits.toString());
+                assertEquals(expected, AsciiKernels.parseDigits(input, padding, padding + length), digits.toString());
+            }
+        }
+    }
+
+    private static long parseOrOverflow(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
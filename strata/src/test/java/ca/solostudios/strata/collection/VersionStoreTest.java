@@ -0,0 +1,177 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionStoreTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.metrics.MetricsRegistry;
+import ca.solostudios.strata.metrics.StrataMetrics;
+import ca.solostudios.strata.metrics.StripedMetrics;
+import ca.solostudios.strata.version.Version;
+import org.junit.jupiter.api.Test;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionStoreTest {
+    private static final String[] VERSIONS = {
+            "1.0.0-alpha",
+            "1.0.0-alpha.1",
+            "1.0.0-alpha.beta",
+            "1.0.0-beta",
+            "1.0.0-beta.2",
+            "1.0.0-beta.11",
+            "1.0.0-rc.1",
+            "1.0.0",
+            "1.0.1+build.5",
+            "1.2.0",
+            "1.10.0",
+            "2.0.0-0.3.7",
+            "2.0.0-x.7.z.92",
+            "2.0.0",
+            "9223372036854775807.0.0",
+            "9223372036854775808.0.0",
+            "99999999999999999999999.999999999999999999.99999999999999999",
+            "99999999999999999999999.1.2-rc.1+build.7",
+    };
+
+    @Test
+    void testRoundTrip() {
+        try (VersionStore store = new VersionStore()) {
+            for (String version : VERSIONS)
+                store.add(version);
+
+            assertEquals(VERSIONS.length, store.size());
+            for (int i = 0; i < VERSIONS.length; i++) {
+                assertEquals(VERSIONS[i], store.getFormatted(i));
+                assertEquals(VERSIONS[i], store.appendFormatted(i, new StringBuilder()).toString());
+                assertEquals(parseVersion(VERSIONS[i]), store.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testCompare() {
+        try (VersionStore store = new VersionStore()) {
+            for (String version : VERSIONS)
+                store.add(version);
+
+            for (int i = 0; i < VERSIONS.length; i++) {
+                Version first = parseVersion(VERSIONS[i]);
+                for (int j = 0; j < VERSIONS.length; j++) {
+                    Version second = parseVersion(VERSIONS[j]);
+
+                    assertEquals(Integer.signum(first.compareTo(second)), Integer.signum(store.compare(i, j)),
+                                 String.format("Comparison of '%s' and '%s' differs from Version#compareTo.", VERSIONS[i], VERSIONS[j]));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFlags() {
+        try (VersionStore store = new VersionStore()) {
+            int release = store.add("1.2.3");
+            int preRelease = store.add("1.2.3-rc.1");
+            int build = store.add("1.2.3+exp.sha.5114f85");
+
+            assertFalse(store.isPreRelease(release));
+            assertFalse(store.hasBuildMetadata(release));
+            assertTrue(store.isPreRelease(preRelease));
+            assertFalse(store.hasBuildMetadata(preRelease));
+            assertFalse(store.isPreRelease(build));
+            assertTrue(store.hasBuildMetadata(build));
+        }
+    }
+
+    @Test
+    void testManyPages() {
+        try (VersionStore store = new VersionStore(64)) {
+            for (int i = 0; i < 1000; i++)
+                assertEquals(i, store.add(String.format("%d.%d.%d-alpha.%d", i, i % 7, i % 13, i)));
+            // larger than a single page
+            int large = store.add("123456789012345678901234567890.1.1-a-very-long-pre-release-identifier.and.another.one");
+
+            for (int i = 0; i < 1000; i++)
+                assertEquals(String.format("%d.%d.%d-alpha.%d", i, i % 7, i % 13, i), store.getFormatted(i));
+            assertEquals("123456789012345678901234567890.1.1-a-very-long-pre-release-identifier.and.another.one", store.getFormatted(large));
+            assertTrue(store.compare(large, 999) > 0);
+        }
+    }
+
+    @Test
+    void testNegativeComponents() {
+        try (VersionStore store = new VersionStore()) {
+            Version negative = Versions.getVersion(-1, 1, 1);
+            int index = store.add(negative);
+
+            assertEquals(negative, store.get(index));
+            assertEquals("-1.1.1", store.getFormatted(index));
+        }
+    }
+
+    @Test
+    void testGetDoesNotParse() {
+        try (VersionStore store = new VersionStore()) {
+            for (String version : VERSIONS)
+                store.add(version);
+
+            StripedMetrics metrics = new StripedMetrics();
+            MetricsRegistry.install(metrics);
+            try {
+                for (int i = 0; i < VERSIONS.length; i++)
+                    store.get(i);
+            } finally {
+                MetricsRegistry.uninstall();
+            }
+            assertEquals(0, metrics.getCount(StrataMetrics.Operation.PARSE_VERSION));
+        }
+    }
+
+    @Test
+    void testClosed() {
+        VersionStore store = new VersionStore();
+        store.add("1.2.3");
+        store.close();
+
+        assertThrows(IllegalStateException.class, () -> store.get(0));
+        assertThrows(IllegalStateException.class, () -> store.add("1.2.3"));
+    }
+
+    @Test
+    void testOutOfBounds() {
+        try (VersionStore store = new VersionStore()) {
+            store.add("1.2.3");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(-1));
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionTableTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.collection;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.Version;
+import ca.solostudios.strata.version.VersionRange;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static ca.solostudios.strata.Versions.getVersion;
+import static ca.solostudios.strata.Versions.getVersionRange;
+import static ca.solostudios.strata.Versions.parseVersion;
+import static ca.solostudios.strata.Versions.parseVersionRange;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionTableTest {
+    private static final String[] VERSIONS = {
+            "0.0.1",
+            "0.1.2",
+            "1.0.0-alpha",
+            "1.0.0",
+            "1.2.3",
+            "1.2.4-rc.1+build.5",
+            "1.3.0+exp.sha.5114f85",
+            "2.0.0",
+            "2.0.1-SNAPSHOT",
+            "9223372036854775807.0.0",
+    };
+
+    private static final String[] RANGES = {
+            "(,)",
+            "[1.0.0,2.0.0)",
+            "(1.0.0,2.0.0]",
+            "^1.2.3",
+            "^0.1.2",
+            "1.+",
+            "1.2.+",
+            ">=2.0.0",
+            "<1.2.4",
+            "<=1.2.4",
+            ">9223372036854775807.0.0",
+            ">=9223372036854775807.0.0",
+            "[1.0.0,9223372036854775808.0.0)",
+            "[9223372036854775808.0.0,)",
+    };
+
+    @Test
+    void testRoundTrip() {
+        VersionTable table = newTable();
+
+        assertEquals(VERSIONS.length, table.size());
+        for (int i = 0; i < VERSIONS.length; i++)
+            assertEquals(parseVersion(VERSIONS[i]), table.get(i));
+
+        assertEquals(versions(), table.toList());
+        assertEquals(versions(), table.stream().collect(Collectors.toList()));
+        assertEquals(versions(), table.parallelStream().collect(Collectors.toList()));
+
+        List<Version> iterated = new ArrayList<>();
+        table.forEach(iterated::add);
+        assertEquals(versions(), iterated);
+    }
+
+    @Test
+    void testColumns() {
+        VersionTable table = newTable();
+
+        assertEquals(1, table.getMajor(5));
+        assertEquals(2, table.getMinor(5));
+        assertEquals(4, table.getPatch(5));
+        assertTrue(table.isPreRelease(5));
+        assertFalse(table.isPreRelease(6));
+        assertEquals(Long.MAX_VALUE, table.getMajor(9));
+    }
+
+    @Test
+    void testSelect() {
+        VersionTable table = newTable();
+        List<Version> versions = versions();
+
+        BitSet majors = table.selectMajor(1);
+        BitSet preReleases = table.selectPreReleases();
+        BitSet releases = table.selectReleases();
+        for (int i = 0; i < versions.size(); i++) {
+            Version version = versions.get(i);
+            boolean preRelease = !version.getPreRelease().getIdentifiers().isEmpty();
+
+            assertEquals(version.getMajor().intValue() == 1, majors.get(i));
+            assertEquals(preRelease, preReleases.get(i));
+            assertEquals(!preRelease, releases.get(i));
+        }
+
+        for (String rangeString : RANGES) {
+            VersionRange range = parseVersionRange(rangeString);
+            BitSet selected = table.select(range);
+
+            for (int i = 0; i < versions.size(); i++)
+                assertEquals(range.isSatisfiedBy(versions.get(i)), selected.get(i),
+                             String.format("Selection of '%s' by '%s' differs from VersionRange#isSatisfiedBy.", VERSIONS[i], rangeString));
+        }
+    }
+
+    @Test
+    void testSelectWithBoundsOutsideTheTable() {
+        VersionTable table = new VersionTable();
+        table.add(getVersion(-1, 1, 1));
+        table.add(parseVersion("1.0.0"));
+        table.add(parseVersion("9223372036854775807.0.0"));
+
+        Version huge = getVersion(new BigInteger("100000000000000000000"), BigInteger.ZERO, BigInteger.ZERO);
+        Version hugeNegative = getVersion(huge.getMajor().negate(), BigInteger.ZERO, BigInteger.ZERO);
+        Version hugeMinor = getVersion(BigInteger.ONE, huge.getMajor(), BigInteger.ZERO);
+        List<VersionRange> ranges = Arrays.asList(getVersionRange(getVersion(-1, 0, 0), true, null, false),
+                                                  getVersionRange(null, false, getVersion(-1, 2, 0), false),
+                                                  getVersionRange(hugeNegative, true, null, false),
+                                                  getVersionRange(null, false, huge, false),
+                                                  getVersionRange(getVersion(0, 0, 0), false, hugeMinor, true));
+        for (VersionRange range : ranges) {
+            BitSet selected = table.select(range);
+            for (int i = 0; i < table.size(); i++)
+                assertEquals(range.isSatisfiedBy(table.get(i)), selected.get(i),
+                             String.format("Selection of '%s' by '%s' differs from VersionRange#isSatisfiedBy.", table.get(i), range));
+            assertTrue(selected.cardinality() > 0, range.toString());
+        }
+    }
+
+    @Test
+    void testSplit() {
+        VersionTable table = new VersionTable();
+        for (int i = 0; i < 10_000; i++)
+            table.add(parseVersion(String.format("%d.%d.%d", i / 100, i % 100, i % 7)));
+
+        assertEquals(table.toList(), table.parallelStream().collect(Collectors.toList()));
+        assertEquals(table.stream().filter(version -> version.getMajor().intValue() == 42).count(), table.selectMajor(42).cardinality());
+    }
+
+    @Test
+    void testConcurrentModification() {
+        VersionTable table = new VersionTable();
+        for (String version : VERSIONS)
+            table.add(parseVersion(version));
+
+        assertFalse(table.spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+
+        Iterator<Version> iterator = table.iterator();
+        iterator.next();
+        table.add(parseVersion("3.0.0"));
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        assertThrows(ConcurrentModificationException.class, () -> table.stream().forEach(version -> table.add(version)));
+    }
+
+    @Test
+    void testTooLarge() {
+        VersionTable table = new VersionTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.add(parseVersion("9223372036854775808.0.0")));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    void testAddAllAscii() {
+        String text = String.join("\n", VERSIONS) + "\r\n\n1234567890123.20240101123000.7-beta.2\n";
+        byte[] input = text.getBytes(StandardCharsets.US_ASCII);
+
+        VersionTable table = new VersionTable();
+        assertEquals(VERSIONS.length + 1, table.addAll(input, 0, input.length));
+
+        List<Version> expected = new ArrayList<>(versions());
+        expected.add(parseVersion("1234567890123.20240101123000.7-beta.2"));
+        assertEquals(expected, table.toList());
+        assertTrue(table.isPreRelease(VERSIONS.length));
+    }
+
+    @Test
+    void testAddAllAsciiInvalid() {
+        String[] invalid = { "1.2", "01.2.3", "1.2.3-", "1.2.3-alpha..1", "1.2.3+", "1.2.3 ", "1.2.3_4", "v1.2.3", "1..3", "1.2.3.4" };
+
+        for (String line : invalid) {
+            ParseException expected = assertThrows(ParseException.class, () -> parseVersion(line));
+
+            byte[] input = ("1.0.0\n" + line + "\n2.0.0").getBytes(StandardCharsets.US_ASCII);
+            VersionTable table = new VersionTable();
+            ParseException actual = assertThrows(ParseException.class, () -> table.addAll(input, 0, input.length),
+                                                 String.format("Succeeded adding invalid version '%s'.", line));
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+            assertEquals(1, table.size(), "Versions before the invalid line should have been added.");
+        }
+
+        byte[] tooLarge = "9223372036854775808.0.0".getBytes(StandardCharsets.US_ASCII);
+        assertThrows(IllegalArgumentException.class, () -> new VersionTable().addAll(tooLarge, 0, tooLarge.length));
+    }
+
+    private static VersionTable newTable() {
+        return new VersionTable(versions());
+    }
+
+    private static List<Version> versions() {
+        return Arrays.stream(VERSIONS).map(Versions::parseVersion).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file StripedMetricsTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.metrics;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.metrics.StrataMetrics.Cache;
+import ca.solostudios.strata.metrics.StrataMetrics.Operation;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.VersionRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class StripedMetricsTest {
+    @Test
+    void testParseMetrics() {
+        StripedMetrics metrics = new StripedMetrics();
+        MetricsRegistry.install(metrics);
+        try {
+            Versions.parseVersion("1.2.3");
+            Versions.parseVersion("1.2.3-rc.1+build");
+            Versions.parseVersion("1.2.3", "rc.1", null);
+            assertThrows(ParseException.class, () -> Versions.parseVersion("01.2.3"));
+            assertThrows(ParseException.class, () -> Versions.parseVersion("1.2"));
+            assertThrows(ParseException.class, () -> Versions.parseVersion("1.2.3#"));
+            assertThrows(ParseException.class, () -> Versions.parseVersion("1.2.x"));
+
+            assertEquals(7, metrics.getCount(Operation.PARSE_VERSION));
+            assertEquals(3, metrics.getSuccessCount(Operation.PARSE_VERSION));
+            assertEquals(4, metrics.getFailureCount(Operation.PARSE_VERSION));
+            assertEquals(1, metrics.getFailureCount(Operation.PARSE_VERSION, ParseException.Kind.LEADING_ZERO));
+            assertEquals(1, metrics.getFailureCount(Operation.PARSE_VERSION, ParseException.Kind.UNEXPECTED_END_OF_INPUT));
+            assertEquals(1, metrics.getFailureCount(Operation.PARSE_VERSION, ParseException.Kind.ILLEGAL_CHARACTER));
+            assertEquals(1, metrics.getFailureCount(Operation.PARSE_VERSION, ParseException.Kind.MISSING_IDENTIFIER));
+            assertEquals(7, Arrays.stream(metrics.getLatencyHistogram(Operation.PARSE_VERSION)).sum());
+            assertEquals(0, metrics.getCount(Operation.PARSE_VERSION_RANGE));
+        } finally {
+            MetricsRegistry.uninstall();
+        }
+    }
+
+    @Test
+    void testRangeMetrics() {
+        StripedMetrics metrics = new StripedMetrics();
+        MetricsRegistry.install(metrics);
+        try {
+            VersionRange range = Versions.parseVersionRange("[1.0.0,2.0.0)");
+            assertThrows(ParseException.class, () -> Versions.parseVersionRange("[1.0.0,2.0.0"));
+            assertTrue(range.isSatisfiedBy(Versions.getVersion(1, 5, 0)));
+            assertFalse(range.isSatisfiedBy(Versions.getVersion(2, 0, 0)));
+
+            assertEquals(1, metrics.getSuccessCount(Operation.PARSE_VERSION_RANGE));
+            assertEquals(1, metrics.getFailureCount(Operation.PARSE_VERSION_RANGE));
+            assertEquals(2, metrics.getCount(Operation.IS_SATISFIED_BY));
+            assertEquals(2, Arrays.stream(metrics.getLatencyHistogram(Operation.IS_SATISFIED_BY)).sum());
+        } finally {
+            MetricsRegistry.uninstall();
+        }
+    }
+
+    @Test
+    void testCacheMetrics() {
+        StripedMetrics metrics = new StripedMetrics();
+        assertTrue(Double.isNaN(metrics.getCacheHitRatio(Cache.RELEASE_VERSIONS)));
+
+        Versions.getVersion(7, 8, 9);
+        MetricsRegistry.install(metrics);
+        try {
+            Versions.getVersion(7, 8, 9);
+            Versions.getVersion(7, 8, 9);
+
+            assertEquals(1.0, metrics.getCacheHitRatio(Cache.RELEASE_VERSIONS));
+
+            metrics.reset();
+            assertTrue(Double.isNaN(metrics.getCacheHitRatio(Cache.RELEASE_VERSIONS)));
+        } finally {
+            MetricsRegistry.uninstall();
+        }
+    }
+
+    @Test
+    void testDisabled() {
+        StripedMetrics metrics = new StripedMetrics();
+        MetricsRegistry.install(metrics);
+        MetricsRegistry.uninstall();
+
+        Versions.parseVersion("1.2.3");
+        assertNull(MetricsRegistry.active());
+        assertEquals(0, metrics.getCount(Operation.PARSE_VERSION));
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file VersionParserTest.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -211,4 +211,45 @@ class VersionParserTest {
             assertThrows(ParseException.class, () -> parseVersion(version), String.format("Succeeded parsing of version '%s' with invalid pre-release and build metadata.", version));
         }
     }
+
+    @Test
+    void testParserReuse() {
+        String[] versions = {
+                "1.2.3",
+                "1.0.0-alpha.1+build.5",
+                "1.2.03",
+                "999999999999999999999999999.0.0-rc.1",
+                "1.2.3-a..b",
+                "0.0.0",
+        };
+
+        VersionParser parser = new VersionParser();
+        for (String version : versions) {
+            try {
+                Version expected = new VersionParser(version).parse();
+                Version actual = parser.reset(version).parse();
+                assertEquals(expected, actual, String.format("Reused parser produced a different version for '%s'.", version));
+                assertEquals(expected.getFormatted(), actual.getFormatted());
+            } catch (ParseException expected) {
+                ParseException actual = assertThrows(ParseException.class, () -> parser.reset(version).parse(),
+                                                     String.format("Reused parser succeeded parsing invalid version '%s'.", version));
+                assertEquals(expected.getMessage(), actual.getMessage());
+            }
+        }
+
+        StringBuilder builder = new StringBuilder("4.5.6-beta");
+        assertEquals(parseVersion("4.5.6-beta"), parser.reset(builder).parse());
+    }
+
+    @Test
+    void testErrorKinds() {
+        assertEquals(ParseException.Kind.LEADING_ZERO, assertThrows(ParseException.class, () -> parseVersion("01.0.0")).getKind());
+        assertEquals(ParseException.Kind.LEADING_ZERO, assertThrows(ParseException.class, () -> parseVersion("1.0.0-01")).getKind());
+        assertEquals(ParseException.Kind.MISSING_IDENTIFIER, assertThrows(ParseException.class, () -> parseVersion("a.0.0")).getKind());
+        assertEquals(ParseException.Kind.MISSING_IDENTIFIER, assertThrows(ParseException.class, () -> parseVersion("1.0.0+a..b")).getKind());
+        assertEquals(ParseException.Kind.ILLEGAL_CHARACTER, assertThrows(ParseException.class, () -> parseVersion("1.0.0#")).getKind());
+        assertEquals(ParseException.Kind.ILLEGAL_CHARACTER, assertThrows(ParseException.class, () -> parseVersion("1-0.0")).getKind());
+        assertEquals(ParseException.Kind.UNEXPECTED_END_OF_INPUT, assertThrows(ParseException.class, () -> parseVersion("1.2")).getKind());
+        assertEquals(ParseException.Kind.UNEXPECTED_END_OF_INPUT, assertThrows(ParseException.class, () -> parseVersion("1.0.0+")).getKind());
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionRangeAutomatonTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import ca.solostudios.strata.VersionCorpus;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import ca.solostudios.strata.version.VersionRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionRangeAutomatonTest {
+    private static final String[] VERSION_RANGES = {
+            "(,)",
+            "[,]",
+            "(,4.5.6)",
+            "(,4.5.6]",
+            "(1.2.3,)",
+            "[1.2.3,]",
+            "[1.2.3,4.5.6]",
+            "(1.2.3-alpha+build,4.5.6-rc.1)",
+            "[1.2.3+build.1,4.5.6-rc.1+build.2]",
+            "[1.0.0-0A.is.legal,1.0.0-alpha-a.b-c-somethinglong+build.1-aef.1-its-okay)",
+            "[99999999999999999999999.999999999999999999.99999999999999999,)",
+            "+",
+            "*",
+            "0.1.+",
+            "1.+",
+            "1.2.+",
+            "1.2.3",
+            "0.0.0",
+            "99999999999999999999999.0.+",
+            "<1.2.3",
+            "<=1.2.3",
+            ">1.2.3",
+            ">=1.2.3",
+            ">=1.2.3-rc.1+build",
+            "^0.1.2",
+            "^1.2.3",
+            "^0.0.3",
+            "^1.2.3-beta",
+            "^0.2.3-rc+build",
+            "",
+            "[",
+            "(",
+            "(,",
+            "[1.2.3",
+            "[1.2.3]",
+            "[1.2,]",
+            "[,1.2]",
+            "[1.2.x,2.0.0]",
+            "[1.2.x,2.0.0",
+            "[1.2.3,4.5.6]x",
+            "[1.0.0,2.0.0]]",
+            "[1.2.3,4.5.6",
+            "[1.0.0,2.0.0,3.0.0]",
+            "[1.0.0),2.0.0]",
+            "[1.0.0,,2.0.0]",
+            "[01.2.3,]",
+            "[1.2.3 ,]",
+            "[1.0.0-01,2.0.0]",
+            "[1.0.0-00.a,2.0.0]",
+            "[1.0.0+a.,2.0.0]",
+            "[1.0.0+a..b,2.0.0]",
+            "[1.0.0-,2.0.0]",
+            "[,1.0.0+]",
+            "[,1.0.0+a.)",
+            "(1.2.3,4.5.6)\u0000garbage",
+            "<",
+            "<=",
+            ">==1.2.3",
+            ">=01.2.3",
+            ">=1.2",
+            ">1.2\u0000garbage",
+            ">=1.2.3\u0000garbage",
+            "<1.2.3-01",
+            "<1.2.3-",
+            "^",
+            "^1.2",
+            "^01.2.3",
+            "^1.2.3.4",
+            "^1.2.3+",
+            "++",
+            "+1",
+            "1.2.3-alpha",
+            "01.2.3",
+            "1.02.+",
+            "1.2.03",
+            "1.2.3.4",
+            "1.*",
+            "1.2.+.3",
+            "a.b.c",
+            "1.2.3\u0000",
+            "1.2.3\u0000garbage",
+            "[1.2.3\u0000,]",
+            "[1.2.\u00e9,]",
+            "1.2.\u00e9",
+    };
+
+    private final VersionRangeParser reference = new VersionRangeParser();
+
+    private final VersionRangeAutomaton automaton = new VersionRangeAutomaton();
+
+    @Test
+    void testVersionRanges() {
+        for (String range : VERSION_RANGES)
+            assertMatchesVersionRangeParser(range);
+    }
+
+    @Test
+    void testCorpusRanges() {
+        for (String range : new VersionCorpus(0).ranges(10_000))
+            assertMatchesVersionRangeParser(range);
+        for (String range : new VersionCorpus(1, 1).ranges(10_000))
+            assertMatchesVersionRangeParser(range);
+    }
+
+    @Test
+    void testMutatedRanges() {
+        Random random = new Random(0);
+        String alphabet = "0123.-+aZ[]()<>=^*, \u0000";
+        StringBuilder builder = new StringBuilder();
+        for (String range : new VersionCorpus(2).ranges(20_000)) {
+            builder.setLength(0);
+            builder.append(range);
+
+            int position = random.nextInt(builder.length() + 1);
+            char c = alphabet.charAt(random.nextInt(alphabet.length()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    builder.insert(position, c);
+                    break;
+                case 1:
+                    if (position < builder.length())
+                        builder.deleteCharAt(position);
+                    break;
+                default:
+                    if (position < builder.length())
+                        builder.setCharAt(position, c);
+                    break;
+            }
+
+            assertMatchesVersionRangeParser(builder.toString());
+        }
+    }
+
+    @Test
+    void testRandomStrings() {
+        Random random = new Random(0);
+        String alphabet = "0000111223.....--+abZ[]()<>=^*, \u0000";
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++)
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+
+            assertMatchesVersionRangeParser(builder.toString());
+        }
+    }
+
+    @Test
+    void testReset() throws ParseException {
+        assertEquals(this.reference.reset("[1.0.0,2.0.0)").parse(), this.automaton.reset("[1.0.0,2.0.0)").parse());
+        assertThrows(ParseException.class, () -> this.automaton.reset("[1.0.0-01,2.0.0)").parse());
+        assertEquals(this.reference.reset("^1.2.3-rc.1").parse(), this.automaton.reset("^1.2.3-rc.1").parse());
+    }
+
+    private void assertMatchesVersionRangeParser(String range) {
+        VersionRange expected = null;
+        ParseException expectedException = null;
+        try {
+            expected = this.reference.reset(range).parse();
+        } catch (ParseException e) {
+            expectedException = e;
+        }
+
+        VersionRange actual = null;
+        ParseException actualException = null;
+        try {
+            actual = this.automaton.reset(range).parse();
+        } catch (ParseException e) {
+            actualException = e;
+        }
+
+        if (expectedException == null) {
+            if (actualException != null)
+                fail(String.format("Version range '%s' should be valid, but failed with:%n%s", range, actualException.getMessage()));
+            assertEquals(expected, actual, String.format("Version range '%s' differs from VersionRangeParser.", range));
+            assertEquals(expected.toString(), actual.toString());
+        } else {
+            assertNotNull(actualException, String.format("Version range '%s' should be invalid.", range));
+            assertEquals(expectedException.getPosition().getPos(), actualException.getPosition().getPos(),
+                         String.format("Error position of version range '%s' differs from VersionRangeParser.", range));
+            assertEquals(expectedException.getMessage(), actualException.getMessage(),
+                         String.format("Error message of version range '%s' differs from VersionRangeParser.", range));
+            assertEquals(expectedException.getKind(), actualException.getKind(),
+                         String.format("Error kind of version range '%s' differs from VersionRangeParser.", range));
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file VersionRangeParserTest.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 19-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -321,4 +321,40 @@ class VersionRangeParserTest {
         assertTrue(range.isSatisfiedBy("0.1.9999999999999-BETA"));
         assertFalse(range.isSatisfiedBy("0.2.0-BETA"));
     }
+
+    @Test
+    void testParserReuse() {
+        String[] ranges = {
+                "[1.0.0,2.0.0)",
+                ">=1.2.3-beta",
+                "[1.0.0,1.0.01]",
+                "^0.1.2",
+                "1.2.+",
+                "(,1.0.0-rc..1]",
+                "*",
+        };
+
+        VersionRangeParser parser = new VersionRangeParser();
+        for (String range : ranges) {
+            try {
+                VersionRange expected = new VersionRangeParser(range).parse();
+                assertEquals(expected, parser.reset(range).parse(), String.format("Reused parser produced a different range for '%s'.", range));
+            } catch (ParseException expected) {
+                ParseException actual = assertThrows(ParseException.class, () -> parser.reset(range).parse(),
+                                                     String.format("Reused parser succeeded parsing invalid range '%s'.", range));
+                assertEquals(expected.getMessage(), actual.getMessage());
+            }
+        }
+    }
+
+    @Test
+    void testErrorKinds() {
+        // errors in the versions of a range keep their kind, rather than that of the position they are reported at
+        assertEquals(ParseException.Kind.LEADING_ZERO, assertThrows(ParseException.class, () -> parseVersionRange("[01.0.0,2.0.0)")).getKind());
+        assertEquals(ParseException.Kind.LEADING_ZERO, assertThrows(ParseException.class, () -> parseVersionRange(">=1.0.0-01")).getKind());
+        assertEquals(ParseException.Kind.MISSING_IDENTIFIER, assertThrows(ParseException.class, () -> parseVersionRange("(,1.0.0+a..b]")).getKind());
+        assertEquals(ParseException.Kind.ILLEGAL_CHARACTER, assertThrows(ParseException.class, () -> parseVersionRange("1.2.+.3")).getKind());
+        assertEquals(ParseException.Kind.ILLEGAL_CHARACTER, assertThrows(ParseException.class, () -> parseVersionRange("[1.0.0,2.0.0]x")).getKind());
+        assertEquals(ParseException.Kind.UNEXPECTED_END_OF_INPUT, assertThrows(ParseException.class, () -> parseVersionRange("[1.0.0")).getKind());
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionScannerTest.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionScannerTest {
+    private static final String TEXT = "Upgraded strata from 1.2.3 to v2.0.0-rc.1+build.5. See strata-2.0.0.jar (not 1.2.3.4, 1.2 or 1.2.3-01).\n" +
+                                       "Also: 10.20.30-alpha.beta, 0.0.1; x1.2.3 and 1.2.3x are ignored, but [4.5.6] and 7.8.9- are not.";
+
+    private static final List<String> EXPECTED = Arrays.asList(
+            "1.2.3",
+            "2.0.0-rc.1+build.5",
+            "2.0.0",
+            "10.20.30-alpha.beta",
+            "0.0.1",
+            "4.5.6",
+            "7.8.9"
+    );
+
+    @Test
+    void testCharSequence() {
+        assertFound(EXPECTED, TEXT, new VersionScanner(TEXT));
+    }
+
+    @Test
+    void testByteBuffer() {
+        byte[] bytes = ("\u00e9" + TEXT).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(2); // skip the two byte encoded character
+
+        assertFound(EXPECTED, TEXT, new VersionScanner(buffer));
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    void testReader() {
+        assertFound(EXPECTED, TEXT, new VersionScanner(new StringReader(TEXT)));
+        // one character at a time, to exercise refilling in the middle of versions
+        assertFound(EXPECTED, TEXT, new VersionScanner(new TrickleReader(TEXT)));
+    }
+
+    @Test
+    void testLongInput() {
+        StringBuilder builder = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String version = String.format("%d.%d.%d-%s", i, i % 10, i % 3, String.join(".", Collections.nCopies(i % 5 + 1, "pre")));
+            builder.append("log line ").append(i).append(": resolved ").append(version).append('\n');
+            expected.add(version);
+        }
+        String text = builder.toString();
+
+        assertFound(expected, text, new VersionScanner(text));
+        assertFound(expected, text, new VersionScanner(new StringReader(text)));
+    }
+
+    @Test
+    void testNoMatch() {
+        VersionScanner scanner = new VersionScanner("no versions here, only 1.2 and 1.2.3.4");
+
+        assertFalse(scanner.find());
+        assertThrows(IllegalStateException.class, scanner::start);
+        assertFalse(scanner.find());
+    }
+
+    private static void assertFound(List<String> expected, String text, VersionScanner scanner) {
+        List<String> found = new ArrayList<>();
+        while (scanner.find()) {
+            found.add(scanner.group());
+
+            assertEquals(scanner.group(), text.substring((int) scanner.start(), (int) scanner.end()));
+            assertEquals(scanner.group().length(), scanner.length());
+            assertEquals(parseVersion(scanner.group()), scanner.version());
+        }
+
+        assertEquals(expected, found);
+    }
+
+    private static final class TrickleReader extends Reader {
+        private final String text;
+
+        private int position = 0;
+
+        private TrickleReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (this.position >= this.text.length())
+                return -1;
+            buffer[offset] = this.text.charAt(this.position++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
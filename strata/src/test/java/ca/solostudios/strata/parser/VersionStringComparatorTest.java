@@ -0,0 +1,145 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionStringComparatorTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.junit.jupiter.api.Test;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionStringComparatorTest {
+    private static final String[] VALID_VERSIONS = {
+            "0.0.4",
+            "1.0.0",
+            "1.0.0-0A.is.legal",
+            "1.0.0-alpha",
+            "1.0.0-alpha+001",
+            "1.0.0-alpha.0valid",
+            "1.0.0-alpha.1",
+            "1.0.0-alpha.beta",
+            "1.0.0-alpha.beta.1",
+            "1.0.0-alpha0.valid",
+            "1.0.0-beta",
+            "1.0.0-beta.2",
+            "1.0.0-beta.11",
+            "1.0.0-rc.1",
+            "1.0.0-rc.1+build.1",
+            "1.0.0+0.build.1-rc.10000aaa-kk-0.1",
+            "1.1.7",
+            "1.2.3----RC-SNAPSHOT.12.9.1--.12",
+            "1.2.3----RC-SNAPSHOT.12.9.1--.12+788",
+            "1.2.3----R-S.12.9.1--.12+meta",
+            "1.2.3-SNAPSHOT-123",
+            "1.2.3-beta",
+            "2.0.0",
+            "2.0.0+build.1848",
+            "2.0.0-rc.1+build.123",
+            "2.0.1-alpha.1227",
+            "10.2.3-DEV-SNAPSHOT",
+            "10.20.30",
+            "1.0.0-9",
+            "1.0.0-10",
+            "1.0.0-A",
+            "1.0.0-a",
+            "1.0.0--",
+            "99999999999999999999999.999999999999999999.99999999999999999",
+    };
+
+    private static final String[] INVALID_VERSIONS = {
+            "",
+            "1",
+            "1.2",
+            "1.2.",
+            "01.1.1",
+            "1.01.1",
+            "1.1.01",
+            "1.2. 3",
+            "1.2.3.DEV",
+            "1.2.?",
+            "1._.3",
+            "v1.2.3",
+            "1.2.3-",
+            "1.2.3-0123",
+            "1.2.3-0123.0123",
+            "1.2.3-alpha..1",
+            "1.2.3-alpha.",
+            "1.2.3-alpha_beta",
+            "1.2.3+",
+            "1.2.3+.123",
+            "1.2.3+meta..data",
+            "1.2.3+meta.",
+            "1.2.3-alpha+beta+gamma",
+            "1.2.3+meta_data",
+            "1.2.31.2.3----RC-SNAPSHOT.12.09.1--..12+788",
+    };
+
+    @Test
+    void testComparison() {
+        for (String first : VALID_VERSIONS) {
+            for (String second : VALID_VERSIONS) {
+                int expected = Integer.signum(parseVersion(first).compareTo(parseVersion(second)));
+
+                assertEquals(expected, Integer.signum(Versions.compare(first, second)),
+                             String.format("Comparison of '%s' and '%s' differs from Version#compareTo.", first, second));
+            }
+        }
+    }
+
+    @Test
+    void testComparisonOfCharSequences() {
+        assertTrue(Versions.compare(new StringBuilder("1.2.3-alpha"), new StringBuilder("1.2.3")) < 0);
+        assertEquals(0, Versions.compare(new StringBuilder("1.2.3+a"), "1.2.3+b"));
+    }
+
+    @Test
+    void testInvalidVersions() {
+        for (String invalid : INVALID_VERSIONS) {
+            ParseException expected = assertThrows(ParseException.class, () -> parseVersion(invalid),
+                                                   String.format("Succeeded parsing of invalid version '%s'.", invalid));
+
+            for (String valid : new String[]{ "1.0.0", "1.0.0-alpha", "2.0.0", "0.0.0-0", "1.2.3+meta" }) {
+                ParseException first = assertThrows(ParseException.class, () -> Versions.compare(invalid, valid),
+                                                     String.format("Succeeded comparing invalid version '%s'.", invalid));
+                ParseException second = assertThrows(ParseException.class, () -> Versions.compare(valid, invalid),
+                                                      String.format("Succeeded comparing invalid version '%s'.", invalid));
+
+                assertEquals(expected.getMessage(), first.getMessage());
+                assertEquals(expected.getPosition().getPos(), first.getPosition().getPos());
+                assertEquals(expected.getMessage(), second.getMessage());
+                assertEquals(expected.getPosition().getPos(), second.getPosition().getPos());
+                assertEquals(expected.getKind(), first.getKind());
+                assertEquals(expected.getKind(), second.getKind());
+            }
+        }
+    }
+}
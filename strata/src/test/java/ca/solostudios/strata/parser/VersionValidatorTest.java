@@ -0,0 +1,190 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionValidatorTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionValidatorTest {
+    private static final String[] VERSIONS = {
+            "0.0.4",
+            "1.2.3",
+            "10.20.30",
+            "99999999999999999999999.999999999999999999.99999999999999999",
+            "1.0.0-0A.is.legal",
+            "1.0.0-alpha.0valid",
+            "1.0.0-alpha0.valid",
+            "1.2.3----RC-SNAPSHOT.12.9.1--.12",
+            "1.0.0+0.build.1-rc.10000aaa-kk-0.1",
+            "1.0.0-alpha-a.b-c-somethinglong+build.1-aef.1-its-okay",
+            "1.2.3----RC-SNAPSHOT.12.9.1--.12+788",
+            "1.2.3-01a",
+            "1.2.3\u0000garbage",
+            "",
+            "1",
+            "01.1.1",
+            "1.01.1",
+            "1.1.01",
+            "1.2",
+            "1.2.",
+            "1.2. 3",
+            "1.2.3.DEV",
+            "v1.2.3",
+            "1.0.0-alpha..1",
+            "1.0.0-alpha.",
+            "1.0.0-alpha_beta",
+            "1.2.3-0123",
+            "1.2.3-0123.0123",
+            "1.2.3-01!",
+            "1.2.3-",
+            "1.2.3-+",
+            "1.1.2+.123",
+            "1.1.2+1...123",
+            "1.2.3+b1+b2",
+            "1.2.3+meta.",
+            "1.2.3+meta.+",
+            "1.2.3+",
+            "1.2.3-\u00fc",
+    };
+
+    private static final String[] VERSION_RANGES = {
+            "(,)",
+            "[,]",
+            "(,4.5.6)",
+            "(,4.5.6]",
+            "(1.2.3,)",
+            "[1.2.3,]",
+            "[1.2.3,4.5.6]",
+            "(1.2.3-alpha+build,4.5.6-rc.1)",
+            "+",
+            "*",
+            "0.1.+",
+            "1.+",
+            "1.2.+",
+            "1.2.3",
+            "<1.2.3",
+            "<=1.2.3",
+            ">1.2.3",
+            ">=1.2.3",
+            "^0.1.2",
+            "^1.2.3",
+            "^1.2.3-beta",
+            "",
+            "[",
+            "(,",
+            "[1.2.3",
+            "[1.2.3]",
+            "[1.2,]",
+            "[,1.2]",
+            "[1.2.3,4.5.6]x",
+            "[1.2.3,4.5.6",
+            "[01.2.3,]",
+            "[1.2.3 ,]",
+            "<",
+            "<=",
+            ">=01.2.3",
+            "^",
+            "^1.2",
+            "++",
+            "1.2.3-alpha",
+            "01.2.3",
+            "1.02.+",
+            "1.2.03",
+            "1.*",
+            "1.2.+.3",
+            "a.b.c",
+            "1.2.3\u0000",
+            "[1.2.3\u0000,]",
+    };
+
+    @Test
+    void testVersions() {
+        for (String version : VERSIONS)
+            assertMatchesVersionParser(version);
+    }
+
+    @Test
+    void testVersionRanges() {
+        for (String range : VERSION_RANGES)
+            assertMatchesVersionRangeParser(range);
+    }
+
+    @Test
+    void testRandomStrings() {
+        Random random = new Random(0);
+        String alphabet = "0000111223.....--+abZ[]()<>=^*, \u0000";
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++)
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+
+            assertMatchesVersionParser(builder.toString());
+            assertMatchesVersionRangeParser(builder.toString());
+        }
+    }
+
+    private static void assertMatchesVersionParser(String version) {
+        int expected;
+        try {
+            parseVersion(version);
+            expected = VersionValidator.VALID;
+        } catch (ParseException e) {
+            expected = e.getPosition().getPos();
+        }
+
+        assertEquals(expected, Versions.indexOfVersionError(version),
+                     String.format("Validation of version '%s' differs from VersionParser.", version));
+        assertEquals(expected == VersionValidator.VALID, Versions.isValidVersion(version));
+    }
+
+    private static void assertMatchesVersionRangeParser(String range) {
+        int expected;
+        try {
+            // the range parser the automaton was derived from, rather than the automaton itself
+            new VersionRangeParser(range).parse();
+            expected = VersionValidator.VALID;
+        } catch (ParseException e) {
+            expected = e.getPosition().getPos();
+        }
+
+        assertEquals(expected, Versions.indexOfVersionRangeError(range),
+                     String.format("Validation of version range '%s' differs from VersionRangeParser.", range));
+        assertEquals(expected == VersionValidator.VALID, Versions.isValidVersionRange(range));
+    }
+}
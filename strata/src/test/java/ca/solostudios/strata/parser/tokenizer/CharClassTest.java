@@ -0,0 +1,72 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file CharClassTest.java is part of Strata.
+ * Last modified on 18-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser.tokenizer;
+
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CharClassTest {
+    @Test
+    void testClassification() {
+        for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+            char value = (char) i;
+            boolean digit = value >= '0' && value <= '9';
+            boolean letter = (value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z');
+
+            assertEquals(digit, CharClass.isDigit(value), String.format("Digit classification of U+%04X", i));
+            assertEquals(letter, CharClass.is(value, CharClass.LETTER), String.format("Letter classification of U+%04X", i));
+            assertEquals(digit || letter || value == '-', CharClass.isAlphaNumeric(value),
+                         String.format("Alpha-numeric classification of U+%04X", i));
+            assertEquals(digit || letter || value == '-', new Char(value, 0).isAlphaNumeric());
+        }
+    }
+
+    @Test
+    void testPunctuation() {
+        assertTrue(CharClass.is('[', CharClass.RANGE_START));
+        assertTrue(CharClass.is('(', CharClass.RANGE_START));
+        assertTrue(CharClass.is(']', CharClass.RANGE_END));
+        assertTrue(CharClass.is(')', CharClass.RANGE_END));
+        assertTrue(CharClass.is('<', CharClass.COMPARISON));
+        assertTrue(CharClass.is('>', CharClass.COMPARISON));
+        assertTrue(CharClass.is(',', CharClass.RANGE_SEPARATOR));
+        assertTrue(CharClass.is('*', CharClass.PLUS | CharClass.STAR));
+        assertTrue(CharClass.is('+', CharClass.PLUS | CharClass.STAR));
+        assertFalse(CharClass.is('=', CharClass.COMPARISON));
+        assertFalse(CharClass.is('.', CharClass.ALPHANUMERIC));
+        assertEquals(0, CharClass.of('\0'));
+        assertEquals(0, CharClass.of('\u00e9'));
+
+        assertTrue(new Char('.', 0).hasClass(CharClass.DOT | CharClass.PLUS));
+        assertFalse(new Char('\0', 0).hasClass(~0));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file IdentifiersTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.parser.tokenizer;
+
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class IdentifiersTest {
+    @Test
+    void testCompareNumeric() {
+        Random random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            BigInteger a = new BigInteger(1 + random.nextInt(100), random);
+            BigInteger b = random.nextBoolean() ? a : new BigInteger(1 + random.nextInt(100), random);
+            String first = "x." + a + ".y";
+            String second = b.toString();
+
+            assertEquals(Integer.signum(a.compareTo(b)),
+                         Integer.signum(Identifiers.compareNumeric(first, 2, first.length() - 2, second, 0, second.length())),
+                         String.format("Comparison of %s and %s", a, b));
+        }
+    }
+
+    @Test
+    void testCompareLexically() {
+        String[] identifiers = { "", "-", "0a", "A", "Z", "a", "alpha", "alpha-1", "beta", "rc" };
+        for (String first : identifiers) {
+            for (String second : identifiers) {
+                String padded = "." + second + ".";
+                assertEquals(Integer.signum(first.compareTo(second)),
+                             Integer.signum(Identifiers.compareLexically(first, 0, first.length(), padded, 1, padded.length() - 1)),
+                             String.format("Comparison of '%s' and '%s'", first, second));
+            }
+        }
+    }
+}
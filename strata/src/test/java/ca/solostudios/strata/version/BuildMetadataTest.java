@@ -3,7 +3,7 @@
  * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
  *
  * The file BuildMetadataTest.java is part of Strata.
- * Last modified on 22-08-2024 07:13 p.m.
+ * Last modified on 18-10-2026 10:00 a.m.
  *
  * MIT License
  *
@@ -31,6 +31,8 @@ package ca.solostudios.strata.version;
 
 import org.junit.jupiter.api.Test;
 
+import static ca.solostudios.strata.Versions.parseVersion;
+import static ca.solostudios.strata.Versions.parseVersionLazily;
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -55,4 +57,42 @@ class BuildMetadataTest {
 
         assertEquals("", BuildMetadata.NULL.getFormatted());
     }
+
+    @Test
+    void testIdentifiers() {
+        BuildMetadata[] metadata = {
+                parseVersion("1.0.0+exp.sha.5114f85.0042").getBuildMetadata(),
+                parseVersionLazily("1.0.0+exp.sha.5114f85.0042").getBuildMetadata(),
+                new BuildMetadata("exp.sha.5114f85.0042"),
+        };
+
+        for (BuildMetadata buildMetadata : metadata) {
+            assertEquals(4, buildMetadata.getIdentifierCount());
+            assertEquals("exp", buildMetadata.identifierAt(0).toString());
+            assertEquals("5114f85", buildMetadata.identifierAt(2).toString());
+            assertEquals("0042", buildMetadata.identifierAt(3).toString());
+            assertEquals("114", buildMetadata.identifierAt(2).subSequence(1, 4).toString());
+            assertEquals('f', buildMetadata.identifierAt(2).charAt(4));
+
+            assertFalse(buildMetadata.isNumericIdentifier(2));
+            assertTrue(buildMetadata.isNumericIdentifier(3));
+            assertEquals(42, buildMetadata.numericIdentifierAt(3));
+            assertThrows(NumberFormatException.class, () -> buildMetadata.numericIdentifierAt(2));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> buildMetadata.identifierAt(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> buildMetadata.identifierAt(0).charAt(3));
+        }
+
+        assertEquals(0, BuildMetadata.NULL.getIdentifierCount());
+        assertThrows(NumberFormatException.class, () -> new BuildMetadata("99999999999999999999").numericIdentifierAt(0));
+        assertEquals(Long.MAX_VALUE, new BuildMetadata("9223372036854775807").numericIdentifierAt(0));
+    }
+
+    @Test
+    void testOf() {
+        assertEquals(new BuildMetadata("build.1"), BuildMetadata.of("1.0.0+build.1", 6, 13));
+
+        for (String invalid : new String[]{ "", "build.", ".build", "build..1", "build_1", "build+1" })
+            assertThrows(IllegalArgumentException.class, () -> BuildMetadata.of(invalid, 0, invalid.length()), invalid);
+    }
 }
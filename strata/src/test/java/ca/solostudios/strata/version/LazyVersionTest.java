@@ -0,0 +1,108 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file LazyVersionTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.version;
+
+
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.junit.jupiter.api.Test;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static ca.solostudios.strata.Versions.parseVersionLazily;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class LazyVersionTest {
+    private static final String[] VERSIONS = {
+            "0.0.4",
+            "1.0.0",
+            "1.0.0-0A.is.legal",
+            "1.0.0-alpha+001",
+            "1.0.0-alpha.1",
+            "1.0.0-beta.11",
+            "1.0.0-rc.1+build.1",
+            "1.0.0+0.build.1-rc.10000aaa-kk-0.1",
+            "1.2.3----RC-SNAPSHOT.12.9.1--.12+788",
+            "10.20.30",
+            "1.0.0-10",
+            "99999999999999999999999.999999999999999999.99999999999999999",
+    };
+
+    @Test
+    void testDecoding() {
+        for (String version : VERSIONS) {
+            Version expected = parseVersion(version);
+            Version lazy = parseVersionLazily(version);
+
+            assertSame(version, lazy.getFormatted(), "Lazily parsed versions should format to their source string.");
+            assertEquals(expected.getCoreVersion(), lazy.getCoreVersion());
+            assertEquals(expected.getPreRelease(), lazy.getPreRelease());
+            assertEquals(expected.getBuildMetadata(), lazy.getBuildMetadata());
+            assertEquals(expected.getMajor(), lazy.getMajor());
+        }
+    }
+
+    @Test
+    void testEqualityAndComparison() {
+        for (String first : VERSIONS) {
+            for (String second : VERSIONS) {
+                Version eagerFirst = parseVersion(first);
+                Version eagerSecond = parseVersion(second);
+                int expected = Integer.signum(eagerFirst.compareTo(eagerSecond));
+
+                assertEquals(expected, Integer.signum(parseVersionLazily(first).compareTo(parseVersionLazily(second))));
+                assertEquals(expected, Integer.signum(parseVersionLazily(first).compareTo(eagerSecond)));
+                assertEquals(eagerFirst.equals(eagerSecond), parseVersionLazily(first).equals(parseVersionLazily(second)));
+                assertEquals(eagerFirst.equals(eagerSecond), eagerFirst.equals(parseVersionLazily(second)));
+            }
+
+            assertEquals(parseVersion(first).hashCode(), parseVersionLazily(first).hashCode());
+        }
+    }
+
+    @Test
+    void testNulCharacter() {
+        for (String version : new String[]{ "1.0.0\0x", "1.2.3-rc.1\0", "1.2.3+build\0.1" }) {
+            Version expected = parseVersion(version);
+            Version actual = parseVersionLazily(version);
+
+            assertEquals(expected.getFormatted(), actual.getFormatted());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testInvalidVersions() {
+        for (String invalid : new String[]{ "", "1.2", "01.1.1", "1.2.3-", "1.2.3-a..b", "1.2.3+", "1.2.3+a+b" }) {
+            ParseException expected = assertThrows(ParseException.class, () -> parseVersion(invalid));
+            ParseException actual = assertThrows(ParseException.class, () -> parseVersionLazily(invalid));
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+    }
+}
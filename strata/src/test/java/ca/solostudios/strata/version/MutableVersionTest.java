@@ -0,0 +1,181 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file MutableVersionTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.version;
+
+
+import ca.solostudios.strata.parser.tokenizer.ParseException;
+import org.junit.jupiter.api.Test;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static ca.solostudios.strata.Versions.parseVersionRange;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class MutableVersionTest {
+    private static final String[] VALID_VERSIONS = {
+            "0.0.4",
+            "1.0.0",
+            "1.0.0-0A.is.legal",
+            "1.0.0-alpha",
+            "1.0.0-alpha+001",
+            "1.0.0-alpha.1",
+            "1.0.0-alpha.beta",
+            "1.0.0-beta.2",
+            "1.0.0-beta.11",
+            "1.0.0-rc.1+build.1",
+            "1.0.0+0.build.1-rc.10000aaa-kk-0.1",
+            "1.2.3----RC-SNAPSHOT.12.9.1--.12+788",
+            "2.0.0",
+            "10.20.30",
+            "1.0.0-9",
+            "1.0.0-10",
+            "1.0.0-99999999999999999999999",
+            "9223372036854775807.0.0",
+            "9223372036854775808.0.0",
+            "99999999999999999999999.999999999999999999.99999999999999999",
+    };
+
+    private static final String[] INVALID_VERSIONS = {
+            "",
+            "1.2",
+            "01.1.1",
+            "1.2. 3",
+            "1.2.3-",
+            "1.2.3-0123",
+            "1.2.3-alpha..1",
+            "1.2.3+",
+            "1.2.3+meta..data",
+            "1.2.3+meta.",
+            "1.2.3-alpha+beta+gamma",
+    };
+
+    @Test
+    void testParsing() {
+        MutableVersion holder = new MutableVersion();
+        assertEquals("0.0.0", holder.getFormatted());
+
+        for (String version : VALID_VERSIONS) {
+            Version expected = parseVersion(version);
+
+            assertSame(holder, parseVersion(version, holder));
+            assertEquals(expected, holder.toImmutable(), String.format("Holder for '%s' differs from the parsed version.", version));
+            assertEquals(version, holder.getFormatted());
+            assertEquals(expected.getPreRelease().getIdentifiers().size(), holder.getPreReleaseIdentifierCount());
+            assertEquals(!expected.getBuildMetadata().getFormatted().isEmpty(), holder.hasBuildMetadata());
+        }
+    }
+
+    @Test
+    void testAccessors() {
+        MutableVersion holder = parseVersion("1.22.333-alpha.7+build", new MutableVersion());
+
+        assertEquals(1, holder.getMajor());
+        assertEquals(22, holder.getMinor());
+        assertEquals(333, holder.getPatch());
+        assertTrue(holder.isPreRelease());
+        assertEquals(2, holder.getPreReleaseIdentifierCount());
+        assertEquals(9, holder.getPreReleaseIdentifierStart(0));
+        assertEquals(14, holder.getPreReleaseIdentifierEnd(0));
+        assertFalse(holder.isPreReleaseIdentifierNumeric(0));
+        assertTrue(holder.isPreReleaseIdentifierNumeric(1));
+        assertEquals(17, holder.getBuildMetadataStart());
+        assertThrows(IndexOutOfBoundsException.class, () -> holder.getPreReleaseIdentifierStart(2));
+
+        holder.set("18446744073709551616.0.0");
+        assertThrows(ArithmeticException.class, holder::getMajor);
+        assertEquals(0, holder.getMinor());
+    }
+
+    @Test
+    void testRegion() {
+        String line = "artifact=1.2.3-rc.1;";
+        MutableVersion holder = new MutableVersion().set(line, 9, 19);
+
+        assertEquals(parseVersion("1.2.3-rc.1"), holder.toImmutable());
+        assertEquals(9, holder.getStart());
+        assertEquals(15, holder.getPreReleaseIdentifierStart(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> holder.set(line, 9, 40));
+    }
+
+    @Test
+    void testNulCharacter() {
+        for (String version : new String[]{ "1.2.3\0", "1.2.3\0garbage", "1.2.3-rc.1\0.2", "1.2.3+build\0" }) {
+            MutableVersion holder = new MutableVersion().set(version);
+
+            assertEquals(parseVersion(version), holder.toImmutable());
+            assertEquals(version.indexOf('\0'), holder.getEnd());
+        }
+    }
+
+    @Test
+    void testComparison() {
+        MutableVersion first = new MutableVersion();
+        MutableVersion second = new MutableVersion();
+        for (String a : VALID_VERSIONS) {
+            for (String b : VALID_VERSIONS) {
+                int expected = Integer.signum(parseVersion(a).compareTo(parseVersion(b)));
+
+                first.set(a);
+                second.set(b);
+                assertEquals(expected, Integer.signum(first.compareTo(second)),
+                             String.format("Comparison of '%s' and '%s' differs from Version#compareTo.", a, b));
+                assertEquals(expected, Integer.signum(first.compareTo(parseVersion(b))),
+                             String.format("Comparison of '%s' and '%s' differs from Version#compareTo.", a, b));
+            }
+        }
+    }
+
+    @Test
+    void testRangeMatching() {
+        String[] ranges = { "[1.0.0,2.0.0)", "(1.0.0,10.20.30]", ">=9223372036854775808.0.0", "<1.0.0", "^1.0.0", "1.0.+", "*" };
+
+        MutableVersion holder = new MutableVersion();
+        for (String range : ranges) {
+            VersionRange versionRange = parseVersionRange(range);
+            for (String version : VALID_VERSIONS) {
+                assertEquals(versionRange.isSatisfiedBy(parseVersion(version)), versionRange.isSatisfiedBy(holder.set(version)),
+                             String.format("Range '%s' disagrees on version '%s'.", range, version));
+            }
+        }
+    }
+
+    @Test
+    void testInvalidVersions() {
+        MutableVersion holder = new MutableVersion();
+        for (String invalid : INVALID_VERSIONS) {
+            ParseException expected = assertThrows(ParseException.class, () -> parseVersion(invalid));
+            ParseException actual = assertThrows(ParseException.class, () -> holder.set(invalid),
+                                                 String.format("Succeeded parsing of invalid version '%s'.", invalid));
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+            assertEquals(expected.getPosition().getPos(), actual.getPosition().getPos());
+            assertEquals("0.0.0", holder.getFormatted());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file PreReleaseTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.version;
+
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static ca.solostudios.strata.Versions.parseVersion;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class PreReleaseTest {
+    private static final String[] ORDERED = {
+            "1.0.0-0",
+            "1.0.0-2",
+            "1.0.0-10",
+            "1.0.0-999999999999999999",
+            "1.0.0-9999999999999999999",
+            "1.0.0-99999999999999999999",
+            "1.0.0-100000000000000000000",
+            "1.0.0-SNAPSHOT.1",
+            "1.0.0-alpha",
+            "1.0.0-alpha.1",
+            "1.0.0-alpha.beta",
+            "1.0.0-beta",
+            "1.0.0-beta.2",
+            "1.0.0-beta.11",
+            "1.0.0-rc.1",
+            "1.0.0-rc.1.0",
+            "1.0.0",
+    };
+
+    @Test
+    void testPrecedence() {
+        for (int i = 0; i < ORDERED.length; i++) {
+            for (int j = 0; j < ORDERED.length; j++) {
+                PreRelease first = parseVersion(ORDERED[i]).getPreRelease();
+                PreRelease second = parseVersion(ORDERED[j]).getPreRelease();
+
+                assertEquals(Integer.signum(Integer.compare(i, j)), Integer.signum(first.compareTo(second)),
+                             String.format("Comparing %s to %s", ORDERED[i], ORDERED[j]));
+            }
+        }
+    }
+
+    @Test
+    void testIdentifierListConstructor() {
+        PreRelease fromList = new PreRelease(Arrays.asList(new PreReleaseIdentifier.AlphaNumericalPreReleaseIdentifier("alpha"),
+                                                           new PreReleaseIdentifier.NumericalPreReleaseIdentifier(BigInteger.ONE),
+                                                           new PreReleaseIdentifier.NumericalPreReleaseIdentifier(new BigInteger("99999999999999999999"))));
+        PreRelease parsed = PreRelease.of("alpha.1.99999999999999999999");
+
+        assertEquals(parsed, fromList);
+        assertEquals(parsed.hashCode(), fromList.hashCode());
+        assertEquals(0, parsed.compareTo(fromList));
+        assertEquals("-alpha.1.99999999999999999999", fromList.getFormatted());
+        assertEquals(fromList.getIdentifiers(), parsed.getIdentifiers());
+    }
+
+    @Test
+    void testIdentifiers() {
+        PreRelease preRelease = PreRelease.of("rc.1.99999999999999999999");
+
+        assertEquals(Arrays.asList(new PreReleaseIdentifier.AlphaNumericalPreReleaseIdentifier("rc"),
+                                   new PreReleaseIdentifier.NumericalPreReleaseIdentifier(1),
+                                   new PreReleaseIdentifier.NumericalPreReleaseIdentifier(new BigInteger("99999999999999999999"))),
+                     preRelease.getIdentifiers());
+        assertSame(preRelease.getIdentifiers(), preRelease.getIdentifiers(), "The identifiers should only be created once.");
+        assertTrue(PreRelease.NULL.isEmpty());
+        assertFalse(preRelease.isEmpty());
+    }
+
+    @Test
+    void testCommonPreReleasesAreShared() {
+        for (String common : new String[]{ "alpha", "beta", "rc", "SNAPSHOT" }) {
+            assertSame(PreRelease.of(common), parseVersion("1.0.0-" + common).getPreRelease());
+            assertSame(PreRelease.of(common), parseVersion("1.0.0-" + common + "+build").getPreRelease());
+        }
+
+        PreRelease first = PreRelease.of("beta.1");
+        PreRelease second = PreRelease.of("beta.2");
+        assertSame(first.getIdentifiers().get(0), second.getIdentifiers().get(0));
+    }
+
+    @Test
+    void testNumericIdentifierComparison() {
+        PreReleaseIdentifier small = new PreReleaseIdentifier.NumericalPreReleaseIdentifier(Long.MAX_VALUE);
+        PreReleaseIdentifier large = new PreReleaseIdentifier.NumericalPreReleaseIdentifier(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+
+        assertTrue(small.compareTo(large) < 0);
+        assertTrue(large.compareTo(small) > 0);
+        assertEquals(new PreReleaseIdentifier.NumericalPreReleaseIdentifier(BigInteger.TEN), new PreReleaseIdentifier.NumericalPreReleaseIdentifier(10));
+        assertEquals("9223372036854775808", large.getFormatted());
+    }
+
+    @Test
+    void testEmptyPreRelease() {
+        assertSame(PreRelease.NULL, PreRelease.of(""));
+        assertSame(PreRelease.NULL, PreRelease.of("1.2.3-", 6, 6));
+    }
+
+    @Test
+    void testNegativeNumericIdentifier() {
+        assertThrows(IllegalArgumentException.class, () -> new PreReleaseIdentifier.NumericalPreReleaseIdentifier(-1));
+        assertThrows(IllegalArgumentException.class, () -> new PreReleaseIdentifier.NumericalPreReleaseIdentifier(BigInteger.valueOf(-1)));
+        assertEquals("0", new PreReleaseIdentifier.NumericalPreReleaseIdentifier(0).getFormatted());
+    }
+
+    @Test
+    void testCustomIdentifierComparison() {
+        PreReleaseIdentifier custom = new CustomIdentifier("beta");
+        PreReleaseIdentifier alpha = new PreReleaseIdentifier.AlphaNumericalPreReleaseIdentifier("alpha");
+        PreReleaseIdentifier numeric = new PreReleaseIdentifier.NumericalPreReleaseIdentifier(1);
+
+        assertTrue(custom.compareTo(alpha) > 0);
+        assertTrue(alpha.compareTo(custom) < 0);
+        assertTrue(custom.compareTo(numeric) > 0);
+        assertTrue(numeric.compareTo(custom) < 0);
+        assertEquals(0, custom.compareTo(new PreReleaseIdentifier.AlphaNumericalPreReleaseIdentifier("beta")));
+    }
+
+    @Test
+    void testInvalidPreReleases() {
+        for (String invalid : new String[]{ "alpha.", ".alpha", "alpha..1", "01", "alpha.01", "alpha_1", "alpha+1" })
+            assertThrows(IllegalArgumentException.class, () -> PreRelease.of(invalid), invalid);
+    }
+
+    /**
+     * An identifier implemented outside of the two implementations of this library.
+     */
+    private static final class CustomIdentifier extends PreReleaseIdentifier {
+        private final String value;
+
+        private CustomIdentifier(String value) {
+            this.value = value;
+        }
+
+        @Override
+        protected String asString() {
+            return this.value;
+        }
+
+        @Override
+        protected boolean isNumeric() {
+            return false;
+        }
+    }
+}
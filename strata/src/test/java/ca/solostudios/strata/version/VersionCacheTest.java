@@ -0,0 +1,118 @@
+/*
+ * Strata - A library for parsing and comparing version strings
+ * Copyright (c) 2021-2024 solonovamax <solonovamax@12oclockpoint.com>
+ *
+ * The file VersionCacheTest.java is part of Strata.
+ * Last modified on 19-10-2026 10:00 a.m.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * STRATA IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ca.solostudios.strata.version;
+
+
+import ca.solostudios.strata.Versions;
+import ca.solostudios.strata.metrics.MetricsRegistry;
+import ca.solostudios.strata.metrics.StrataMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class VersionCacheTest {
+    @Test
+    void testComponents() {
+        for (int i = 0; i <= VersionCache.MAX_CACHED_COMPONENT; i++) {
+            assertSame(VersionCache.component(i), VersionCache.component(new BigInteger(Integer.toString(i))));
+            assertSame(VersionCache.component(i), VersionCache.component(Integer.toString(i), 0, Integer.toString(i).length()));
+            assertEquals(BigInteger.valueOf(i + 1), VersionCache.next(VersionCache.component(i)));
+        }
+
+        BigInteger large = new BigInteger("123456789012345678901234567890");
+        assertSame(large, VersionCache.component(large));
+        assertEquals(large, VersionCache.component("v123456789012345678901234567890", 1, 31));
+        assertEquals(BigInteger.valueOf(-1), VersionCache.component(-1));
+        assertEquals(large.add(BigInteger.ONE), VersionCache.next(large));
+        assertThrows(NumberFormatException.class, () -> VersionCache.component("1a", 0, 2));
+    }
+
+    @Test
+    void testCoreVersionsSkipReleaseCache() {
+        AtomicInteger accesses = new AtomicInteger();
+        MetricsRegistry.install(new StrataMetrics() {
+            @Override
+            public void onCacheAccess(@NotNull Cache cache, boolean hit) {
+                accesses.incrementAndGet();
+            }
+        });
+        try {
+            Versions.parseVersion("1.2.3-rc.1+build.5");
+            Versions.parseVersionLazily("1.2.3-rc.1").getCoreVersion();
+            assertEquals(0, accesses.get());
+
+            Versions.getVersion(1, 2, 3);
+            assertEquals(1, accesses.get());
+        } finally {
+            MetricsRegistry.uninstall();
+        }
+    }
+
+    @Test
+    void testSharedReleases() {
+        assertSame(Versions.getVersion(1, 2, 3), Versions.getVersion(1, 2, 3));
+        assertSame(Versions.getVersion(1, 2, 3), Versions.getVersion(BigInteger.ONE, BigInteger.valueOf(2), BigInteger.valueOf(3)));
+        assertSame(Versions.getVersion(255, 255, 255).getMajor(), Versions.parseVersion("255.255.255-rc.1").getMajor());
+        assertSame(Versions.parseVersion("1.2.3").getPatch(), Versions.parseVersionLazily("1.2.3").getPatch());
+
+        assertNotSame(Versions.getVersion(256, 0, 0), Versions.getVersion(256, 0, 0));
+        assertEquals(Versions.getVersion(256, 0, 0), Versions.getVersion(256, 0, 0));
+        assertEquals(Versions.parseVersion("1000.0.0"), Versions.getVersion(1000, 0, 0));
+    }
+
+    @Test
+    void testCollidingReleases() {
+        // every release in range maps to some slot, and a slot holding another version must never be returned for it
+        for (int major = 0; major < 16; major++) {
+            for (int minor = 0; minor < 16; minor++) {
+                for (int patch = 0; patch < 16; patch++) {
+                    Version version = VersionCache.release(major, minor, patch);
+                    assertEquals(BigInteger.valueOf(major), version.getMajor());
+                    assertEquals(BigInteger.valueOf(minor), version.getMinor());
+                    assertEquals(BigInteger.valueOf(patch), version.getPatch());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRangeBoundsAreShared() {
+        VersionRange caret = Versions.parseVersionRange("^1.2.3");
+        VersionRange glob = Versions.parseVersionRange("1.+");
+
+        assertSame(Versions.getVersion(2, 0, 0), caret.getEndVersion());
+        assertSame(Versions.getVersion(1, 0, 0), glob.getStartVersion());
+        assertSame(Versions.getVersion(2, 0, 0), glob.getEndVersion());
+    }
+}